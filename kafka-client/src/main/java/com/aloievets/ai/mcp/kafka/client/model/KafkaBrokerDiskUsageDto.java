@@ -0,0 +1,9 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+/**
+ * Disk usage of one broker over all its log directories. {@code totalBytes} and {@code usableBytes} are -1 when the
+ * broker does not report the capacity of its log directories.
+ */
+public record KafkaBrokerDiskUsageDto(int brokerId, long size, int replicaCount, int logDirCount, long totalBytes,
+                                      long usableBytes) {
+}
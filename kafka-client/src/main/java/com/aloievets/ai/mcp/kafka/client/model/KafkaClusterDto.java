@@ -0,0 +1,6 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.List;
+
+public record KafkaClusterDto(String clusterId, KafkaNodeDto controller, List<KafkaNodeDto> nodes) {
+}
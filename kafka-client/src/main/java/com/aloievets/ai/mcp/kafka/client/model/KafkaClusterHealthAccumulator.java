@@ -0,0 +1,120 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+/**
+ * Aggregates topic descriptions into a {@link KafkaClusterHealthDto} as they arrive, so that only the anomalies are
+ * kept: partition counters, leader counts per broker and the first {@code maxListedPartitions} anomalous partitions of
+ * each kind. Thread-safe, descriptions may be added from AdminClient threads.
+ */
+public class KafkaClusterHealthAccumulator {
+    private static final Comparator<KafkaPartitionHealthDto> PARTITION_ORDER = Comparator
+            .comparing(KafkaPartitionHealthDto::topic)
+            .thenComparingInt(KafkaPartitionHealthDto::partition);
+    private final int brokerCount;
+    private final int maxListedPartitions;
+    private final Map<Integer, Long> leaderCountByBroker = new TreeMap<>();
+    private final NavigableSet<KafkaPartitionHealthDto> underReplicatedPartitions = new TreeSet<>(PARTITION_ORDER);
+    private final NavigableSet<KafkaPartitionHealthDto> offlinePartitions = new TreeSet<>(PARTITION_ORDER);
+    private final NavigableSet<KafkaPartitionHealthDto> eligibleLeaderReplicasPartitions = new TreeSet<>(
+            PARTITION_ORDER);
+    private long partitionCount;
+    private long underReplicatedPartitionCount;
+    private long offlinePartitionCount;
+    private long eligibleLeaderReplicasPartitionCount;
+
+    /**
+     * @param brokers every broker is listed in the leader counts, including brokers that lead no partition
+     */
+    public KafkaClusterHealthAccumulator(final Collection<KafkaNodeDto> brokers, final int maxListedPartitions) {
+        if (maxListedPartitions < 0) {
+            throw new IllegalArgumentException("Max listed partitions must not be negative");
+        }
+        this.brokerCount = brokers.size();
+        this.maxListedPartitions = maxListedPartitions;
+        brokers.forEach(broker -> leaderCountByBroker.put(broker.id(), 0L));
+    }
+
+    public synchronized void add(final TopicDescription description) {
+        if (description.partitions() == null) {
+            return;
+        }
+        for (final TopicPartitionInfo info : description.partitions()) {
+            addPartition(description.name(), info.partition(), info.leader() == null ? -1 : info.leader()
+                    .id(), brokerIds(info.replicas(), Node::id), brokerIds(info.isr(), Node::id),
+                    brokerIds(info.elr(), Node::id));
+        }
+    }
+
+    public synchronized void add(final KafkaTopicDescriptionDto description) {
+        for (final KafkaTopicPartitionInfoDto info : description.partitions()) {
+            addPartition(description.name(), info.partition(), info.partitionLeader()
+                            .id(), brokerIds(info.partitionReplicas(), KafkaNodeDto::id),
+                    brokerIds(info.inSyncReplicas(), KafkaNodeDto::id),
+                    brokerIds(info.eligibleLeaderReplicas(), KafkaNodeDto::id));
+        }
+    }
+
+    public synchronized KafkaClusterHealthDto toHealth(final int topicCount, final int undescribedTopicCount) {
+        return new KafkaClusterHealthDto(brokerCount, topicCount, partitionCount, underReplicatedPartitionCount,
+                offlinePartitionCount, eligibleLeaderReplicasPartitionCount, undescribedTopicCount,
+                new TreeMap<>(leaderCountByBroker), List.copyOf(underReplicatedPartitions),
+                List.copyOf(offlinePartitions), List.copyOf(eligibleLeaderReplicasPartitions));
+    }
+
+    private void addPartition(final String topic, final int partition, final int leader, final List<Integer> replicas,
+            final List<Integer> inSyncReplicas, final List<Integer> eligibleLeaderReplicas) {
+        partitionCount++;
+        final boolean offline = leader < 0;
+        final boolean underReplicated = inSyncReplicas.size() < replicas.size();
+        final boolean withEligibleLeaderReplicas = !eligibleLeaderReplicas.isEmpty();
+        if (!offline) {
+            leaderCountByBroker.merge(leader, 1L, Long::sum);
+        }
+        if (!offline && !underReplicated && !withEligibleLeaderReplicas) {
+            return;
+        }
+
+        final KafkaPartitionHealthDto health = new KafkaPartitionHealthDto(topic, partition, leader, replicas,
+                inSyncReplicas, eligibleLeaderReplicas);
+        if (offline) {
+            offlinePartitionCount++;
+            addListed(offlinePartitions, health);
+        }
+        if (underReplicated) {
+            underReplicatedPartitionCount++;
+            addListed(underReplicatedPartitions, health);
+        }
+        if (withEligibleLeaderReplicas) {
+            eligibleLeaderReplicasPartitionCount++;
+            addListed(eligibleLeaderReplicasPartitions, health);
+        }
+    }
+
+    private void addListed(final NavigableSet<KafkaPartitionHealthDto> listed, final KafkaPartitionHealthDto health) {
+        listed.add(health);
+        if (listed.size() > maxListedPartitions) {
+            listed.pollLast();
+        }
+    }
+
+    private static <T> List<Integer> brokerIds(final List<T> brokers, final ToIntFunction<T> brokerId) {
+        if (brokers == null) {
+            return List.of();
+        }
+        return brokers.stream()
+                .map(broker -> brokerId.applyAsInt(broker))
+                .toList();
+    }
+}
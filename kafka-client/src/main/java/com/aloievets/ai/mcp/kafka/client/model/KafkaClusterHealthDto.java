@@ -0,0 +1,17 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cluster health computed in one pass over the partition metadata. Counts cover all partitions, the partition lists
+ * hold at most {@code maxListedPartitions} entries each, ordered by topic and partition.
+ */
+public record KafkaClusterHealthDto(int brokerCount, int topicCount, long partitionCount,
+                                    long underReplicatedPartitionCount, long offlinePartitionCount,
+                                    long eligibleLeaderReplicasPartitionCount, int undescribedTopicCount,
+                                    Map<Integer, Long> leaderCountByBroker,
+                                    List<KafkaPartitionHealthDto> underReplicatedPartitions,
+                                    List<KafkaPartitionHealthDto> offlinePartitions,
+                                    List<KafkaPartitionHealthDto> eligibleLeaderReplicasPartitions) {
+}
@@ -0,0 +1,8 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+/**
+ * {@code partitionCount} is null when it is unknown, i.e. when counting would take describing every topic.
+ */
+public record KafkaClusterOverviewDto(String clusterId, KafkaNodeDto controller, int brokerCount, int topicCount,
+                                      Long partitionCount) {
+}
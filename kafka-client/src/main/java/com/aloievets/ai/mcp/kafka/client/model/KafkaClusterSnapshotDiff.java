@@ -0,0 +1,152 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Lists the changes between two consecutive {@link KafkaClusterSnapshotDto}s. Partition layouts are compared only for
+ * topics whose description was replaced, descriptions carried over by an incremental refresh are skipped.
+ */
+public final class KafkaClusterSnapshotDiff {
+
+    private KafkaClusterSnapshotDiff() {
+    }
+
+    /**
+     * @param firstCursor cursor of the first change, the following changes are numbered consecutively
+     */
+    public static List<KafkaMetadataChangeDto> diff(final KafkaClusterSnapshotDto previous,
+            final KafkaClusterSnapshotDto current, final long firstCursor) {
+        final ChangeList changes = new ChangeList(current.timestamp(), firstCursor);
+
+        final Map<Integer, KafkaNodeDto> previousNodes = nodesById(previous);
+        final Map<Integer, KafkaNodeDto> currentNodes = nodesById(current);
+        currentNodes.forEach((id, node) -> {
+            if (!previousNodes.containsKey(id)) {
+                changes.add(KafkaMetadataChangeType.BROKER_JOINED, String.valueOf(id), "", address(node));
+            }
+        });
+        previousNodes.forEach((id, node) -> {
+            if (!currentNodes.containsKey(id)) {
+                changes.add(KafkaMetadataChangeType.BROKER_LEFT, String.valueOf(id), address(node), "");
+            }
+        });
+        if (previous.controller()
+                .id() != current.controller()
+                .id()) {
+            changes.add(KafkaMetadataChangeType.CONTROLLER_CHANGED, "controller", String.valueOf(previous.controller()
+                    .id()), String.valueOf(current.controller()
+                    .id()));
+        }
+
+        for (final String topic : current.topicNames()) {
+            final KafkaTopicDescriptionDto description = current.topicDescriptions()
+                    .get(topic);
+            if (!previous.topicNames()
+                    .contains(topic)) {
+                changes.add(KafkaMetadataChangeType.TOPIC_CREATED, topic, "", description == null ? ""
+                        : String.valueOf(description.partitions()
+                        .size()));
+                continue;
+            }
+            final KafkaTopicDescriptionDto previousDescription = previous.topicDescriptions()
+                    .get(topic);
+            if (description != null && previousDescription != null && description != previousDescription) {
+                diffPartitions(topic, previousDescription, description, changes);
+            }
+        }
+        for (final String topic : previous.topicNames()) {
+            if (!current.topicNames()
+                    .contains(topic)) {
+                final KafkaTopicDescriptionDto description = previous.topicDescriptions()
+                        .get(topic);
+                changes.add(KafkaMetadataChangeType.TOPIC_DELETED, topic, description == null ? ""
+                        : String.valueOf(description.partitions()
+                        .size()), "");
+            }
+        }
+
+        return changes.changes;
+    }
+
+    private static void diffPartitions(final String topic, final KafkaTopicDescriptionDto previous,
+            final KafkaTopicDescriptionDto current, final ChangeList changes) {
+        if (previous.partitions()
+                .size() != current.partitions()
+                .size()) {
+            changes.add(KafkaMetadataChangeType.PARTITION_COUNT_CHANGED, topic, String.valueOf(previous.partitions()
+                    .size()), String.valueOf(current.partitions()
+                    .size()));
+        }
+
+        final Map<Integer, KafkaTopicPartitionInfoDto> previousPartitions = new HashMap<>();
+        previous.partitions()
+                .forEach(partition -> previousPartitions.put(partition.partition(), partition));
+        for (final KafkaTopicPartitionInfoDto partition : current.partitions()) {
+            final KafkaTopicPartitionInfoDto previousPartition = previousPartitions.get(partition.partition());
+            if (previousPartition == null) {
+                continue;
+            }
+            final String subject = topic + "-" + partition.partition();
+            if (previousPartition.partitionLeader()
+                    .id() != partition.partitionLeader()
+                    .id()) {
+                changes.add(KafkaMetadataChangeType.LEADER_CHANGED, subject,
+                        String.valueOf(previousPartition.partitionLeader()
+                                .id()), String.valueOf(partition.partitionLeader()
+                                .id()));
+            }
+
+            final Set<Integer> previousIsr = brokerIds(previousPartition.inSyncReplicas());
+            final Set<Integer> currentIsr = brokerIds(partition.inSyncReplicas());
+            if (!currentIsr.containsAll(previousIsr)) {
+                changes.add(KafkaMetadataChangeType.ISR_SHRUNK, subject, previousIsr.toString(),
+                        currentIsr.toString());
+            }
+            if (!previousIsr.containsAll(currentIsr)) {
+                changes.add(KafkaMetadataChangeType.ISR_EXPANDED, subject, previousIsr.toString(),
+                        currentIsr.toString());
+            }
+        }
+    }
+
+    private static Map<Integer, KafkaNodeDto> nodesById(final KafkaClusterSnapshotDto snapshot) {
+        final Map<Integer, KafkaNodeDto> nodes = new TreeMap<>();
+        snapshot.nodes()
+                .forEach(node -> nodes.put(node.id(), node));
+        return nodes;
+    }
+
+    private static Set<Integer> brokerIds(final List<KafkaNodeDto> nodes) {
+        return nodes.stream()
+                .map(KafkaNodeDto::id)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static String address(final KafkaNodeDto node) {
+        return node.host() + ":" + node.port();
+    }
+
+    private static final class ChangeList {
+        private final Instant timestamp;
+        private final List<KafkaMetadataChangeDto> changes = new ArrayList<>();
+        private long nextCursor;
+
+        private ChangeList(final Instant timestamp, final long firstCursor) {
+            this.timestamp = timestamp;
+            this.nextCursor = firstCursor;
+        }
+
+        private void add(final KafkaMetadataChangeType type, final String subject, final String before,
+                final String after) {
+            changes.add(new KafkaMetadataChangeDto(nextCursor++, timestamp, type, subject, before, after));
+        }
+    }
+}
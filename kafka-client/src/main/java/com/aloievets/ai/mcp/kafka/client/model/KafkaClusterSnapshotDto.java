@@ -0,0 +1,79 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable point-in-time view of the cluster metadata: nodes, controller, topic names and partition layouts.
+ *
+ * @param staleTopics topics that failed to be described and whose description was carried over from an earlier
+ *                    snapshot
+ */
+public record KafkaClusterSnapshotDto(Instant timestamp, String clusterId, KafkaNodeDto controller,
+                                      List<KafkaNodeDto> nodes, Set<String> topicNames,
+                                      Map<String, KafkaTopicDescriptionDto> topicDescriptions,
+                                      Set<String> staleTopics) {
+
+    public KafkaClusterSnapshotDto {
+        nodes = List.copyOf(nodes);
+        topicNames = Collections.unmodifiableSortedSet(new TreeSet<>(topicNames));
+        topicDescriptions = Collections.unmodifiableSortedMap(new TreeMap<>(topicDescriptions));
+        staleTopics = Collections.unmodifiableSortedSet(new TreeSet<>(staleTopics));
+    }
+
+    public KafkaClusterSnapshotDto(final Instant timestamp, final String clusterId, final KafkaNodeDto controller,
+            final List<KafkaNodeDto> nodes, final Set<String> topicNames,
+            final Map<String, KafkaTopicDescriptionDto> topicDescriptions) {
+        this(timestamp, clusterId, controller, nodes, topicNames, topicDescriptions, Set.of());
+    }
+
+    public KafkaClusterOverviewDto toOverview() {
+        final long partitionCount = topicDescriptions.values()
+                .stream()
+                .mapToLong(description -> description.partitions()
+                        .size())
+                .sum();
+        return new KafkaClusterOverviewDto(clusterId, controller, nodes.size(), topicNames.size(), partitionCount);
+    }
+
+    /**
+     * Topics in {@link #topicNames()} without a description, e.g. because describing them failed, are counted as
+     * undescribed.
+     */
+    public KafkaClusterHealthDto toHealth(final int maxListedPartitions) {
+        final KafkaClusterHealthAccumulator accumulator = new KafkaClusterHealthAccumulator(nodes,
+                maxListedPartitions);
+        topicDescriptions.values()
+                .forEach(accumulator::add);
+        return accumulator.toHealth(topicNames.size(), topicNames.size() - topicDescriptions.size());
+    }
+
+    /**
+     * @return descriptions of the requested topics in request order, or empty if any of them is not in the snapshot
+     */
+    public Optional<List<KafkaTopicDescriptionDto>> findTopicDescriptions(final Collection<String> requestedTopics) {
+        if (requestedTopics == null) {
+            return Optional.empty();
+        }
+
+        final Set<String> distinctTopics = new LinkedHashSet<>(requestedTopics);
+        final List<KafkaTopicDescriptionDto> descriptions = new ArrayList<>(distinctTopics.size());
+        for (final String topic : distinctTopics) {
+            final KafkaTopicDescriptionDto description = topicDescriptions.get(topic);
+            if (description == null) {
+                return Optional.empty();
+            }
+            descriptions.add(description);
+        }
+        return Optional.of(descriptions);
+    }
+}
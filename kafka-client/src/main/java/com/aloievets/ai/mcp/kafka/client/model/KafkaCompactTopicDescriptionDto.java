@@ -0,0 +1,91 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * Columnar form of {@link KafkaTopicDescriptionDto}: element {@code i} of every array describes partition
+ * {@code partitions[i]}, brokers are referenced by id from {@link KafkaCompactTopicDescriptionsDto#nodes()} and a
+ * partition without a leader has leader {@code -1}.
+ */
+public record KafkaCompactTopicDescriptionDto(String name, boolean internal, String topicId, int[] partitions,
+                                              int[] leaders, int[][] replicas, int[][] inSyncReplicas,
+                                              int[][] eligibleLeaderReplicas,
+                                              int[][] lastKnownEligibleLeaderReplicas) {
+
+    public static KafkaCompactTopicDescriptionDto fromTopicDescription(final KafkaTopicDescriptionDto description) {
+        final List<KafkaTopicPartitionInfoDto> partitionInfos = description.partitions();
+        final int size = partitionInfos.size();
+        final int[] partitions = new int[size];
+        final int[] leaders = new int[size];
+        for (int i = 0; i < size; i++) {
+            final KafkaTopicPartitionInfoDto partitionInfo = partitionInfos.get(i);
+            partitions[i] = partitionInfo.partition();
+            leaders[i] = partitionInfo.partitionLeader()
+                    .id();
+        }
+
+        return new KafkaCompactTopicDescriptionDto(description.name(), description.internal(),
+                description.topicId(), partitions, leaders,
+                toBrokerIds(partitionInfos, KafkaTopicPartitionInfoDto::partitionReplicas),
+                toBrokerIds(partitionInfos, KafkaTopicPartitionInfoDto::inSyncReplicas),
+                toBrokerIds(partitionInfos, KafkaTopicPartitionInfoDto::eligibleLeaderReplicas),
+                toBrokerIds(partitionInfos, KafkaTopicPartitionInfoDto::lastKnownEligibleLeaderReplicas));
+    }
+
+    private static int[][] toBrokerIds(final List<KafkaTopicPartitionInfoDto> partitionInfos,
+            final Function<KafkaTopicPartitionInfoDto, List<KafkaNodeDto>> nodesExtractor) {
+        final int[][] brokerIds = new int[partitionInfos.size()][];
+        for (int i = 0; i < brokerIds.length; i++) {
+            brokerIds[i] = nodesExtractor.apply(partitionInfos.get(i))
+                    .stream()
+                    .mapToInt(KafkaNodeDto::id)
+                    .toArray();
+        }
+        return brokerIds;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final KafkaCompactTopicDescriptionDto that = (KafkaCompactTopicDescriptionDto) o;
+        return internal == that.internal && Objects.equals(name, that.name) && Objects.equals(topicId, that.topicId)
+                && Arrays.equals(partitions, that.partitions) && Arrays.equals(leaders, that.leaders)
+                && Arrays.deepEquals(replicas, that.replicas) && Arrays.deepEquals(inSyncReplicas, that.inSyncReplicas)
+                && Arrays.deepEquals(eligibleLeaderReplicas, that.eligibleLeaderReplicas)
+                && Arrays.deepEquals(lastKnownEligibleLeaderReplicas, that.lastKnownEligibleLeaderReplicas);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(name, internal, topicId);
+        result = 31 * result + Arrays.hashCode(partitions);
+        result = 31 * result + Arrays.hashCode(leaders);
+        result = 31 * result + Arrays.deepHashCode(replicas);
+        result = 31 * result + Arrays.deepHashCode(inSyncReplicas);
+        result = 31 * result + Arrays.deepHashCode(eligibleLeaderReplicas);
+        result = 31 * result + Arrays.deepHashCode(lastKnownEligibleLeaderReplicas);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", KafkaCompactTopicDescriptionDto.class.getSimpleName() + "[", "]")
+                .add("name='" + name + "'")
+                .add("internal=" + internal)
+                .add("topicId='" + topicId + "'")
+                .add("partitions=" + Arrays.toString(partitions))
+                .add("leaders=" + Arrays.toString(leaders))
+                .add("replicas=" + Arrays.deepToString(replicas))
+                .add("inSyncReplicas=" + Arrays.deepToString(inSyncReplicas))
+                .add("eligibleLeaderReplicas=" + Arrays.deepToString(eligibleLeaderReplicas))
+                .add("lastKnownEligibleLeaderReplicas=" + Arrays.deepToString(lastKnownEligibleLeaderReplicas))
+                .toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact representation of a set of topic descriptions: every broker appears once in {@code nodes} and topics refer
+ * to it by id only, instead of repeating the full node for every replica of every partition.
+ */
+public record KafkaCompactTopicDescriptionsDto(List<KafkaNodeDto> nodes,
+                                               List<KafkaCompactTopicDescriptionDto> topics) {
+
+    public static KafkaCompactTopicDescriptionsDto fromTopicDescriptions(
+            final Collection<KafkaTopicDescriptionDto> descriptions) {
+        final Map<Integer, KafkaNodeDto> nodesById = new TreeMap<>();
+        for (final KafkaTopicDescriptionDto description : descriptions) {
+            for (final KafkaTopicPartitionInfoDto partition : description.partitions()) {
+                addNode(nodesById, partition.partitionLeader());
+                partition.partitionReplicas()
+                        .forEach(node -> addNode(nodesById, node));
+                partition.inSyncReplicas()
+                        .forEach(node -> addNode(nodesById, node));
+                partition.eligibleLeaderReplicas()
+                        .forEach(node -> addNode(nodesById, node));
+                partition.lastKnownEligibleLeaderReplicas()
+                        .forEach(node -> addNode(nodesById, node));
+            }
+        }
+
+        final List<KafkaCompactTopicDescriptionDto> topics = descriptions.stream()
+                .map(KafkaCompactTopicDescriptionDto::fromTopicDescription)
+                .toList();
+        return new KafkaCompactTopicDescriptionsDto(List.copyOf(nodesById.values()), topics);
+    }
+
+    private static void addNode(final Map<Integer, KafkaNodeDto> nodesById, final KafkaNodeDto node) {
+        if (node.id() >= 0) {
+            nodesById.putIfAbsent(node.id(), node);
+        }
+    }
+}
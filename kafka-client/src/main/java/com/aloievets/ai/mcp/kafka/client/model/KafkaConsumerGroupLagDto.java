@@ -0,0 +1,4 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+public record KafkaConsumerGroupLagDto(String groupId, long lag, int topicCount, int partitionCount) {
+}
@@ -0,0 +1,5 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+public record KafkaConsumerGroupTopicLagDto(String groupId, String topic, long lag, long maxPartitionLag,
+                                            int partitionCount) {
+}
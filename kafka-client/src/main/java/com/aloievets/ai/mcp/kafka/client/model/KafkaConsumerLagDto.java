@@ -0,0 +1,84 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Consumer lag of all groups. {@code totalLag} covers every group, the group and group topic lists hold the
+ * {@code topN} entries with the highest lag. Partitions whose end offset could not be read are not included in the
+ * lag and counted in {@code failedPartitionCount}.
+ */
+public record KafkaConsumerLagDto(int groupCount, long totalLag, List<KafkaConsumerGroupLagDto> groups,
+                                  List<KafkaConsumerGroupTopicLagDto> topics, int failedGroupCount,
+                                  List<String> failedGroups, int failedPartitionCount) {
+    private static final Comparator<KafkaConsumerGroupLagDto> GROUP_ORDER = Comparator
+            .comparingLong(KafkaConsumerGroupLagDto::lag)
+            .reversed()
+            .thenComparing(KafkaConsumerGroupLagDto::groupId);
+    private static final Comparator<KafkaConsumerGroupTopicLagDto> TOPIC_ORDER = Comparator
+            .comparingLong(KafkaConsumerGroupTopicLagDto::lag)
+            .reversed()
+            .thenComparing(KafkaConsumerGroupTopicLagDto::groupId)
+            .thenComparing(KafkaConsumerGroupTopicLagDto::topic);
+
+    /**
+     * @param committedOffsets committed offset per partition for every group whose offsets could be read
+     * @param endOffsets       latest offset per partition
+     */
+    public static KafkaConsumerLagDto fromOffsets(final int groupCount,
+            final Map<String, Map<TopicPartition, Long>> committedOffsets, final Map<TopicPartition, Long> endOffsets,
+            final Collection<String> failedGroups, final int failedPartitionCount, final int topN) {
+        final List<KafkaConsumerGroupLagDto> groups = new ArrayList<>(committedOffsets.size());
+        final List<KafkaConsumerGroupTopicLagDto> topics = new ArrayList<>();
+        long totalLag = 0;
+
+        for (final Map.Entry<String, Map<TopicPartition, Long>> group : committedOffsets.entrySet()) {
+            // topic -> {lag, max partition lag, partition count}
+            final Map<String, long[]> topicLags = new TreeMap<>();
+            for (final Map.Entry<TopicPartition, Long> committed : group.getValue()
+                    .entrySet()) {
+                final Long endOffset = endOffsets.get(committed.getKey());
+                if (endOffset == null) {
+                    continue;
+                }
+                final long partitionLag = Math.max(0, endOffset - committed.getValue());
+                final long[] topicLag = topicLags.computeIfAbsent(committed.getKey()
+                        .topic(), topic -> new long[3]);
+                topicLag[0] += partitionLag;
+                topicLag[1] = Math.max(topicLag[1], partitionLag);
+                topicLag[2]++;
+            }
+
+            long groupLag = 0;
+            int groupPartitions = 0;
+            for (final Map.Entry<String, long[]> topicLag : topicLags.entrySet()) {
+                final long[] lag = topicLag.getValue();
+                topics.add(new KafkaConsumerGroupTopicLagDto(group.getKey(), topicLag.getKey(), lag[0], lag[1],
+                        (int) lag[2]));
+                groupLag += lag[0];
+                groupPartitions += (int) lag[2];
+            }
+            groups.add(new KafkaConsumerGroupLagDto(group.getKey(), groupLag, topicLags.size(), groupPartitions));
+            totalLag += groupLag;
+        }
+
+        return new KafkaConsumerLagDto(groupCount, totalLag, top(groups, GROUP_ORDER, topN),
+                top(topics, TOPIC_ORDER, topN), failedGroups.size(), failedGroups.stream()
+                .sorted()
+                .limit(topN)
+                .toList(), failedPartitionCount);
+    }
+
+    private static <T> List<T> top(final List<T> entries, final Comparator<T> order, final int topN) {
+        return entries.stream()
+                .sorted(order)
+                .limit(topN)
+                .toList();
+    }
+}
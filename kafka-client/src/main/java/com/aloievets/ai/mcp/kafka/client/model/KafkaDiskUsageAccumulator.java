@@ -0,0 +1,160 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Aggregates the log directories of each broker into a {@link KafkaDiskUsageDto} as soon as the broker answers, so the
+ * per-replica maps are dropped right away: only per-topic totals and the {@code topN} largest broker topics, log
+ * directories and most lagging future replicas are kept. Thread-safe, brokers may be added from AdminClient threads.
+ */
+public class KafkaDiskUsageAccumulator {
+    private static final Comparator<KafkaBrokerDiskUsageDto> BROKER_ORDER = Comparator
+            .comparingLong(KafkaBrokerDiskUsageDto::size)
+            .reversed()
+            .thenComparingInt(KafkaBrokerDiskUsageDto::brokerId);
+    private static final Comparator<KafkaTopicDiskUsageDto> TOPIC_ORDER = Comparator
+            .comparingLong(KafkaTopicDiskUsageDto::size)
+            .reversed()
+            .thenComparing(KafkaTopicDiskUsageDto::topic);
+    private static final Comparator<KafkaBrokerTopicDiskUsageDto> BROKER_TOPIC_ORDER = Comparator
+            .comparingLong(KafkaBrokerTopicDiskUsageDto::size)
+            .reversed()
+            .thenComparingInt(KafkaBrokerTopicDiskUsageDto::brokerId)
+            .thenComparing(KafkaBrokerTopicDiskUsageDto::topic);
+    private static final Comparator<KafkaLogDirDiskUsageDto> LOG_DIR_ORDER = Comparator
+            .comparingLong(KafkaLogDirDiskUsageDto::size)
+            .reversed()
+            .thenComparingInt(KafkaLogDirDiskUsageDto::brokerId)
+            .thenComparing(KafkaLogDirDiskUsageDto::path);
+    private static final Comparator<KafkaFutureReplicaDto> FUTURE_REPLICA_ORDER = Comparator
+            .comparingLong(KafkaFutureReplicaDto::offsetLag)
+            .reversed()
+            .thenComparingInt(KafkaFutureReplicaDto::brokerId)
+            .thenComparing(KafkaFutureReplicaDto::topic)
+            .thenComparingInt(KafkaFutureReplicaDto::partition);
+    private final int topN;
+    private final List<KafkaBrokerDiskUsageDto> brokers = new ArrayList<>();
+    // topic -> {size, replica count}
+    private final Map<String, long[]> topics = new HashMap<>();
+    private final NavigableSet<KafkaBrokerTopicDiskUsageDto> brokerTopics = new TreeSet<>(BROKER_TOPIC_ORDER);
+    private final NavigableSet<KafkaLogDirDiskUsageDto> logDirs = new TreeSet<>(LOG_DIR_ORDER);
+    private final NavigableSet<KafkaFutureReplicaDto> futureReplicas = new TreeSet<>(FUTURE_REPLICA_ORDER);
+    private final Map<String, String> failedLogDirs = new TreeMap<>();
+    private long totalSize;
+    private long replicaCount;
+    private int futureReplicaCount;
+    private long futureReplicaOffsetLag;
+
+    public KafkaDiskUsageAccumulator(final int topN) {
+        if (topN < 0) {
+            throw new IllegalArgumentException("Top N must not be negative");
+        }
+        this.topN = topN;
+    }
+
+    public synchronized void add(final int brokerId, final Map<String, LogDirDescription> brokerLogDirs) {
+        // topic -> {size, replica count} on this broker
+        final Map<String, long[]> brokerTopicSizes = new HashMap<>();
+        long brokerSize = 0;
+        int brokerReplicaCount = 0;
+        long brokerTotalBytes = -1;
+        long brokerUsableBytes = -1;
+
+        for (final Map.Entry<String, LogDirDescription> logDir : brokerLogDirs.entrySet()) {
+            final LogDirDescription description = logDir.getValue();
+            if (description.error() != null) {
+                failedLogDirs.put(brokerId + ":" + logDir.getKey(), description.error()
+                        .getClass()
+                        .getSimpleName() + ": " + description.error()
+                        .getMessage());
+                continue;
+            }
+
+            long logDirSize = 0;
+            int logDirReplicaCount = 0;
+            for (final Map.Entry<TopicPartition, ReplicaInfo> replica : description.replicaInfos()
+                    .entrySet()) {
+                final ReplicaInfo info = replica.getValue();
+                final long[] brokerTopic = brokerTopicSizes.computeIfAbsent(replica.getKey()
+                        .topic(), topic -> new long[2]);
+                brokerTopic[0] += info.size();
+                logDirSize += info.size();
+                if (info.isFuture()) {
+                    futureReplicaCount++;
+                    futureReplicaOffsetLag += info.offsetLag();
+                    addListed(futureReplicas, new KafkaFutureReplicaDto(brokerId, logDir.getKey(), replica.getKey()
+                            .topic(), replica.getKey()
+                            .partition(), info.size(), info.offsetLag()));
+                } else {
+                    brokerTopic[1]++;
+                    logDirReplicaCount++;
+                }
+            }
+
+            final long totalBytes = description.totalBytes()
+                    .orElse(-1);
+            final long usableBytes = description.usableBytes()
+                    .orElse(-1);
+            addListed(logDirs, new KafkaLogDirDiskUsageDto(brokerId, logDir.getKey(), logDirSize, logDirReplicaCount,
+                    totalBytes, usableBytes));
+            brokerSize += logDirSize;
+            brokerReplicaCount += logDirReplicaCount;
+            brokerTotalBytes = addKnown(brokerTotalBytes, totalBytes);
+            brokerUsableBytes = addKnown(brokerUsableBytes, usableBytes);
+        }
+
+        brokerTopicSizes.forEach((topic, size) -> {
+            final long[] topicSize = topics.computeIfAbsent(topic, name -> new long[2]);
+            topicSize[0] += size[0];
+            topicSize[1] += size[1];
+            addListed(brokerTopics, new KafkaBrokerTopicDiskUsageDto(brokerId, topic, size[0], (int) size[1]));
+        });
+        brokers.add(new KafkaBrokerDiskUsageDto(brokerId, brokerSize, brokerReplicaCount, brokerLogDirs.size(),
+                brokerTotalBytes, brokerUsableBytes));
+        totalSize += brokerSize;
+        replicaCount += brokerReplicaCount;
+    }
+
+    public synchronized KafkaDiskUsageDto toDiskUsage(final int brokerCount, final Map<Integer, String> failedBrokers) {
+        final List<KafkaTopicDiskUsageDto> topTopics = topics.entrySet()
+                .stream()
+                .map(topic -> new KafkaTopicDiskUsageDto(topic.getKey(), topic.getValue()[0],
+                        (int) topic.getValue()[1]))
+                .sorted(TOPIC_ORDER)
+                .limit(topN)
+                .toList();
+        final List<KafkaBrokerDiskUsageDto> topBrokers = brokers.stream()
+                .sorted(BROKER_ORDER)
+                .limit(topN)
+                .toList();
+
+        return new KafkaDiskUsageDto(brokerCount, totalSize, replicaCount, topBrokers, topTopics,
+                List.copyOf(brokerTopics), List.copyOf(logDirs), futureReplicaCount, futureReplicaOffsetLag,
+                List.copyOf(futureReplicas), new TreeMap<>(failedBrokers), new TreeMap<>(failedLogDirs));
+    }
+
+    private <T> void addListed(final NavigableSet<T> listed, final T entry) {
+        listed.add(entry);
+        if (listed.size() > topN) {
+            listed.pollLast();
+        }
+    }
+
+    private static long addKnown(final long total, final long bytes) {
+        if (bytes < 0) {
+            return total;
+        }
+        return total < 0 ? bytes : total + bytes;
+    }
+}
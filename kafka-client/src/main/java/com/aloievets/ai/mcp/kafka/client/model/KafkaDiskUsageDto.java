@@ -0,0 +1,19 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Disk usage of the cluster aggregated from the log directories of every broker. Totals and counts cover all
+ * replicas, the lists hold the {@code topN} largest entries, and the future replicas with the highest offset lag.
+ * Sizes include future replicas, replica counts do not. Brokers that did not answer are listed in
+ * {@code failedBrokers}, log directories reporting an error in {@code failedLogDirs} keyed by
+ * {@code <brokerId>:<path>}.
+ */
+public record KafkaDiskUsageDto(int brokerCount, long totalSize, long replicaCount,
+                                List<KafkaBrokerDiskUsageDto> brokers, List<KafkaTopicDiskUsageDto> topics,
+                                List<KafkaBrokerTopicDiskUsageDto> brokerTopics, List<KafkaLogDirDiskUsageDto> logDirs,
+                                int futureReplicaCount, long futureReplicaOffsetLag,
+                                List<KafkaFutureReplicaDto> futureReplicas, Map<Integer, String> failedBrokers,
+                                Map<String, String> failedLogDirs) {
+}
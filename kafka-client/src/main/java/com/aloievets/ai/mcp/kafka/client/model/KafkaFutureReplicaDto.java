@@ -0,0 +1,9 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+/**
+ * A future replica, the copy of a partition being moved to {@code logDir} of the broker, and how far it is behind the
+ * current replica.
+ */
+public record KafkaFutureReplicaDto(int brokerId, String logDir, String topic, int partition, long size,
+                                    long offsetLag) {
+}
@@ -0,0 +1,9 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+/**
+ * Disk usage of one broker log directory. {@code totalBytes} and {@code usableBytes} are -1 when the broker does not
+ * report them.
+ */
+public record KafkaLogDirDiskUsageDto(int brokerId, String path, long size, int replicaCount, long totalBytes,
+                                      long usableBytes) {
+}
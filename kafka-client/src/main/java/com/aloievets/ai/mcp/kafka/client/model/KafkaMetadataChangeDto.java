@@ -0,0 +1,11 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.time.Instant;
+
+/**
+ * One change between two consecutive cluster snapshots. {@code subject} is the broker id, the topic name or
+ * {@code <topic>-<partition>}, {@code before} and {@code after} are empty when the subject did not exist on that side.
+ */
+public record KafkaMetadataChangeDto(long cursor, Instant timestamp, KafkaMetadataChangeType type, String subject,
+                                     String before, String after) {
+}
@@ -0,0 +1,13 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+public enum KafkaMetadataChangeType {
+    BROKER_JOINED,
+    BROKER_LEFT,
+    CONTROLLER_CHANGED,
+    TOPIC_CREATED,
+    TOPIC_DELETED,
+    PARTITION_COUNT_CHANGED,
+    LEADER_CHANGED,
+    ISR_SHRUNK,
+    ISR_EXPANDED
+}
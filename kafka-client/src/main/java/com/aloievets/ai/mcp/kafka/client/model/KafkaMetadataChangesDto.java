@@ -0,0 +1,12 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.List;
+
+/**
+ * A page of the metadata change feed. Pass {@code nextCursor} to get the following changes. {@code complete} is false
+ * when changes after the requested position were already evicted from the feed, or the cursor is of an earlier feed,
+ * e.g. from before a restart.
+ */
+public record KafkaMetadataChangesDto(List<KafkaMetadataChangeDto> changes, String nextCursor, boolean hasMore,
+                                      boolean complete) {
+}
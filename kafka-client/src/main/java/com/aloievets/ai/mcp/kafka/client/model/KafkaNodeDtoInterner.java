@@ -0,0 +1,26 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.common.Node;
+
+/**
+ * Maps every broker to exactly one {@link KafkaNodeDto} instance. A partition references its brokers as leader,
+ * replicas, ISR and ELR, so sharing one interner across a whole describe call replaces millions of identical node
+ * records with one record per broker.
+ */
+public class KafkaNodeDtoInterner {
+    private final Map<Node, KafkaNodeDto> nodes = new ConcurrentHashMap<>();
+
+    public KafkaNodeDto intern(final Node kafkaNode) {
+        if (kafkaNode == null) {
+            return KafkaNodeDto.fromKafkaNode(null);
+        }
+        return nodes.computeIfAbsent(kafkaNode, KafkaNodeDto::fromKafkaNode);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+}
@@ -0,0 +1,10 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.List;
+
+/**
+ * A partition reported by the cluster health summary, brokers are referenced by id only.
+ */
+public record KafkaPartitionHealthDto(String topic, int partition, int leader, List<Integer> replicas,
+                                      List<Integer> inSyncReplicas, List<Integer> eligibleLeaderReplicas) {
+}
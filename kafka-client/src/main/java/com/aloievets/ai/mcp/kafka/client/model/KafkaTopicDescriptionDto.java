@@ -9,13 +9,18 @@ public record KafkaTopicDescriptionDto(String name, boolean internal, List<Kafka
                                        String topicId) {
 
     public static KafkaTopicDescriptionDto fromKafkaTopicDescription(final TopicDescription desc) {
+        return fromKafkaTopicDescription(desc, new KafkaNodeDtoInterner());
+    }
+
+    public static KafkaTopicDescriptionDto fromKafkaTopicDescription(final TopicDescription desc,
+            final KafkaNodeDtoInterner nodeInterner) {
         final List<KafkaTopicPartitionInfoDto> topicPartitions;
         if (desc.partitions() == null) {
             topicPartitions = Collections.emptyList();
         } else {
             topicPartitions = desc.partitions()
                     .stream()
-                    .map(KafkaTopicPartitionInfoDto::fromTopicPartitionInfo)
+                    .map(partition -> KafkaTopicPartitionInfoDto.fromTopicPartitionInfo(partition, nodeInterner))
                     .toList();
         }
 
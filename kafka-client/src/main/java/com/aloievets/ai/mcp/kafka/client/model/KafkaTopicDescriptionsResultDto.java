@@ -0,0 +1,12 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batched topics description: the topics that could be described plus the reason for every topic that
+ * could not.
+ */
+public record KafkaTopicDescriptionsResultDto(List<KafkaTopicDescriptionDto> topicDescriptions,
+                                              Map<String, String> failedTopics) {
+}
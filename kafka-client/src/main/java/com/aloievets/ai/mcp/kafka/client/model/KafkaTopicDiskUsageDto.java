@@ -0,0 +1,4 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+public record KafkaTopicDiskUsageDto(String topic, long size, int replicaCount) {
+}
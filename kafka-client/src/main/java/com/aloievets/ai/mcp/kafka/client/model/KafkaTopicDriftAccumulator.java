@@ -0,0 +1,126 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+/**
+ * Compares live topics with their {@link KafkaTopicSpecDto} as they are described and keeps only the differences:
+ * drift counters and the first {@code maxListed} drifts in topic order. Thread-safe, topics may be added from
+ * AdminClient threads.
+ */
+public class KafkaTopicDriftAccumulator {
+    private static final Comparator<KafkaTopicDriftDto> DRIFT_ORDER = Comparator
+            .comparing(KafkaTopicDriftDto::topic)
+            .thenComparing(KafkaTopicDriftDto::kind)
+            .thenComparing(KafkaTopicDriftDto::property);
+    private final int maxListed;
+    private final NavigableSet<KafkaTopicDriftDto> drifts = new TreeSet<>(DRIFT_ORDER);
+    private int comparedTopicCount;
+    private int driftedTopicCount;
+    private long driftCount;
+
+    public KafkaTopicDriftAccumulator(final int maxListed) {
+        if (maxListed < 0) {
+            throw new IllegalArgumentException("Max listed entries must not be negative");
+        }
+        this.maxListed = maxListed;
+    }
+
+    public synchronized void add(final KafkaTopicSpecDto spec, final TopicDescription description,
+            final Config config) {
+        final List<KafkaTopicDriftDto> topicDrifts = new ArrayList<>();
+        final String topic = description.name();
+
+        if (spec.partitions() != null && spec.partitions() != description.partitions()
+                .size()) {
+            topicDrifts.add(new KafkaTopicDriftDto(topic, KafkaTopicDriftKind.PARTITION_COUNT, "partitions",
+                    String.valueOf(spec.partitions()), String.valueOf(description.partitions()
+                    .size())));
+        }
+        if (spec.replicationFactor() != null) {
+            final NavigableSet<Integer> replicationFactors = description.partitions()
+                    .stream()
+                    .map(TopicPartitionInfo::replicas)
+                    .map(List::size)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            if (!replicationFactors.equals(new TreeSet<>(List.of(spec.replicationFactor())))) {
+                topicDrifts.add(new KafkaTopicDriftDto(topic, KafkaTopicDriftKind.REPLICATION_FACTOR,
+                        "replicationFactor", String.valueOf(spec.replicationFactor()), join(replicationFactors)));
+            }
+        }
+
+        final Map<String, ConfigEntry> liveConfigs = new HashMap<>();
+        config.entries()
+                .forEach(entry -> liveConfigs.put(entry.name(), entry));
+        spec.configs()
+                .forEach((name, expected) -> {
+                    final ConfigEntry live = liveConfigs.get(name);
+                    final String actual = live == null || live.value() == null ? "" : live.value();
+                    if (!Objects.equals(expected, actual)) {
+                        topicDrifts.add(new KafkaTopicDriftDto(topic, KafkaTopicDriftKind.CONFIG_VALUE, name,
+                                expected, actual));
+                    }
+                });
+        liveConfigs.values()
+                .stream()
+                .filter(entry -> entry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG)
+                .filter(entry -> !spec.configs()
+                        .containsKey(entry.name()))
+                .forEach(entry -> topicDrifts.add(new KafkaTopicDriftDto(topic, KafkaTopicDriftKind.UNDECLARED_CONFIG,
+                        entry.name(), "", entry.value() == null ? "" : entry.value())));
+
+        comparedTopicCount++;
+        if (topicDrifts.isEmpty()) {
+            return;
+        }
+        driftedTopicCount++;
+        driftCount += topicDrifts.size();
+        for (final KafkaTopicDriftDto drift : topicDrifts) {
+            drifts.add(drift);
+            if (drifts.size() > maxListed) {
+                drifts.pollLast();
+            }
+        }
+    }
+
+    public synchronized KafkaTopicDriftReportDto toReport(final int declaredTopicCount, final int liveTopicCount,
+            final Collection<String> missingTopics, final Collection<String> undeclaredTopics,
+            final Map<String, String> failedTopics) {
+        final Map<String, String> listedFailedTopics = new TreeMap<>();
+        new TreeMap<>(failedTopics).entrySet()
+                .stream()
+                .limit(maxListed)
+                .forEach(failure -> listedFailedTopics.put(failure.getKey(), failure.getValue()));
+
+        return new KafkaTopicDriftReportDto(declaredTopicCount, liveTopicCount, comparedTopicCount, driftedTopicCount,
+                driftCount, List.copyOf(drifts), missingTopics.size(), firstListed(missingTopics),
+                undeclaredTopics.size(), firstListed(undeclaredTopics), failedTopics.size(), listedFailedTopics);
+    }
+
+    private List<String> firstListed(final Collection<String> topics) {
+        return topics.stream()
+                .sorted()
+                .limit(maxListed)
+                .toList();
+    }
+
+    private static String join(final Collection<Integer> values) {
+        return values.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,9 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+/**
+ * One difference between the declared and the live state of a topic. {@code property} is the config name for config
+ * drifts, {@code partitions} or {@code replicationFactor} otherwise.
+ */
+public record KafkaTopicDriftDto(String topic, KafkaTopicDriftKind kind, String property, String expected,
+                                 String actual) {
+}
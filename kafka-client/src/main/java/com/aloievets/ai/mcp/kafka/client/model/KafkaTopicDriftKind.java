@@ -0,0 +1,14 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+public enum KafkaTopicDriftKind {
+    PARTITION_COUNT,
+    REPLICATION_FACTOR,
+    /**
+     * A declared config differs from the live value, the actual value is empty when the topic does not report it.
+     */
+    CONFIG_VALUE,
+    /**
+     * A config overridden on the live topic but not declared, the expected value is empty.
+     */
+    UNDECLARED_CONFIG
+}
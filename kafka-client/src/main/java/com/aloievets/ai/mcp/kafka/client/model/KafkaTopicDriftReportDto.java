@@ -0,0 +1,16 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Differences between the topics declared in the terraform configuration and the live cluster. Counts cover every
+ * topic, the lists hold the first {@code maxListed} entries in topic order. Topics that exist on both sides but could
+ * not be described are reported in {@code failedTopics}.
+ */
+public record KafkaTopicDriftReportDto(int declaredTopicCount, int liveTopicCount, int comparedTopicCount,
+                                       int driftedTopicCount, long driftCount, List<KafkaTopicDriftDto> drifts,
+                                       int missingTopicCount, List<String> missingTopics, int undeclaredTopicCount,
+                                       List<String> undeclaredTopics, int failedTopicCount,
+                                       Map<String, String> failedTopics) {
+}
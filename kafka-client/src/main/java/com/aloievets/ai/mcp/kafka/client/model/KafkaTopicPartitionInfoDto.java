@@ -1,7 +1,5 @@
 package com.aloievets.ai.mcp.kafka.client.model;
 
-import static com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto.fromKafkaNode;
-
 import java.util.Collections;
 import java.util.List;
 
@@ -14,21 +12,27 @@ public record KafkaTopicPartitionInfoDto(int partition, KafkaNodeDto partitionLe
                                          List<KafkaNodeDto> lastKnownEligibleLeaderReplicas) {
 
     public static KafkaTopicPartitionInfoDto fromTopicPartitionInfo(final TopicPartitionInfo info) {
+        return fromTopicPartitionInfo(info, new KafkaNodeDtoInterner());
+    }
+
+    public static KafkaTopicPartitionInfoDto fromTopicPartitionInfo(final TopicPartitionInfo info,
+            final KafkaNodeDtoInterner nodeInterner) {
         return new KafkaTopicPartitionInfoDto(info.partition(),
-                fromKafkaNode(info.leader()),
-                toKafkaNodeDtoList(info.replicas()),
-                toKafkaNodeDtoList(info.isr()),
-                toKafkaNodeDtoList(info.elr()),
-                toKafkaNodeDtoList(info.lastKnownElr()));
+                nodeInterner.intern(info.leader()),
+                toKafkaNodeDtoList(info.replicas(), nodeInterner),
+                toKafkaNodeDtoList(info.isr(), nodeInterner),
+                toKafkaNodeDtoList(info.elr(), nodeInterner),
+                toKafkaNodeDtoList(info.lastKnownElr(), nodeInterner));
     }
 
-    private static List<KafkaNodeDto> toKafkaNodeDtoList(final List<Node> nodes) {
+    private static List<KafkaNodeDto> toKafkaNodeDtoList(final List<Node> nodes,
+            final KafkaNodeDtoInterner nodeInterner) {
         if (nodes == null) {
             return Collections.emptyList();
         }
 
         return nodes.stream()
-                .map(KafkaNodeDto::fromKafkaNode)
+                .map(nodeInterner::intern)
                 .toList();
     }
 }
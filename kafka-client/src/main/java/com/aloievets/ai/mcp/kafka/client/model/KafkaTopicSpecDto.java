@@ -0,0 +1,11 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import java.util.Map;
+
+/**
+ * Desired state of a topic as declared in the terraform configuration. {@code partitions} and
+ * {@code replicationFactor} are null when not declared, {@code configs} holds the declared config overrides only.
+ */
+public record KafkaTopicSpecDto(String name, Integer partitions, Integer replicationFactor,
+                                Map<String, String> configs) {
+}
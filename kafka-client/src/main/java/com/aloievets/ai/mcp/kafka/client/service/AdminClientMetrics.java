@@ -0,0 +1,57 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.common.errors.AuthorizationException;
+
+/**
+ * Receives latency, outcome and result size of the AdminClient requests issued by {@link KafkaStatusViewer}.
+ * {@link #NOOP} is used when no metrics are configured, {@link MicrometerAdminClientMetrics} publishes them to a
+ * Micrometer {@code MeterRegistry}, an optional dependency of this module.
+ */
+public interface AdminClientMetrics {
+    AdminClientMetrics NOOP = new AdminClientMetrics() {
+        @Override
+        public void recordRequest(final String operation, final long durationNanos, final Outcome outcome) {
+        }
+
+        @Override
+        public void recordResultSize(final String operation, final String unit, final long size) {
+        }
+    };
+
+    /**
+     * @param operation     AdminClient method name, e.g. {@code describeTopics}
+     * @param durationNanos time until the caller got the outcome, including retries, hedged requests and waiting for
+     *                      an identical request already in flight
+     */
+    void recordRequest(String operation, long durationNanos, Outcome outcome);
+
+    /**
+     * @param unit what was counted in the result, e.g. {@code topics} or {@code partitions}
+     */
+    void recordResultSize(String operation, String unit, long size);
+
+    enum Outcome {
+        SUCCESS,
+        TIMEOUT,
+        AUTHORIZATION,
+        OTHER;
+
+        /**
+         * @param error the unwrapped failure cause, {@code null} on success
+         */
+        public static Outcome of(final Throwable error) {
+            if (error == null) {
+                return SUCCESS;
+            }
+            if (error instanceof TimeoutException || error instanceof org.apache.kafka.common.errors.TimeoutException) {
+                return TIMEOUT;
+            }
+            if (error instanceof AuthorizationException) {
+                return AUTHORIZATION;
+            }
+            return OTHER;
+        }
+    }
+}
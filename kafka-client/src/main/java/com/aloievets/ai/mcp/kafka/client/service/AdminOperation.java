@@ -0,0 +1,11 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+/**
+ * AdminClient operations a {@link ResiliencePolicy} can be configured for.
+ */
+public enum AdminOperation {
+    DESCRIBE_CLUSTER,
+    LIST_TOPICS,
+    DESCRIBE_TOPICS,
+    LIST_CONSUMER_GROUPS
+}
@@ -0,0 +1,95 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lets concurrent identical AdminClient requests share one in-flight {@link KafkaFuture}. A request is identified by
+ * its operation name and normalized arguments; the entry is dropped as soon as the future completes, so results are
+ * never served from here after the broker answered.
+ * <p>
+ * A request is joined only while it is younger than {@code maxAgeMs}, the callers' timeout: the AdminClient may keep a
+ * hanging request open much longer than the callers wait for it, and later callers must not join a request that has
+ * already timed out for the earlier ones. An older entry is replaced by a new request.
+ */
+class InFlightRequestCoalescer {
+    private static final Logger LOG = LoggerFactory.getLogger(InFlightRequestCoalescer.class);
+    private final ConcurrentMap<RequestKey, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+    private final long maxAgeNanos;
+
+    InFlightRequestCoalescer(final long maxAgeMs) {
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+    }
+
+    /**
+     * Only a placeholder future is installed while the map entry is locked; the request is issued afterwards, so a
+     * slow or blocking {@code request} does not hold up callers of other keys hashing to the same bin. The caller that
+     * issues the request gets the AdminClient future, callers joining it get the placeholder completed from it.
+     */
+    @SuppressWarnings("unchecked")
+    <T> KafkaFuture<T> coalesce(final RequestKey key, final Supplier<KafkaFuture<T>> request) {
+        final KafkaFutureImpl<T> placeholder = new KafkaFutureImpl<>();
+        final InFlightRequest[] issued = new InFlightRequest[1];
+        final InFlightRequest inFlightRequest = inFlightRequests.compute(key, (k, existing) -> {
+            final long nowNanos = System.nanoTime();
+            if (existing != null && nowNanos - existing.issuedAtNanos() < maxAgeNanos) {
+                return existing;
+            }
+            if (existing != null) {
+                LOG.warn("In-flight request {} is not answered within the timeout, issuing a new one", k);
+            }
+            issued[0] = new InFlightRequest(placeholder, nowNanos);
+            return issued[0];
+        });
+
+        if (issued[0] == null) {
+            LOG.debug("Joining in-flight request {}", key);
+            return (KafkaFuture<T>) inFlightRequest.future();
+        }
+
+        placeholder.whenComplete((value, error) -> inFlightRequests.remove(key, inFlightRequest));
+        final KafkaFuture<T> future;
+        try {
+            future = request.get();
+        } catch (final RuntimeException e) {
+            placeholder.completeExceptionally(e);
+            throw e;
+        }
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                placeholder.complete(value);
+            } else {
+                placeholder.completeExceptionally(error);
+            }
+        });
+        return future;
+    }
+
+    int inFlightCount() {
+        return inFlightRequests.size();
+    }
+
+    private record InFlightRequest(KafkaFuture<?> future, long issuedAtNanos) {
+    }
+
+    record RequestKey(String operation, List<String> arguments) {
+
+        static RequestKey of(final String operation) {
+            return new RequestKey(operation, List.of());
+        }
+
+        static RequestKey of(final String operation, final Collection<String> arguments) {
+            return new RequestKey(operation, List.copyOf(new TreeSet<>(arguments)));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterSnapshotDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionsResultDto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds {@link KafkaClusterSnapshotDto}s. An incremental refresh re-reads the cluster and topic names but
+ * describes only the topics that are not in the previous snapshot yet; a full refresh re-describes every topic.
+ */
+public class KafkaClusterSnapshotRefresher {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaClusterSnapshotRefresher.class);
+    private final KafkaStatusViewer kafkaStatusViewer;
+
+    public KafkaClusterSnapshotRefresher(final KafkaStatusViewer kafkaStatusViewer) {
+        this.kafkaStatusViewer = kafkaStatusViewer;
+    }
+
+    public CompletableFuture<KafkaClusterSnapshotDto> refreshAsync(final KafkaClusterSnapshotDto previous,
+            final boolean fullRefresh) {
+        final CompletableFuture<KafkaClusterDto> cluster = kafkaStatusViewer.describeClusterAsync();
+
+        return kafkaStatusViewer.listTopicsAsync()
+                .thenCompose(topicNames -> {
+                    final Map<String, KafkaTopicDescriptionDto> previousDescriptions = previous == null
+                            ? Map.of()
+                            : previous.topicDescriptions();
+                    final Set<String> topicsToDescribe = new TreeSet<>();
+                    final Map<String, KafkaTopicDescriptionDto> descriptions = new HashMap<>();
+                    for (final String topic : topicNames) {
+                        final KafkaTopicDescriptionDto previousDescription = previousDescriptions.get(topic);
+                        if (fullRefresh || previousDescription == null) {
+                            topicsToDescribe.add(topic);
+                        } else {
+                            descriptions.put(topic, previousDescription);
+                        }
+                    }
+                    LOG.debug("Refreshing cluster snapshot, full refresh: {}, topics to describe: {}", fullRefresh,
+                            topicsToDescribe.size());
+
+                    final CompletableFuture<KafkaTopicDescriptionsResultDto> described = topicsToDescribe.isEmpty()
+                            ? CompletableFuture.completedFuture(new KafkaTopicDescriptionsResultDto(List.of(), Map.of()))
+                            : kafkaStatusViewer.describeTopicsInBatchesAsync(topicsToDescribe);
+
+                    return CompletableFuture.allOf(cluster, described)
+                            .thenApply(ignored -> {
+                                final KafkaTopicDescriptionsResultDto result = described.join();
+                                result.topicDescriptions()
+                                        .forEach(description -> descriptions.put(description.name(), description));
+                                // keep the last known layout of topics that failed to refresh
+                                final Set<String> staleTopics = new TreeSet<>();
+                                result.failedTopics()
+                                        .keySet()
+                                        .forEach(topic -> {
+                                            final KafkaTopicDescriptionDto previousDescription =
+                                                    previousDescriptions.get(topic);
+                                            if (previousDescription != null) {
+                                                descriptions.put(topic, previousDescription);
+                                                staleTopics.add(topic);
+                                            }
+                                        });
+                                final KafkaClusterDto clusterDto = cluster.join();
+                                return new KafkaClusterSnapshotDto(Instant.now(), clusterDto.clusterId(),
+                                        clusterDto.controller(), clusterDto.nodes(), topicNames, descriptions,
+                                        staleTopics);
+                            });
+                });
+    }
+}
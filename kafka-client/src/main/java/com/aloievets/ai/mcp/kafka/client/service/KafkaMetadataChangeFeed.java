@@ -0,0 +1,106 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterSnapshotDiff;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterSnapshotDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangesDto;
+
+/**
+ * Keeps the last {@code capacity} changes between consecutive cluster snapshots in a ring buffer. Every change gets a
+ * cursor one higher than the previous one, so readers can page through the feed without missing or repeating changes.
+ * The cursors handed out to readers, {@code <epoch>/<cursor>}, also carry the start of the feed: the feed is kept in
+ * memory and its cursors restart from 0 with the process, so a cursor of an earlier feed is detected and answered with
+ * an incomplete page rather than resumed at an unrelated position.
+ */
+public class KafkaMetadataChangeFeed {
+    private static final char CURSOR_SEPARATOR = '/';
+    private final int capacity;
+    private final Instant epoch;
+    private final Deque<KafkaMetadataChangeDto> changes;
+    private long lastCursor;
+    private long evictedUpToCursor;
+    private Instant evictedUpToTimestamp = Instant.EPOCH;
+
+    /**
+     * @param epoch start of the feed, distinguishes its cursors from those of earlier feeds
+     */
+    public KafkaMetadataChangeFeed(final int capacity, final Instant epoch) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Change feed capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.epoch = epoch;
+        this.changes = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Appends the changes from {@code previous} to {@code current}, evicting the oldest changes beyond the capacity.
+     */
+    public synchronized void record(final KafkaClusterSnapshotDto previous, final KafkaClusterSnapshotDto current) {
+        for (final KafkaMetadataChangeDto change : KafkaClusterSnapshotDiff.diff(previous, current, lastCursor + 1)) {
+            if (changes.size() == capacity) {
+                final KafkaMetadataChangeDto evicted = changes.removeFirst();
+                evictedUpToCursor = evicted.cursor();
+                evictedUpToTimestamp = evicted.timestamp();
+            }
+            changes.addLast(change);
+            lastCursor = change.cursor();
+        }
+    }
+
+    /**
+     * @param afterCursor {@code nextCursor} of a previous page, only later changes are returned; {@code null} or blank
+     *                    to start at the oldest kept change. A cursor of an earlier feed, e.g. from before a restart,
+     *                    starts at the oldest kept change as well and the page is reported incomplete
+     * @param since       only changes recorded at or after this time are returned, may be null
+     * @throws IllegalArgumentException if {@code afterCursor} is not a cursor of this class
+     */
+    public synchronized KafkaMetadataChangesDto changesAfter(final String afterCursor, final Instant since,
+            final int limit) {
+        long requestedCursor = 0;
+        boolean sameFeed = true;
+        if (afterCursor != null && !afterCursor.isBlank()) {
+            final int separator = afterCursor.lastIndexOf(CURSOR_SEPARATOR);
+            try {
+                sameFeed = epoch.equals(Instant.parse(afterCursor.substring(0, Math.max(separator, 0))));
+                requestedCursor = Long.parseLong(afterCursor.substring(separator + 1));
+            } catch (final DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException(String.format("Invalid cursor '%s', pass the nextCursor of the "
+                        + "previous answer", afterCursor));
+            }
+        }
+        final boolean known = sameFeed && requestedCursor <= lastCursor;
+        final long startCursor = known ? Math.max(requestedCursor, 0) : 0;
+        final boolean complete = known && (startCursor >= evictedUpToCursor
+                || since != null && evictedUpToTimestamp.isBefore(since));
+
+        final List<KafkaMetadataChangeDto> page = new ArrayList<>(Math.min(limit, changes.size()));
+        long nextCursor = startCursor;
+        boolean hasMore = false;
+        for (final KafkaMetadataChangeDto change : changes) {
+            if (change.cursor() <= startCursor || since != null && change.timestamp()
+                    .isBefore(since)) {
+                continue;
+            }
+            if (page.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            page.add(change);
+            nextCursor = change.cursor();
+        }
+        if (!hasMore) {
+            nextCursor = lastCursor;
+        }
+
+        return new KafkaMetadataChangesDto(page, epoch.toString() + CURSOR_SEPARATOR + nextCursor, hasMore,
+                complete);
+    }
+}
@@ -1,53 +1,139 @@
 package com.aloievets.ai.mcp.kafka.client.service;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterHealthAccumulator;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterHealthDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterOverviewDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaConsumerLagDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaDiskUsageAccumulator;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaDiskUsageDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDtoInterner;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionsResultDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftAccumulator;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftReportDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicSpecDto;
+import com.aloievets.ai.mcp.kafka.client.service.InFlightRequestCoalescer.RequestKey;
 import com.aloievets.ai.mcp.kafka.client.service.exceptions.KafkaClientException;
 import com.aloievets.ai.mcp.kafka.client.service.exceptions.KafkaClientTimeoutException;
 import com.aloievets.ai.mcp.kafka.client.service.exceptions.TopicsNotExistException;
 
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsSpec;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.TopicAuthorizationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class KafkaStatusViewer {
+    public static final int DEFAULT_DESCRIBE_TOPICS_BATCH_SIZE = 500;
+    public static final int DEFAULT_DESCRIBE_TOPICS_CONCURRENCY = 4;
     private static final Logger LOG = LoggerFactory.getLogger(KafkaStatusViewer.class);
     private static final String GENERIC_ERROR_TEMPLATE = "Failed to %s";
     private static final String TOPICS_NOT_EXIST_ERROR_TEMPLATE = "Failed to connect to the following topics: %s";
     private final AdminClient kafkaAdminClient;
     private final long timeoutMs;
+    private final int describeTopicsBatchSize;
+    private final int describeTopicsConcurrency;
+    private final InFlightRequestCoalescer requestCoalescer;
+    private final ResilientRequestExecutor requestExecutor;
+    private final AdminClientMetrics metrics;
 
     public KafkaStatusViewer(final AdminClient kafkaAdminClient, final long timeoutMs) {
+        this(kafkaAdminClient, timeoutMs, DEFAULT_DESCRIBE_TOPICS_BATCH_SIZE, DEFAULT_DESCRIBE_TOPICS_CONCURRENCY);
+    }
+
+    public KafkaStatusViewer(final AdminClient kafkaAdminClient, final long timeoutMs,
+            final int describeTopicsBatchSize, final int describeTopicsConcurrency) {
+        this(kafkaAdminClient, timeoutMs, describeTopicsBatchSize, describeTopicsConcurrency, Map.of());
+    }
+
+    /**
+     * @param resiliencePolicies retry and hedging per operation, operations without a policy are attempted once
+     */
+    public KafkaStatusViewer(final AdminClient kafkaAdminClient, final long timeoutMs,
+            final int describeTopicsBatchSize, final int describeTopicsConcurrency,
+            final Map<AdminOperation, ResiliencePolicy> resiliencePolicies) {
+        this(kafkaAdminClient, timeoutMs, describeTopicsBatchSize, describeTopicsConcurrency, resiliencePolicies,
+                AdminClientMetrics.NOOP);
+    }
+
+    /**
+     * @param metrics receives latency, outcome and result size of every AdminClient request
+     */
+    public KafkaStatusViewer(final AdminClient kafkaAdminClient, final long timeoutMs,
+            final int describeTopicsBatchSize, final int describeTopicsConcurrency,
+            final Map<AdminOperation, ResiliencePolicy> resiliencePolicies, final AdminClientMetrics metrics) {
+        if (describeTopicsBatchSize <= 0 || describeTopicsConcurrency <= 0) {
+            throw new IllegalArgumentException("Describe topics batch size and concurrency must be positive");
+        }
         this.kafkaAdminClient = kafkaAdminClient;
         this.timeoutMs = timeoutMs;
+        this.describeTopicsBatchSize = describeTopicsBatchSize;
+        this.describeTopicsConcurrency = describeTopicsConcurrency;
+        this.requestCoalescer = new InFlightRequestCoalescer(timeoutMs);
+        this.requestExecutor = new ResilientRequestExecutor(resiliencePolicies, timeoutMs);
+        this.metrics = metrics;
     }
 
     public KafkaNodeDto describeClusterController() {
         LOG.debug("Requested to describe cluster controller");
-        final Node node = executeSyncAndSafely(() -> kafkaAdminClient.describeCluster()
-                .controller(), "describe cluster controller", timeoutMs);
+        final Node node = executeSyncAndSafely(this::requestClusterController, "describeCluster",
+                "describe cluster controller",
+                timeoutMs);
         LOG.debug("Found cluster controller: {}", node);
         return KafkaNodeDto.fromKafkaNode(node);
     }
 
     public List<KafkaNodeDto> describeClusterNodes() {
         LOG.debug("Requested to describe cluster nodes");
-        final Collection<Node> nodes = executeSyncAndSafely(() -> kafkaAdminClient.describeCluster()
-                .nodes(), "describe cluster nodes", timeoutMs);
+        final Collection<Node> nodes = executeSyncAndSafely(this::requestClusterNodes, "describeCluster",
+                "describe cluster nodes",
+                timeoutMs);
         LOG.debug("Found {} cluster nodes: {}", nodes.size(), nodes);
+        metrics.recordResultSize("describeCluster", "brokers", nodes.size());
         return nodes.stream()
                 .map(KafkaNodeDto::fromKafkaNode)
                 .toList();
@@ -55,49 +141,679 @@ public class KafkaStatusViewer {
 
     public Set<String> listTopics() {
         LOG.debug("Requested to list topics");
-        final Set<String> topics = executeSyncAndSafely(() -> kafkaAdminClient.listTopics()
-                .names(), "list topics", timeoutMs);
+        final Set<String> topics = executeSyncAndSafely(this::requestTopicNames, "listTopics", "list topics",
+                timeoutMs);
         LOG.debug("Found {} topics: {}", topics.size(), topics);
+        metrics.recordResultSize("listTopics", "topics", topics.size());
         return topics;
     }
 
     public List<KafkaTopicDescriptionDto> describeTopics(final Collection<String> topicNames) {
         LOG.debug("Requested to describe topics: {}", topicNames);
         final Map<String, TopicDescription> topicDescriptions = executeSyncAndSafely(
-                () -> kafkaAdminClient.describeTopics(topicNames)
-                        .allTopicNames(), "describe topics", timeoutMs);
+                () -> requestTopicDescriptions(topicNames), "describeTopics", "describe topics", timeoutMs);
         LOG.debug("Found {} topic descriptions", topicDescriptions.size());
+        recordTopicDescriptionsSize(topicDescriptions.values());
+        final KafkaNodeDtoInterner nodeInterner = new KafkaNodeDtoInterner();
         return topicDescriptions.values()
                 .stream()
-                .map(KafkaTopicDescriptionDto::fromKafkaTopicDescription)
+                .map(description -> KafkaTopicDescriptionDto.fromKafkaTopicDescription(description, nodeInterner))
                 .toList();
     }
 
-    private <T> T executeSyncAndSafely(final Supplier<KafkaFuture<T>> supplier,
+    public CompletableFuture<KafkaNodeDto> describeClusterControllerAsync() {
+        LOG.debug("Requested to describe cluster controller asynchronously");
+        return executeAsyncAndSafely(this::requestClusterController, "describeCluster", "describe cluster controller",
+                timeoutMs)
+                .thenApply(node -> {
+                    LOG.debug("Found cluster controller: {}", node);
+                    return KafkaNodeDto.fromKafkaNode(node);
+                });
+    }
+
+    public CompletableFuture<List<KafkaNodeDto>> describeClusterNodesAsync() {
+        LOG.debug("Requested to describe cluster nodes asynchronously");
+        return executeAsyncAndSafely(this::requestClusterNodes, "describeCluster", "describe cluster nodes", timeoutMs)
+                .thenApply(nodes -> {
+                    LOG.debug("Found {} cluster nodes: {}", nodes.size(), nodes);
+                    metrics.recordResultSize("describeCluster", "brokers", nodes.size());
+                    return nodes.stream()
+                            .map(KafkaNodeDto::fromKafkaNode)
+                            .toList();
+                });
+    }
+
+    public CompletableFuture<Set<String>> listTopicsAsync() {
+        LOG.debug("Requested to list topics asynchronously");
+        return executeAsyncAndSafely(this::requestTopicNames, "listTopics", "list topics", timeoutMs)
+                .thenApply(topics -> {
+                    LOG.debug("Found {} topics: {}", topics.size(), topics);
+                    metrics.recordResultSize("listTopics", "topics", topics.size());
+                    return topics;
+                });
+    }
+
+    public CompletableFuture<List<KafkaTopicDescriptionDto>> describeTopicsAsync(final Collection<String> topicNames) {
+        LOG.debug("Requested to describe topics asynchronously: {}", topicNames);
+        return executeAsyncAndSafely(() -> requestTopicDescriptions(topicNames), "describeTopics", "describe topics",
+                timeoutMs)
+                .thenApply(topicDescriptions -> {
+                    LOG.debug("Found {} topic descriptions", topicDescriptions.size());
+                    recordTopicDescriptionsSize(topicDescriptions.values());
+                    final KafkaNodeDtoInterner nodeInterner = new KafkaNodeDtoInterner();
+                    return topicDescriptions.values()
+                            .stream()
+                            .map(description -> KafkaTopicDescriptionDto.fromKafkaTopicDescription(description,
+                                    nodeInterner))
+                            .toList();
+                });
+    }
+
+    /**
+     * Reads nodes, controller and cluster id from a single {@code describeCluster()} request.
+     */
+    public CompletableFuture<KafkaClusterDto> describeClusterAsync() {
+        LOG.debug("Requested to describe cluster asynchronously");
+        return executeAsyncAndSafely(this::requestCluster, "describeCluster", "describe cluster", timeoutMs)
+                .thenApply(cluster -> {
+                    LOG.debug("Found cluster {} with {} nodes", cluster.clusterId(), cluster.nodes()
+                            .size());
+                    metrics.recordResultSize("describeCluster", "brokers", cluster.nodes()
+                            .size());
+                    return cluster;
+                });
+    }
+
+    /**
+     * Broker and topic counts in one call: a single {@code describeCluster()} runs concurrently with
+     * {@code listTopics()}. Partitions are not counted, since that takes describing every topic; the partition count
+     * is null, it is known only from a cluster snapshot.
+     */
+    public CompletableFuture<KafkaClusterOverviewDto> describeClusterOverviewAsync() {
+        LOG.debug("Requested to describe cluster overview");
+        final CompletableFuture<KafkaClusterDto> cluster = describeClusterAsync();
+
+        return listTopicsAsync().thenCombine(cluster,
+                (topicNames, clusterDto) -> new KafkaClusterOverviewDto(clusterDto.clusterId(),
+                        clusterDto.controller(), clusterDto.nodes()
+                                .size(), topicNames.size(), null));
+    }
+
+    /**
+     * Health summary of all topics: the topics are described in batches and every description is folded into a
+     * {@link KafkaClusterHealthAccumulator} as soon as its batch answers, so only anomalies are kept in memory.
+     */
+    public CompletableFuture<KafkaClusterHealthDto> describeClusterHealthAsync(final int maxListedPartitions) {
+        LOG.debug("Requested to describe cluster health");
+        final CompletableFuture<KafkaClusterDto> cluster = describeClusterAsync();
+
+        return listTopicsAsync().thenCombine(cluster, (topicNames, clusterDto) -> {
+                    final KafkaClusterHealthAccumulator accumulator = new KafkaClusterHealthAccumulator(
+                            clusterDto.nodes(), maxListedPartitions);
+                    final Map<String, String> failedTopics = new ConcurrentHashMap<>();
+                    return visitTopicsInBatchesAsync(topicNames, accumulator::add, failedTopics)
+                            .thenApply(ignored -> {
+                                if (!failedTopics.isEmpty()) {
+                                    LOG.warn("{} topics were not included in the cluster health: {}",
+                                            failedTopics.size(), failedTopics.keySet());
+                                }
+                                return accumulator.toHealth(topicNames.size(), failedTopics.size());
+                            });
+                })
+                .thenCompose(health -> health);
+    }
+
+    /**
+     * Lag of every consumer group in a fixed number of AdminClient calls, regardless of the number of groups:
+     * {@code listConsumerGroups()}, one {@code listConsumerGroupOffsets()} for all groups and one
+     * {@code listOffsets()} for the union of their partitions. Only the {@code topN} groups and group topics with the
+     * highest lag are returned.
+     */
+    public CompletableFuture<KafkaConsumerLagDto> describeConsumerLagAsync(final int topN) {
+        LOG.debug("Requested to describe consumer lag");
+        return executeAsyncAndSafely(this::requestConsumerGroupIds, "listConsumerGroups", "list consumer groups",
+                timeoutMs)
+                .thenCompose(groupIds -> {
+                    final Map<String, Map<TopicPartition, Long>> committedOffsets = new ConcurrentHashMap<>();
+                    final Map<String, String> failedGroups = new ConcurrentHashMap<>();
+                    return collectCommittedOffsetsAsync(groupIds, committedOffsets, failedGroups)
+                            .thenCompose(ignored -> {
+                                final Set<TopicPartition> partitions = new HashSet<>();
+                                committedOffsets.values()
+                                        .forEach(offsets -> partitions.addAll(offsets.keySet()));
+                                final Map<TopicPartition, Long> endOffsets = new ConcurrentHashMap<>();
+                                final Map<TopicPartition, String> failedPartitions = new ConcurrentHashMap<>();
+                                return collectEndOffsetsAsync(partitions, endOffsets, failedPartitions)
+                                        .thenApply(ignoredOffsets -> {
+                                            LOG.debug("Read committed offsets of {} groups and end offsets of {} "
+                                                            + "partitions, failed {} groups and {} partitions",
+                                                    committedOffsets.size(), endOffsets.size(), failedGroups.size(),
+                                                    failedPartitions.size());
+                                            return KafkaConsumerLagDto.fromOffsets(groupIds.size(), committedOffsets,
+                                                    endOffsets, failedGroups.keySet(), failedPartitions.size(), topN);
+                                        });
+                            });
+                });
+    }
+
+    /**
+     * Disk usage of the cluster from one {@code describeLogDirs()} call for all brokers. The log directories of each
+     * broker are folded into a {@link KafkaDiskUsageAccumulator} as soon as the broker answers, so the per-replica maps
+     * are never held for the whole cluster at once. Only the {@code topN} largest aggregates are returned.
+     */
+    public CompletableFuture<KafkaDiskUsageDto> describeDiskUsageAsync(final int topN) {
+        LOG.debug("Requested to describe disk usage");
+        return executeAsyncAndSafely(this::requestClusterNodes, "describeCluster", "describe cluster nodes", timeoutMs)
+                .thenCompose(nodes -> {
+                    final List<Integer> brokerIds = nodes.stream()
+                            .map(Node::id)
+                            .toList();
+                    final KafkaDiskUsageAccumulator accumulator = new KafkaDiskUsageAccumulator(topN);
+                    final Map<Integer, String> failedBrokers = new ConcurrentHashMap<>();
+                    return collectLogDirsAsync(brokerIds, accumulator, failedBrokers)
+                            .thenApply(ignored -> {
+                                if (!failedBrokers.isEmpty()) {
+                                    LOG.warn("{} brokers were not included in the disk usage: {}",
+                                            failedBrokers.size(), failedBrokers.keySet());
+                                }
+                                return accumulator.toDiskUsage(brokerIds.size(), failedBrokers);
+                            });
+                });
+    }
+
+    /**
+     * Compares the live topics with the declared ones and returns only the differences. The topics present on both
+     * sides are compared in batches: each batch issues one {@code describeTopics()} and one {@code describeConfigs()}
+     * for the same names, and is folded into a {@link KafkaTopicDriftAccumulator} as soon as both answer, so at most
+     * {@code describeTopicsConcurrency} batches of descriptions and configs are held at a time.
+     */
+    public CompletableFuture<KafkaTopicDriftReportDto> describeTopicDriftAsync(
+            final Map<String, KafkaTopicSpecDto> declaredTopics, final int maxListed) {
+        LOG.debug("Requested to describe the drift of {} declared topics", declaredTopics.size());
+        return listTopicsAsync().thenCompose(liveTopics -> {
+            final List<String> comparedTopics = new ArrayList<>();
+            final List<String> undeclaredTopics = new ArrayList<>();
+            liveTopics.forEach(topic -> (declaredTopics.containsKey(topic) ? comparedTopics : undeclaredTopics)
+                    .add(topic));
+            final List<String> missingTopics = declaredTopics.keySet()
+                    .stream()
+                    .filter(topic -> !liveTopics.contains(topic))
+                    .toList();
+
+            final KafkaTopicDriftAccumulator accumulator = new KafkaTopicDriftAccumulator(maxListed);
+            final Map<String, String> failedTopics = new ConcurrentHashMap<>();
+            return runInBatchesAsync(comparedTopics,
+                    batch -> compareBatch(batch, declaredTopics, accumulator, failedTopics))
+                    .thenApply(ignored -> {
+                        LOG.debug("Compared {} topics, {} missing, {} undeclared, failed {}", comparedTopics.size(),
+                                missingTopics.size(), undeclaredTopics.size(), failedTopics.size());
+                        return accumulator.toReport(declaredTopics.size(), liveTopics.size(), missingTopics,
+                                undeclaredTopics, failedTopics);
+                    });
+        });
+    }
+
+    /**
+     * Describes the topics in batches of {@code describeTopicsBatchSize} names with at most
+     * {@code describeTopicsConcurrency} batches in flight. Each batch gets its own timeout and is mapped to DTOs as
+     * soon as it completes, so no full {@link TopicDescription} map is ever held. Topics that fail or time out are
+     * reported in {@link KafkaTopicDescriptionsResultDto#failedTopics()} instead of failing the whole call, they are
+     * not retried by the {@link AdminOperation#DESCRIBE_TOPICS} policy.
+     */
+    public CompletableFuture<KafkaTopicDescriptionsResultDto> describeTopicsInBatchesAsync(
+            final Collection<String> topicNames) {
+        final Queue<KafkaTopicDescriptionDto> descriptions = new ConcurrentLinkedQueue<>();
+        final Map<String, String> failedTopics = new ConcurrentHashMap<>();
+        final KafkaNodeDtoInterner nodeInterner = new KafkaNodeDtoInterner();
+
+        return visitTopicsInBatchesAsync(topicNames,
+                description -> descriptions.add(
+                        KafkaTopicDescriptionDto.fromKafkaTopicDescription(description, nodeInterner)),
+                failedTopics)
+                .thenApply(ignored -> {
+                    LOG.debug("Described {} topics, failed to describe {} topics", descriptions.size(),
+                            failedTopics.size());
+                    final List<KafkaTopicDescriptionDto> sortedDescriptions = new ArrayList<>(descriptions);
+                    sortedDescriptions.sort(Comparator.comparing(KafkaTopicDescriptionDto::name));
+                    return new KafkaTopicDescriptionsResultDto(sortedDescriptions, new TreeMap<>(failedTopics));
+                });
+    }
+
+    /**
+     * Runs the batched description and hands every described topic to {@code visitor} as soon as its batch answers.
+     * The visitor is called from AdminClient threads and must be thread-safe.
+     */
+    private CompletableFuture<Void> visitTopicsInBatchesAsync(final Collection<String> topicNames,
+            final Consumer<TopicDescription> visitor, final Map<String, String> failedTopics) {
+        return runInBatchesAsync(topicNames, batch -> describeBatch(batch, visitor, failedTopics));
+    }
+
+    /**
+     * Splits the topics into batches of {@code describeTopicsBatchSize} names and runs {@code batchTask} for at most
+     * {@code describeTopicsConcurrency} batches at a time.
+     */
+    private CompletableFuture<Void> runInBatchesAsync(final Collection<String> topicNames,
+            final Function<List<String>, CompletableFuture<Void>> batchTask) {
+        final List<List<String>> batches = splitIntoBatches(topicNames, describeTopicsBatchSize);
+        LOG.debug("Requested to describe {} topics in {} batches", topicNames.size(), batches.size());
+        final AtomicInteger nextBatch = new AtomicInteger();
+
+        final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(describeTopicsConcurrency,
+                batches.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = runRemainingBatches(batches, nextBatch, batchTask);
+        }
+        return CompletableFuture.allOf(workers);
+    }
+
+    private CompletableFuture<Void> runRemainingBatches(final List<List<String>> batches,
+            final AtomicInteger nextBatch, final Function<List<String>, CompletableFuture<Void>> batchTask) {
+        final int batchIndex = nextBatch.getAndIncrement();
+        if (batchIndex >= batches.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return batchTask.apply(batches.get(batchIndex))
+                .thenCompose(ignored -> runRemainingBatches(batches, nextBatch, batchTask));
+    }
+
+    private CompletableFuture<Void> describeBatch(final List<String> batch,
+            final Consumer<TopicDescription> visitor, final Map<String, String> failedTopics) {
+        final Map<String, KafkaFuture<TopicDescription>> topicFutures;
+        try {
+            topicFutures = kafkaAdminClient.describeTopics(batch)
+                    .topicNameValues();
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to request description of {} topics", batch.size(), e);
+            metrics.recordRequest("describeTopics", 0, AdminClientMetrics.Outcome.of(e));
+            batch.forEach(topic -> failedTopics.put(topic, describeFailure(e, "describe topic")));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final LongAdder topicCount = new LongAdder();
+        final LongAdder partitionCount = new LongAdder();
+        return collectAsync(batch, topicFutures, (topic, description) -> {
+            visitor.accept(description);
+            topicCount.increment();
+            if (description.partitions() != null) {
+                partitionCount.add(description.partitions()
+                        .size());
+            }
+        }, failedTopics, "describeTopics", "describe topic").thenApply(ignored -> {
+            metrics.recordResultSize("describeTopics", "topics", topicCount.sum());
+            metrics.recordResultSize("describeTopics", "partitions", partitionCount.sum());
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> compareBatch(final List<String> batch,
+            final Map<String, KafkaTopicSpecDto> declaredTopics, final KafkaTopicDriftAccumulator accumulator,
+            final Map<String, String> failedTopics) {
+        final Map<String, TopicDescription> descriptions = new ConcurrentHashMap<>();
+        final Map<String, Config> configs = new ConcurrentHashMap<>();
+
+        return describeBatch(batch, description -> descriptions.put(description.name(), description), failedTopics)
+                .thenCombine(describeConfigsBatch(batch, configs, failedTopics), (ignored, ignoredConfigs) -> {
+                    for (final String topic : batch) {
+                        final TopicDescription description = descriptions.get(topic);
+                        final Config config = configs.get(topic);
+                        if (description != null && config != null) {
+                            accumulator.add(declaredTopics.get(topic), description, config);
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> describeConfigsBatch(final List<String> batch, final Map<String, Config> configs,
+            final Map<String, String> failedTopics) {
+        final Map<String, KafkaFuture<Config>> configFutures = new HashMap<>();
+        try {
+            final List<ConfigResource> resources = batch.stream()
+                    .map(topic -> new ConfigResource(ConfigResource.Type.TOPIC, topic))
+                    .toList();
+            kafkaAdminClient.describeConfigs(resources)
+                    .values()
+                    .forEach((resource, future) -> configFutures.put(resource.name(), future));
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to request configs of {} topics", batch.size(), e);
+            metrics.recordRequest("describeConfigs", 0, AdminClientMetrics.Outcome.of(e));
+            batch.forEach(topic -> failedTopics.put(topic, describeFailure(e, "describe topic configs")));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return collectAsync(batch, configFutures, configs::put, failedTopics, "describeConfigs",
+                "describe topic configs");
+    }
+
+    /**
+     * Waits for one AdminClient future per key and hands every value to {@code consumer} as soon as it arrives. Keys
+     * whose future fails, is missing or does not complete within {@code timeoutMs} are reported in {@code failures}.
+     * The request is recorded in the metrics once all keys are done, with the outcome of the first failed key.
+     * <p>
+     * The callbacks and the timeout handling hold the same lock, so {@code consumer} and {@code failures} are never
+     * mutated concurrently, and a reply arriving after the timeout is dropped instead of changing the already reported
+     * result.
+     */
+    private <K, V> CompletableFuture<Void> collectAsync(final Collection<K> keys, final Map<K, KafkaFuture<V>> futures,
+            final BiConsumer<K, V> consumer, final Map<K, String> failures, final String operation,
+            final String commandDescription) {
+        final long startNanos = System.nanoTime();
+        final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+        final AtomicBoolean timedOut = new AtomicBoolean();
+        final List<K> keyList = List.copyOf(keys);
+        final List<CompletableFuture<Void>> keyResults = new ArrayList<>(keyList.size());
+        for (final K key : keyList) {
+            final CompletableFuture<Void> keyResult = new CompletableFuture<>();
+            keyResults.add(keyResult);
+            final KafkaFuture<V> future = futures.get(key);
+            if (future == null) {
+                failures.put(key, "No result returned by the broker");
+                firstFailure.compareAndSet(null, new IllegalStateException("No result returned by the broker"));
+                keyResult.complete(null);
+                continue;
+            }
+            future.whenComplete((value, error) -> {
+                synchronized (timedOut) {
+                    if (timedOut.get()) {
+                        LOG.debug("Dropping the result of {} for {} received after the timeout", commandDescription,
+                                key);
+                        return;
+                    }
+                    try {
+                        if (error == null) {
+                            consumer.accept(key, value);
+                        } else {
+                            final Throwable cause = unwrap(error);
+                            firstFailure.compareAndSet(null, cause);
+                            failures.put(key, describeFailure(cause, commandDescription));
+                        }
+                    } catch (final RuntimeException e) {
+                        LOG.warn("Failed to process the result of {} for {}", commandDescription, key, e);
+                        firstFailure.compareAndSet(null, e);
+                        failures.put(key, describeFailure(e, commandDescription));
+                    } finally {
+                        keyResult.complete(null);
+                    }
+                }
+            });
+        }
+
+        return CompletableFuture.allOf(keyResults.toArray(CompletableFuture[]::new))
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    LOG.warn("Timeout {} milliseconds elapsed while waiting to {} for {} entries", timeoutMs,
+                            commandDescription, keyList.size());
+                    firstFailure.set(new TimeoutException());
+                    synchronized (timedOut) {
+                        timedOut.set(true);
+                        for (int i = 0; i < keyList.size(); i++) {
+                            if (!keyResults.get(i).isDone()) {
+                                failures.put(keyList.get(i), describeFailure(new TimeoutException(),
+                                        commandDescription));
+                            }
+                        }
+                    }
+                    return null;
+                })
+                .whenComplete((ignored, error) -> recordRequest(operation, startNanos, firstFailure.get()));
+    }
+
+    private CompletableFuture<Void> collectCommittedOffsetsAsync(final Set<String> groupIds,
+            final Map<String, Map<TopicPartition, Long>> committedOffsets, final Map<String, String> failedGroups) {
+        if (groupIds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final Map<String, KafkaFuture<Map<TopicPartition, OffsetAndMetadata>>> groupFutures = new HashMap<>();
+        try {
+            final Map<String, ListConsumerGroupOffsetsSpec> groupSpecs = new HashMap<>();
+            groupIds.forEach(groupId -> groupSpecs.put(groupId, new ListConsumerGroupOffsetsSpec()));
+            final ListConsumerGroupOffsetsResult result = kafkaAdminClient.listConsumerGroupOffsets(groupSpecs);
+            groupIds.forEach(groupId -> groupFutures.put(groupId, result.partitionsToOffsetAndMetadata(groupId)));
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to request committed offsets of {} consumer groups", groupIds.size(), e);
+            metrics.recordRequest("listConsumerGroupOffsets", 0, AdminClientMetrics.Outcome.of(e));
+            groupIds.forEach(groupId -> failedGroups.put(groupId, describeFailure(e, "list consumer group offsets")));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return collectAsync(groupIds, groupFutures, (groupId, offsets) -> {
+            final Map<TopicPartition, Long> groupOffsets = new HashMap<>();
+            offsets.forEach((partition, offset) -> {
+                if (offset != null) {
+                    groupOffsets.put(partition, offset.offset());
+                }
+            });
+            committedOffsets.put(groupId, groupOffsets);
+        }, failedGroups, "listConsumerGroupOffsets", "list consumer group offsets");
+    }
+
+    private CompletableFuture<Void> collectEndOffsetsAsync(final Set<TopicPartition> partitions,
+            final Map<TopicPartition, Long> endOffsets, final Map<TopicPartition, String> failedPartitions) {
+        if (partitions.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final Map<TopicPartition, KafkaFuture<ListOffsetsResultInfo>> partitionFutures = new HashMap<>();
+        try {
+            final Map<TopicPartition, OffsetSpec> offsetSpecs = new HashMap<>();
+            partitions.forEach(partition -> offsetSpecs.put(partition, OffsetSpec.latest()));
+            final ListOffsetsResult result = kafkaAdminClient.listOffsets(offsetSpecs);
+            partitions.forEach(partition -> partitionFutures.put(partition, result.partitionResult(partition)));
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to request end offsets of {} partitions", partitions.size(), e);
+            metrics.recordRequest("listOffsets", 0, AdminClientMetrics.Outcome.of(e));
+            partitions.forEach(partition -> failedPartitions.put(partition, describeFailure(e, "list offsets")));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return collectAsync(partitions, partitionFutures,
+                (partition, offsetInfo) -> endOffsets.put(partition, offsetInfo.offset()), failedPartitions,
+                "listOffsets", "list offsets");
+    }
+
+    private CompletableFuture<Void> collectLogDirsAsync(final List<Integer> brokerIds,
+            final KafkaDiskUsageAccumulator accumulator, final Map<Integer, String> failedBrokers) {
+        if (brokerIds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final Map<Integer, KafkaFuture<Map<String, LogDirDescription>>> brokerFutures;
+        try {
+            brokerFutures = kafkaAdminClient.describeLogDirs(brokerIds)
+                    .descriptions();
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to request log dirs of {} brokers", brokerIds.size(), e);
+            metrics.recordRequest("describeLogDirs", 0, AdminClientMetrics.Outcome.of(e));
+            brokerIds.forEach(brokerId -> failedBrokers.put(brokerId, describeFailure(e, "describe log dirs")));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return collectAsync(brokerIds, brokerFutures, accumulator::add, failedBrokers, "describeLogDirs",
+                "describe log dirs");
+    }
+
+    private String describeFailure(final Throwable cause, final String commandDescription) {
+        if (cause instanceof TimeoutException) {
+            return new KafkaClientTimeoutException(commandDescription, timeoutMs).getMessage();
+        }
+        if (cause instanceof final TopicAuthorizationException ex) {
+            return new TopicsNotExistException(ex.unauthorizedTopics()).getMessage();
+        }
+        return cause.getClass()
+                .getSimpleName() + ": " + cause.getMessage();
+    }
+
+    private void recordRequest(final String operation, final long startNanos, final Throwable error) {
+        metrics.recordRequest(operation, System.nanoTime() - startNanos, AdminClientMetrics.Outcome.of(error));
+    }
+
+    private void recordTopicDescriptionsSize(final Collection<TopicDescription> descriptions) {
+        metrics.recordResultSize("describeTopics", "topics", descriptions.size());
+        metrics.recordResultSize("describeTopics", "partitions", descriptions.stream()
+                .filter(description -> description.partitions() != null)
+                .mapToLong(description -> description.partitions()
+                        .size())
+                .sum());
+    }
+
+    private static List<List<String>> splitIntoBatches(final Collection<String> topicNames, final int batchSize) {
+        final List<String> distinctNames = List.copyOf(new LinkedHashSet<>(topicNames));
+        final List<List<String>> batches = new ArrayList<>((distinctNames.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < distinctNames.size(); from += batchSize) {
+            batches.add(distinctNames.subList(from, Math.min(from + batchSize, distinctNames.size())));
+        }
+        return batches;
+    }
+
+    private KafkaFuture<KafkaClusterDto> requestCluster() {
+        return requestCoalescer.coalesce(RequestKey.of("describeCluster"),
+                () -> requestExecutor.execute(AdminOperation.DESCRIBE_CLUSTER, () -> {
+                    final DescribeClusterResult result = kafkaAdminClient.describeCluster();
+                    final KafkaFuture<Collection<Node>> nodes = result.nodes();
+                    final KafkaFuture<Node> controller = result.controller();
+                    final KafkaFuture<String> clusterId = result.clusterId();
+                    return KafkaFuture.allOf(nodes, controller, clusterId)
+                            .thenApply(ignored -> new KafkaClusterDto(completedValue(clusterId),
+                                    KafkaNodeDto.fromKafkaNode(completedValue(controller)),
+                                    completedValue(nodes).stream()
+                                            .map(KafkaNodeDto::fromKafkaNode)
+                                            .toList()));
+                }));
+    }
+
+    /**
+     * Reads the value of a future known to be completed successfully, e.g. inside {@code allOf(...).thenApply}.
+     */
+    private static <T> T completedValue(final KafkaFuture<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private KafkaFuture<Node> requestClusterController() {
+        return requestCoalescer.coalesce(RequestKey.of("describeClusterController"),
+                () -> requestExecutor.execute(AdminOperation.DESCRIBE_CLUSTER,
+                        () -> kafkaAdminClient.describeCluster()
+                                .controller()));
+    }
+
+    private KafkaFuture<Collection<Node>> requestClusterNodes() {
+        return requestCoalescer.coalesce(RequestKey.of("describeClusterNodes"),
+                () -> requestExecutor.execute(AdminOperation.DESCRIBE_CLUSTER,
+                        () -> kafkaAdminClient.describeCluster()
+                                .nodes()));
+    }
+
+    private KafkaFuture<Set<String>> requestTopicNames() {
+        return requestCoalescer.coalesce(RequestKey.of("listTopics"),
+                () -> requestExecutor.execute(AdminOperation.LIST_TOPICS,
+                        () -> kafkaAdminClient.listTopics()
+                                .names()));
+    }
+
+    private KafkaFuture<Set<String>> requestConsumerGroupIds() {
+        return requestCoalescer.coalesce(RequestKey.of("listConsumerGroups"),
+                () -> requestExecutor.execute(AdminOperation.LIST_CONSUMER_GROUPS,
+                        () -> kafkaAdminClient.listConsumerGroups()
+                                .all()
+                                .thenApply(groups -> groups.stream()
+                                        .map(ConsumerGroupListing::groupId)
+                                        .collect(Collectors.toSet()))));
+    }
+
+    private KafkaFuture<Map<String, TopicDescription>> requestTopicDescriptions(final Collection<String> topicNames) {
+        return requestCoalescer.coalesce(RequestKey.of("describeTopics", topicNames),
+                () -> requestExecutor.execute(AdminOperation.DESCRIBE_TOPICS,
+                        () -> kafkaAdminClient.describeTopics(topicNames)
+                                .allTopicNames()));
+    }
+
+    private <T> T executeSyncAndSafely(final Supplier<KafkaFuture<T>> supplier, final String operation,
             final String commandDescription, final long timeoutMs) {
+        final long startNanos = System.nanoTime();
         try {
-            return supplier.get()
+            final T value = supplier.get()
                     .get(timeoutMs, TimeUnit.MILLISECONDS);
+            recordRequest(operation, startNanos, null);
+            return value;
         } catch (final InterruptedException e) {
+            recordRequest(operation, startNanos, e);
             Thread.currentThread().interrupt();
             final String message = String.format(GENERIC_ERROR_TEMPLATE, commandDescription);
             LOG.error(message, e);
             throw new KafkaClientException(message);
         } catch (final ExecutionException e) {
-            final Throwable cause = e.getCause();
-            if (cause instanceof final TopicAuthorizationException ex) {
-                final Set<String> unauthorizedTopics = ex.unauthorizedTopics();
-                final String message = String.format(TOPICS_NOT_EXIST_ERROR_TEMPLATE, unauthorizedTopics);
-                LOG.error(message, ex);
-                throw new TopicsNotExistException(unauthorizedTopics);
-            }
-            final String message = String.format(GENERIC_ERROR_TEMPLATE, commandDescription);
-            LOG.error(message, cause);
-            throw new KafkaClientException(message);
+            recordRequest(operation, startNanos, e.getCause());
+            throw toKafkaClientException(e.getCause(), commandDescription, timeoutMs);
         } catch (final TimeoutException e) {
+            recordRequest(operation, startNanos, e);
+            throw toKafkaClientException(e, commandDescription, timeoutMs);
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #executeSyncAndSafely}: the returned future is completed by the AdminClient
+     * network thread, times out after {@code timeoutMs} and fails with the same exceptions the sync variant throws.
+     */
+    private <T> CompletableFuture<T> executeAsyncAndSafely(final Supplier<KafkaFuture<T>> supplier,
+            final String operation, final String commandDescription, final long timeoutMs) {
+        final long startNanos = System.nanoTime();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            supplier.get()
+                    .whenComplete((value, error) -> {
+                        if (error == null) {
+                            result.complete(value);
+                        } else {
+                            result.completeExceptionally(error);
+                        }
+                    });
+        } catch (final RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+
+        return result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .handle((value, error) -> {
+                    final Throwable cause = error == null ? null : unwrap(error);
+                    recordRequest(operation, startNanos, cause);
+                    if (cause == null) {
+                        return value;
+                    }
+                    throw toKafkaClientException(cause, commandDescription, timeoutMs);
+                });
+    }
+
+    private RuntimeException toKafkaClientException(final Throwable cause, final String commandDescription,
+            final long timeoutMs) {
+        if (cause instanceof final TopicAuthorizationException ex) {
+            final Set<String> unauthorizedTopics = ex.unauthorizedTopics();
+            final String message = String.format(TOPICS_NOT_EXIST_ERROR_TEMPLATE, unauthorizedTopics);
+            LOG.error(message, ex);
+            return new TopicsNotExistException(unauthorizedTopics);
+        }
+        if (cause instanceof TimeoutException) {
             final String message = String.format("Timeout %s milliseconds elapsed while waiting for %s", timeoutMs, commandDescription);
-            LOG.warn(message, e);
-            throw new KafkaClientTimeoutException(commandDescription, timeoutMs);
+            LOG.warn(message, cause);
+            return new KafkaClientTimeoutException(commandDescription, timeoutMs);
+        }
+        final String message = String.format(GENERIC_ERROR_TEMPLATE, commandDescription);
+        LOG.error(message, cause);
+        return new KafkaClientException(message);
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
     }
 }
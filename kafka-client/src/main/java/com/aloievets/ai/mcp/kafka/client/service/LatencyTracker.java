@@ -0,0 +1,37 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ring buffer of the latest successful request latencies of one operation, used to derive the hedge delay.
+ */
+class LatencyTracker {
+    static final int CAPACITY = 128;
+    static final int MIN_SAMPLES = 20;
+    private final AtomicLongArray latenciesNanos = new AtomicLongArray(CAPACITY);
+    private final AtomicLong recorded = new AtomicLong();
+
+    void record(final long latencyNanos) {
+        latenciesNanos.set((int) (recorded.getAndIncrement() % CAPACITY), latencyNanos);
+    }
+
+    /**
+     * @return the percentile of the buffered latencies, empty until {@link #MIN_SAMPLES} latencies were recorded
+     */
+    OptionalLong percentileNanos(final double percentile) {
+        final int size = (int) Math.min(recorded.get(), CAPACITY);
+        if (size < MIN_SAMPLES) {
+            return OptionalLong.empty();
+        }
+
+        final long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = latenciesNanos.get(i);
+        }
+        Arrays.sort(sorted);
+        return OptionalLong.of(sorted[(int) Math.ceil(percentile * size) - 1]);
+    }
+}
@@ -0,0 +1,83 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes AdminClient metrics of one Kafka cluster, every meter is tagged with {@code cluster} and
+ * {@code operation}:
+ * <ul>
+ *     <li>{@value #REQUEST_LATENCY} timer with p50, p95 and p99 and a percentile histogram</li>
+ *     <li>{@value #REQUESTS} counter tagged with the {@code outcome}: success, timeout, authorization or other</li>
+ *     <li>{@value #RESULT_SIZE} distribution summary tagged with the counted {@code unit}</li>
+ * </ul>
+ * Meters are created on first use and cached, so recording does not go through the registry lookup.
+ */
+public class MicrometerAdminClientMetrics implements AdminClientMetrics {
+    public static final String REQUEST_LATENCY = "kafka.admin.request.latency";
+    public static final String REQUESTS = "kafka.admin.requests";
+    public static final String RESULT_SIZE = "kafka.admin.result.size";
+    private final MeterRegistry meterRegistry;
+    private final String clusterName;
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final Map<String, Map<Outcome, Counter>> outcomeCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> resultSizes = new ConcurrentHashMap<>();
+
+    public MicrometerAdminClientMetrics(final MeterRegistry meterRegistry, final String clusterName) {
+        this.meterRegistry = meterRegistry;
+        this.clusterName = clusterName;
+    }
+
+    @Override
+    public void recordRequest(final String operation, final long durationNanos, final Outcome outcome) {
+        latencyTimers.computeIfAbsent(operation, this::latencyTimer)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        outcomeCounters.computeIfAbsent(operation, this::outcomeCounters)
+                .get(outcome)
+                .increment();
+    }
+
+    @Override
+    public void recordResultSize(final String operation, final String unit, final long size) {
+        resultSizes.computeIfAbsent(operation + '/' + unit, key -> DistributionSummary.builder(RESULT_SIZE)
+                        .description("Entries returned by AdminClient requests")
+                        .tag("cluster", clusterName)
+                        .tag("operation", operation)
+                        .tag("unit", unit)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry))
+                .record(size);
+    }
+
+    private Timer latencyTimer(final String operation) {
+        return Timer.builder(REQUEST_LATENCY)
+                .description("Latency of AdminClient requests, including retries and hedged requests")
+                .tag("cluster", clusterName)
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Map<Outcome, Counter> outcomeCounters(final String operation) {
+        final Map<Outcome, Counter> counters = new EnumMap<>(Outcome.class);
+        for (final Outcome outcome : Outcome.values()) {
+            counters.put(outcome, Counter.builder(REQUESTS)
+                    .description("AdminClient requests by outcome")
+                    .tag("cluster", clusterName)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome.name()
+                            .toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,26 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+/**
+ * How an AdminClient operation is retried and hedged within the client timeout.
+ *
+ * @param maxAttempts      attempts including the first one, only {@code RetriableException} failures are retried
+ * @param initialBackoffMs backoff before the second attempt, doubled per attempt and jittered
+ * @param maxBackoffMs     upper bound of the backoff
+ * @param hedgingEnabled   whether a second request is sent when the first one is slower than the recent p95 latency
+ * @param minHedgeDelayMs  lower bound of the hedge delay, also used until enough latencies have been recorded
+ */
+public record ResiliencePolicy(int maxAttempts, long initialBackoffMs, long maxBackoffMs, boolean hedgingEnabled,
+                               long minHedgeDelayMs) {
+    public static final ResiliencePolicy NONE = new ResiliencePolicy(1, 0, 0, false, 0);
+
+    public ResiliencePolicy {
+        if (maxAttempts < 1 || initialBackoffMs < 0 || maxBackoffMs < initialBackoffMs || minHedgeDelayMs < 0) {
+            throw new IllegalArgumentException("Resilience policy needs at least one attempt and non-negative delays, "
+                    + "with max backoff not below the initial backoff");
+        }
+    }
+
+    boolean isSingleAttempt() {
+        return maxAttempts == 1 && !hedgingEnabled;
+    }
+}
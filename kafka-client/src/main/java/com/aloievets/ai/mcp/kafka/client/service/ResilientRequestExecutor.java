@@ -0,0 +1,169 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies the {@link ResiliencePolicy} of an operation to an AdminClient request: attempts failing with a
+ * {@link RetriableException} are repeated after a jittered exponential backoff, and a hedged second request is sent
+ * when the first one has not answered within the recent p95 latency. Retries and hedges are only started while they
+ * fit into {@code timeoutMs}, so the policy never extends the client timeout.
+ */
+class ResilientRequestExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(ResilientRequestExecutor.class);
+    private static final double HEDGE_PERCENTILE = 0.95;
+    private final Map<AdminOperation, ResiliencePolicy> policies = new EnumMap<>(AdminOperation.class);
+    private final Map<AdminOperation, LatencyTracker> latencyTrackers = new EnumMap<>(AdminOperation.class);
+    private final long timeoutMs;
+    private final BiFunction<Long, TimeUnit, Executor> delayedExecutors;
+
+    ResilientRequestExecutor(final Map<AdminOperation, ResiliencePolicy> policies, final long timeoutMs) {
+        this(policies, timeoutMs, CompletableFuture::delayedExecutor);
+    }
+
+    /**
+     * @param delayedExecutors executors running the retries and hedged requests after the given delay
+     */
+    ResilientRequestExecutor(final Map<AdminOperation, ResiliencePolicy> policies, final long timeoutMs,
+            final BiFunction<Long, TimeUnit, Executor> delayedExecutors) {
+        for (final AdminOperation operation : AdminOperation.values()) {
+            this.policies.put(operation, policies.getOrDefault(operation, ResiliencePolicy.NONE));
+            this.latencyTrackers.put(operation, new LatencyTracker());
+        }
+        this.timeoutMs = timeoutMs;
+        this.delayedExecutors = delayedExecutors;
+    }
+
+    /**
+     * @return the AdminClient future itself when the policy allows a single attempt only, otherwise a future
+     * completed by the first successful attempt or failed with the last failure
+     */
+    <T> KafkaFuture<T> execute(final AdminOperation operation, final Supplier<KafkaFuture<T>> request) {
+        final ResiliencePolicy policy = policies.get(operation);
+        if (policy.isSingleAttempt()) {
+            return request.get();
+        }
+
+        final KafkaFutureImpl<T> result = new KafkaFutureImpl<>();
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        attempt(operation, policy, request, 1, deadlineNanos, result);
+        return result;
+    }
+
+    private <T> void attempt(final AdminOperation operation, final ResiliencePolicy policy,
+            final Supplier<KafkaFuture<T>> request, final int attempt, final long deadlineNanos,
+            final KafkaFutureImpl<T> result) {
+        hedgedRequest(operation, policy, request, deadlineNanos).whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+
+            final Throwable cause = unwrap(error);
+            final long backoffMs = backoffMs(policy, attempt);
+            if (attempt < policy.maxAttempts() && cause instanceof RetriableException
+                    && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs) < deadlineNanos) {
+                LOG.debug("Attempt {} of {} failed, retrying in {} milliseconds: {}", attempt, operation, backoffMs,
+                        cause.toString());
+                delayedExecutors.apply(backoffMs, TimeUnit.MILLISECONDS)
+                        .execute(() -> attempt(operation, policy, request, attempt + 1, deadlineNanos, result));
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    /**
+     * Completes with the first successful response; fails only once every request sent has failed.
+     */
+    private <T> CompletableFuture<T> hedgedRequest(final AdminOperation operation, final ResiliencePolicy policy,
+            final Supplier<KafkaFuture<T>> request, final long deadlineNanos) {
+        if (!policy.hedgingEnabled()) {
+            return send(operation, request);
+        }
+
+        final CompletableFuture<T> response = new CompletableFuture<>();
+        final AtomicInteger pendingRequests = new AtomicInteger(1);
+        final BiConsumer<T, Throwable> onResponse = (value, error) -> {
+            if (error == null) {
+                response.complete(value);
+            } else if (pendingRequests.decrementAndGet() == 0) {
+                response.completeExceptionally(error);
+            }
+        };
+        send(operation, request).whenComplete(onResponse);
+
+        final long hedgeDelayMs = hedgeDelayMs(operation, policy);
+        if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(hedgeDelayMs) < deadlineNanos) {
+            delayedExecutors.apply(hedgeDelayMs, TimeUnit.MILLISECONDS)
+                    .execute(() -> {
+                        // no hedge once the first request answered, failures included
+                        if (!response.isDone() && pendingRequests.getAndUpdate(n -> n == 0 ? 0 : n + 1) > 0) {
+                            LOG.debug("No response to {} within {} milliseconds, sending a hedged request", operation,
+                                    hedgeDelayMs);
+                            send(operation, request).whenComplete(onResponse);
+                        }
+                    });
+        }
+        return response;
+    }
+
+    private <T> CompletableFuture<T> send(final AdminOperation operation, final Supplier<KafkaFuture<T>> request) {
+        final CompletableFuture<T> response = new CompletableFuture<>();
+        final long startNanos = System.nanoTime();
+        try {
+            request.get()
+                    .whenComplete((value, error) -> {
+                        if (error == null) {
+                            latencyTrackers.get(operation)
+                                    .record(System.nanoTime() - startNanos);
+                            response.complete(value);
+                        } else {
+                            response.completeExceptionally(error);
+                        }
+                    });
+        } catch (final RuntimeException e) {
+            response.completeExceptionally(e);
+        }
+        return response;
+    }
+
+    private long hedgeDelayMs(final AdminOperation operation, final ResiliencePolicy policy) {
+        final long p95Ms = latencyTrackers.get(operation)
+                .percentileNanos(HEDGE_PERCENTILE)
+                .stream()
+                .map(TimeUnit.NANOSECONDS::toMillis)
+                .findFirst()
+                .orElse(0);
+        return Math.max(policy.minHedgeDelayMs(), p95Ms);
+    }
+
+    /**
+     * Exponential backoff with equal jitter: half of the delay is fixed, the other half random.
+     */
+    private static long backoffMs(final ResiliencePolicy policy, final int attempt) {
+        final long exponentialMs = policy.initialBackoffMs() << Math.min(attempt - 1, 20);
+        final long cappedMs = Math.min(policy.maxBackoffMs(), exponentialMs);
+        return cappedMs / 2 + ThreadLocalRandom.current()
+                .nextLong(cappedMs / 2 + 1);
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
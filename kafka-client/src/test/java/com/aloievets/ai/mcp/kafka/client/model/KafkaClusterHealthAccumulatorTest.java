@@ -0,0 +1,45 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KafkaClusterHealthAccumulatorTest {
+    private static final KafkaNodeDto NODE1 = new KafkaNodeDto(1, "1", "host1", 9092, "rack1");
+    private static final KafkaNodeDto NODE2 = new KafkaNodeDto(2, "2", "host2", 9092, "rack2");
+
+    @Test
+    void testSnapshotHealthListsFirstAnomaliesAndCountsAll() {
+        // Given
+        var topic = new KafkaTopicDescriptionDto("topic1", false, List.of(
+                underReplicated(2), underReplicated(0), underReplicated(1),
+                new KafkaTopicPartitionInfoDto(3, NODE2, List.of(NODE1, NODE2), List.of(NODE1, NODE2), List.of(),
+                        List.of())), "topic1-id");
+        var snapshot = new KafkaClusterSnapshotDto(Instant.now(), "cluster-id", NODE1, List.of(NODE1, NODE2),
+                Set.of("topic1", "topic2"), Map.of("topic1", topic));
+
+        // When
+        KafkaClusterHealthDto result = snapshot.toHealth(2);
+
+        // Then
+        assertEquals(4, result.partitionCount());
+        assertEquals(3, result.underReplicatedPartitionCount());
+        assertEquals(List.of(0, 1), result.underReplicatedPartitions().stream()
+                .map(KafkaPartitionHealthDto::partition)
+                .toList());
+        assertEquals(0, result.offlinePartitionCount());
+        assertEquals(Map.of(1, 3L, 2, 1L), result.leaderCountByBroker());
+        assertEquals(2, result.topicCount());
+        assertEquals(1, result.undescribedTopicCount());
+    }
+
+    private static KafkaTopicPartitionInfoDto underReplicated(final int partition) {
+        return new KafkaTopicPartitionInfoDto(partition, NODE1, List.of(NODE1, NODE2), List.of(NODE1), List.of(),
+                List.of());
+    }
+}
@@ -0,0 +1,42 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KafkaCompactTopicDescriptionsDtoTest {
+    private static final KafkaNodeDto NODE1 = new KafkaNodeDto(1, "1", "host1", 9092, "rack1");
+    private static final KafkaNodeDto NODE2 = new KafkaNodeDto(2, "2", "host2", 9092, "rack2");
+    private static final KafkaNodeDto NODE3 = new KafkaNodeDto(3, "3", "host3", 9092, "rack3");
+
+    @Test
+    void testFromTopicDescriptions() {
+        // Given
+        var offlinePartition = new KafkaTopicPartitionInfoDto(1, KafkaNodeDto.fromKafkaNode(null),
+                List.of(NODE3, NODE2), List.of(), List.of(NODE3), List.of(NODE2));
+        var topic1 = new KafkaTopicDescriptionDto("topic1", false, List.of(
+                new KafkaTopicPartitionInfoDto(0, NODE2, List.of(NODE2, NODE1), List.of(NODE2, NODE1), List.of(),
+                        List.of()), offlinePartition), "topic1-id");
+        var topic2 = new KafkaTopicDescriptionDto("topic2", true, List.of(), "topic2-id");
+
+        // When
+        KafkaCompactTopicDescriptionsDto result = KafkaCompactTopicDescriptionsDto.fromTopicDescriptions(
+                List.of(topic1, topic2));
+
+        // Then
+        assertEquals(List.of(NODE1, NODE2, NODE3), result.nodes());
+        assertEquals(2, result.topics().size());
+        KafkaCompactTopicDescriptionDto compactTopic1 = result.topics().get(0);
+        assertEquals("topic1", compactTopic1.name());
+        assertArrayEquals(new int[] {0, 1}, compactTopic1.partitions());
+        assertArrayEquals(new int[] {2, -1}, compactTopic1.leaders());
+        assertArrayEquals(new int[][] {{2, 1}, {3, 2}}, compactTopic1.replicas());
+        assertArrayEquals(new int[][] {{2, 1}, {}}, compactTopic1.inSyncReplicas());
+        assertArrayEquals(new int[][] {{}, {3}}, compactTopic1.eligibleLeaderReplicas());
+        assertArrayEquals(new int[][] {{}, {2}}, compactTopic1.lastKnownEligibleLeaderReplicas());
+        assertEquals(KafkaCompactTopicDescriptionDto.fromTopicDescription(topic2), result.topics().get(1));
+    }
+}
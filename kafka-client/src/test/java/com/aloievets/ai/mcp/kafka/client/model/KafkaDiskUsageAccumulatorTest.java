@@ -0,0 +1,54 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.KafkaStorageException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KafkaDiskUsageAccumulatorTest {
+
+    @Test
+    void testDiskUsageListsLargestAggregatesAndCountsAll() {
+        // Given
+        var accumulator = new KafkaDiskUsageAccumulator(2);
+        accumulator.add(1, Map.of(
+                "/data1", new LogDirDescription(null, Map.of(
+                        new TopicPartition("topic1", 0), new ReplicaInfo(100, 0, false),
+                        new TopicPartition("topic2", 0), new ReplicaInfo(10, 0, false)), 1000, 500),
+                "/data2", new LogDirDescription(null, Map.of(
+                        new TopicPartition("topic1", 1), new ReplicaInfo(50, 0, false),
+                        new TopicPartition("topic1", 0), new ReplicaInfo(40, 7, true)), 2000, 1500)));
+        accumulator.add(2, Map.of(
+                "/data1", new LogDirDescription(null, Map.of(
+                        new TopicPartition("topic2", 0), new ReplicaInfo(20, 0, false),
+                        new TopicPartition("topic3", 0), new ReplicaInfo(5, 0, false))),
+                "/data2", new LogDirDescription(new KafkaStorageException("disk failure"), Map.of())));
+
+        // When
+        KafkaDiskUsageDto result = accumulator.toDiskUsage(3, Map.of(3, "TimeoutException: timed out"));
+
+        // Then
+        assertEquals(225, result.totalSize());
+        assertEquals(5, result.replicaCount());
+        assertEquals(List.of(new KafkaBrokerDiskUsageDto(1, 200, 3, 2, 3000, 2000),
+                new KafkaBrokerDiskUsageDto(2, 25, 2, 2, -1, -1)), result.brokers());
+        assertEquals(List.of(new KafkaTopicDiskUsageDto("topic1", 190, 2), new KafkaTopicDiskUsageDto("topic2", 30, 2)),
+                result.topics());
+        assertEquals(List.of(new KafkaBrokerTopicDiskUsageDto(1, "topic1", 190, 2),
+                new KafkaBrokerTopicDiskUsageDto(2, "topic2", 20, 1)), result.brokerTopics());
+        assertEquals(List.of(new KafkaLogDirDiskUsageDto(1, "/data1", 110, 2, 1000, 500),
+                new KafkaLogDirDiskUsageDto(1, "/data2", 90, 1, 2000, 1500)), result.logDirs());
+        assertEquals(1, result.futureReplicaCount());
+        assertEquals(7, result.futureReplicaOffsetLag());
+        assertEquals(List.of(new KafkaFutureReplicaDto(1, "/data2", "topic1", 0, 40, 7)), result.futureReplicas());
+        assertEquals(Set.of(3), result.failedBrokers().keySet());
+        assertEquals(Map.of("2:/data2", "KafkaStorageException: disk failure"), result.failedLogDirs());
+    }
+}
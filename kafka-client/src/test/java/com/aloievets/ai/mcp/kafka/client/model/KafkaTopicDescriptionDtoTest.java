@@ -0,0 +1,84 @@
+package com.aloievets.ai.mcp.kafka.client.model;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class KafkaTopicDescriptionDtoTest {
+    private static final int BROKERS = 3;
+    private static final int PARTITIONS = 10_000;
+
+    @Test
+    void testEveryBrokerMapsToSingleNodeInstance() {
+        // Given
+        var description = syntheticTopicDescription("topic1");
+
+        // When
+        KafkaTopicDescriptionDto result = KafkaTopicDescriptionDto.fromKafkaTopicDescription(description);
+
+        // Then
+        Set<KafkaNodeDto> distinctInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.partitions().forEach(partition -> {
+            distinctInstances.add(partition.partitionLeader());
+            distinctInstances.addAll(partition.partitionReplicas());
+            distinctInstances.addAll(partition.inSyncReplicas());
+            distinctInstances.addAll(partition.eligibleLeaderReplicas());
+            distinctInstances.addAll(partition.lastKnownEligibleLeaderReplicas());
+        });
+        // 5 node references per replica of every partition used to be 5 * 3 * 10k records
+        assertEquals(BROKERS, distinctInstances.size());
+        assertEquals(PARTITIONS, result.partitions().size());
+    }
+
+    @Test
+    void testInternerIsSharedAcrossTopics() {
+        // Given
+        var interner = new KafkaNodeDtoInterner();
+
+        // When
+        KafkaTopicDescriptionDto topic1 = KafkaTopicDescriptionDto.fromKafkaTopicDescription(
+                syntheticTopicDescription("topic1"), interner);
+        KafkaTopicDescriptionDto topic2 = KafkaTopicDescriptionDto.fromKafkaTopicDescription(
+                syntheticTopicDescription("topic2"), interner);
+
+        // Then
+        assertEquals(BROKERS, interner.size());
+        assertSame(topic1.partitions().get(0).partitionLeader(), topic2.partitions().get(0).partitionLeader());
+    }
+
+    @Test
+    void testInternedNodeEqualsDirectlyMappedNode() {
+        // Given
+        var node = new Node(1, "localhost", 9092, "rack1");
+        var interner = new KafkaNodeDtoInterner();
+
+        // When & Then
+        assertEquals(KafkaNodeDto.fromKafkaNode(node), interner.intern(node));
+        assertEquals(KafkaNodeDto.fromKafkaNode(null), interner.intern(null));
+    }
+
+    private static TopicDescription syntheticTopicDescription(final String topic) {
+        final List<TopicPartitionInfo> partitions = new ArrayList<>(PARTITIONS);
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            // fresh Node objects per partition, the way the AdminClient deserializes them
+            final List<Node> replicas = IntStream.range(0, BROKERS)
+                    .mapToObj(id -> new Node(id, "broker-" + id, 9092, "rack-" + id))
+                    .toList();
+            partitions.add(new TopicPartitionInfo(partition, replicas.get(partition % BROKERS), replicas, replicas,
+                    replicas, replicas));
+        }
+        return new TopicDescription(topic, false, partitions, Set.of(), Uuid.randomUuid());
+    }
+}
@@ -0,0 +1,81 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import com.aloievets.ai.mcp.kafka.client.service.InFlightRequestCoalescer.RequestKey;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.NetworkException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InFlightRequestCoalescerTest {
+    private static final RequestKey KEY = RequestKey.of("listTopics");
+
+    @Test
+    void testRequestIsIssuedAfterPlaceholderIsInstalled() throws Exception {
+        // Given
+        var coalescer = new InFlightRequestCoalescer(5000L);
+        var adminClientFuture = new KafkaFutureImpl<String>();
+        var joinedWhileIssuing = new AtomicReference<KafkaFuture<String>>();
+        var issued = new AtomicInteger();
+
+        // When
+        KafkaFuture<String> result = coalescer.coalesce(KEY, () -> {
+            issued.incrementAndGet();
+            joinedWhileIssuing.set(coalescer.coalesce(KEY, () -> {
+                issued.incrementAndGet();
+                return KafkaFuture.completedFuture("second");
+            }));
+            return adminClientFuture;
+        });
+        adminClientFuture.complete("topics");
+
+        // Then
+        assertSame(adminClientFuture, result);
+        assertEquals("topics", joinedWhileIssuing.get().get());
+        assertEquals(1, issued.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testFailureOfIssuingRequestIsThrownAndNotJoined() throws Exception {
+        // Given
+        var coalescer = new InFlightRequestCoalescer(5000L);
+        var failure = new IllegalStateException("admin client closed");
+
+        // When
+        var exception = assertThrows(IllegalStateException.class, () -> coalescer.coalesce(KEY, () -> {
+            throw failure;
+        }));
+        KafkaFuture<String> next = coalescer.coalesce(KEY, () -> KafkaFuture.completedFuture("topics"));
+
+        // Then
+        assertSame(failure, exception);
+        assertEquals("topics", next.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testFailedRequestIsReturnedToEveryCaller() {
+        // Given
+        var coalescer = new InFlightRequestCoalescer(5000L);
+        var adminClientFuture = new KafkaFutureImpl<String>();
+        KafkaFuture<String> first = coalescer.coalesce(KEY, () -> adminClientFuture);
+        KafkaFuture<String> second = coalescer.coalesce(KEY, KafkaFutureImpl::new);
+
+        // When
+        adminClientFuture.completeExceptionally(new NetworkException("connection lost"));
+
+        // Then
+        assertInstanceOf(NetworkException.class, assertThrows(ExecutionException.class, first::get).getCause());
+        assertInstanceOf(NetworkException.class, assertThrows(ExecutionException.class, second::get).getCause());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+}
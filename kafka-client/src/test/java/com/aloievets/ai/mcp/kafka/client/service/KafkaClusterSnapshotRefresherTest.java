@@ -0,0 +1,86 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterSnapshotDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionsResultDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaClusterSnapshotRefresherTest {
+    private static final KafkaNodeDto NODE = new KafkaNodeDto(1, "1", "localhost", 9092, "rack1");
+    @Mock
+    private KafkaStatusViewer kafkaStatusViewer;
+    private KafkaClusterSnapshotRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        refresher = new KafkaClusterSnapshotRefresher(kafkaStatusViewer);
+        when(kafkaStatusViewer.describeClusterAsync()).thenReturn(
+                CompletableFuture.completedFuture(new KafkaClusterDto("cluster-id", NODE, List.of(NODE))));
+        when(kafkaStatusViewer.listTopicsAsync()).thenReturn(CompletableFuture.completedFuture(Set.of("topic1", "topic3")));
+    }
+
+    @Test
+    void testIncrementalRefreshDescribesOnlyAddedTopics() {
+        // Given
+        var topic1 = description("topic1");
+        var previous = new KafkaClusterSnapshotDto(Instant.now(), "cluster-id", NODE, List.of(NODE),
+                Set.of("topic1", "topic2"), Map.of("topic1", topic1, "topic2", description("topic2")));
+        var topic3 = description("topic3");
+        when(kafkaStatusViewer.describeTopicsInBatchesAsync(Set.of("topic3"))).thenReturn(
+                CompletableFuture.completedFuture(new KafkaTopicDescriptionsResultDto(List.of(topic3), Map.of())));
+
+        // When
+        KafkaClusterSnapshotDto result = refresher.refreshAsync(previous, false).join();
+
+        // Then
+        assertEquals(Set.of("topic1", "topic3"), result.topicNames());
+        assertEquals(Set.of("topic1", "topic3"), result.topicDescriptions().keySet());
+        assertSame(topic1, result.topicDescriptions().get("topic1"));
+        assertSame(NODE, result.controller());
+        assertEquals("cluster-id", result.clusterId());
+        assertEquals(Set.of(), result.staleTopics());
+    }
+
+    @Test
+    void testFullRefreshKeepsPreviousLayoutOfFailedTopics() {
+        // Given
+        var topic1 = description("topic1");
+        var previous = new KafkaClusterSnapshotDto(Instant.now(), "cluster-id", NODE, List.of(NODE),
+                Set.of("topic1"), Map.of("topic1", topic1));
+        var topic3 = description("topic3");
+        when(kafkaStatusViewer.describeTopicsInBatchesAsync(Set.of("topic1", "topic3"))).thenReturn(
+                CompletableFuture.completedFuture(new KafkaTopicDescriptionsResultDto(List.of(topic3),
+                        Map.of("topic1", "timeout"))));
+
+        // When
+        KafkaClusterSnapshotDto result = refresher.refreshAsync(previous, true).join();
+
+        // Then
+        verify(kafkaStatusViewer).describeTopicsInBatchesAsync(Set.of("topic1", "topic3"));
+        assertSame(topic1, result.topicDescriptions().get("topic1"));
+        assertSame(topic3, result.topicDescriptions().get("topic3"));
+        assertEquals(Set.of("topic1"), result.staleTopics());
+    }
+
+    private static KafkaTopicDescriptionDto description(final String topic) {
+        return new KafkaTopicDescriptionDto(topic, false, List.of(), topic + "-id");
+    }
+}
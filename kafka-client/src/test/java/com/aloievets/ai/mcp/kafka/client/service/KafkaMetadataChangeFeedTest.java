@@ -0,0 +1,132 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterSnapshotDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangeType;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangesDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicPartitionInfoDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KafkaMetadataChangeFeedTest {
+    private static final KafkaNodeDto NODE1 = new KafkaNodeDto(1, "1", "host1", 9092, "rack1");
+    private static final KafkaNodeDto NODE2 = new KafkaNodeDto(2, "2", "host2", 9092, "rack2");
+    private static final KafkaNodeDto NODE3 = new KafkaNodeDto(3, "3", "host3", 9092, "rack3");
+    private static final Instant T1 = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant T2 = Instant.parse("2026-01-01T10:01:00Z");
+    private static final Instant EPOCH = Instant.parse("2026-01-01T09:00:00Z");
+
+    @Test
+    void testSnapshotChangesAreRecorded() {
+        // Given
+        var feed = new KafkaMetadataChangeFeed(100, EPOCH);
+        var unchanged = topic("topic1", partition(0, NODE1, NODE1, NODE2));
+        var previous = new KafkaClusterSnapshotDto(T1, "cluster-id", NODE1, List.of(NODE1, NODE2),
+                Set.of("topic1", "topic2", "topic3"), Map.of("topic1", unchanged,
+                "topic2", topic("topic2", partition(0, NODE1, NODE1, NODE2)),
+                "topic3", topic("topic3", partition(0, NODE2, NODE2))));
+        var current = new KafkaClusterSnapshotDto(T2, "cluster-id", NODE2, List.of(NODE2, NODE3),
+                Set.of("topic1", "topic2", "topic4"), Map.of("topic1", unchanged,
+                "topic2", topic("topic2", partition(0, NODE2, NODE2, NODE3), partition(1, NODE2, NODE2)),
+                "topic4", topic("topic4", partition(0, NODE3, NODE3))));
+
+        // When
+        feed.record(previous, current);
+        KafkaMetadataChangesDto result = feed.changesAfter(null, null, 100);
+
+        // Then
+        assertEquals(List.of(
+                change(1, KafkaMetadataChangeType.BROKER_JOINED, "3", "", "host3:9092"),
+                change(2, KafkaMetadataChangeType.BROKER_LEFT, "1", "host1:9092", ""),
+                change(3, KafkaMetadataChangeType.CONTROLLER_CHANGED, "controller", "1", "2"),
+                change(4, KafkaMetadataChangeType.PARTITION_COUNT_CHANGED, "topic2", "1", "2"),
+                change(5, KafkaMetadataChangeType.LEADER_CHANGED, "topic2-0", "1", "2"),
+                change(6, KafkaMetadataChangeType.ISR_SHRUNK, "topic2-0", "[1, 2]", "[2, 3]"),
+                change(7, KafkaMetadataChangeType.ISR_EXPANDED, "topic2-0", "[1, 2]", "[2, 3]"),
+                change(8, KafkaMetadataChangeType.TOPIC_CREATED, "topic4", "", "1"),
+                change(9, KafkaMetadataChangeType.TOPIC_DELETED, "topic3", "1", "")), result.changes());
+        assertEquals("2026-01-01T09:00:00Z/9", result.nextCursor());
+        assertFalse(result.hasMore());
+        assertTrue(result.complete());
+    }
+
+    @Test
+    void testFeedIsPagedAndReportsEvictedChanges() {
+        // Given
+        var feed = new KafkaMetadataChangeFeed(2, EPOCH);
+        var first = new KafkaClusterSnapshotDto(T1, "cluster-id", NODE1, List.of(NODE1), Set.of(), Map.of());
+        var second = new KafkaClusterSnapshotDto(T2, "cluster-id", NODE1, List.of(NODE1, NODE2, NODE3), Set.of(),
+                Map.of());
+        var third = new KafkaClusterSnapshotDto(T2.plusSeconds(60), "cluster-id", NODE1, List.of(NODE1, NODE2),
+                Set.of(), Map.of());
+        feed.record(first, second);
+        feed.record(second, third);
+
+        // When
+        KafkaMetadataChangesDto fromStart = feed.changesAfter("", null, 1);
+        KafkaMetadataChangesDto next = feed.changesAfter(fromStart.nextCursor(), null, 1);
+        KafkaMetadataChangesDto sinceSecond = feed.changesAfter(null, T2.plusSeconds(1), 10);
+
+        // Then
+        assertEquals(List.of(change(2, T2, KafkaMetadataChangeType.BROKER_JOINED, "3", "", "host3:9092")),
+                fromStart.changes());
+        assertTrue(fromStart.hasMore());
+        assertFalse(fromStart.complete());
+        assertEquals(List.of(3L), next.changes().stream().map(KafkaMetadataChangeDto::cursor).toList());
+        assertEquals("2026-01-01T09:00:00Z/3", next.nextCursor());
+        assertTrue(next.complete());
+        assertEquals(List.of(3L), sinceSecond.changes().stream().map(KafkaMetadataChangeDto::cursor).toList());
+        assertTrue(sinceSecond.complete());
+    }
+
+    @Test
+    void testCursorOfEarlierFeedStartsAtOldestChangeAndIsIncomplete() {
+        // Given
+        var feed = new KafkaMetadataChangeFeed(100, EPOCH);
+        var first = new KafkaClusterSnapshotDto(T1, "cluster-id", NODE1, List.of(NODE1), Set.of(), Map.of());
+        var second = new KafkaClusterSnapshotDto(T2, "cluster-id", NODE1, List.of(NODE1, NODE2), Set.of(), Map.of());
+        feed.record(first, second);
+
+        // When
+        KafkaMetadataChangesDto current = feed.changesAfter("2026-01-01T09:00:00Z/0", null, 10);
+        KafkaMetadataChangesDto earlierFeed = feed.changesAfter("2025-12-31T09:00:00Z/0", null, 10);
+
+        // Then
+        assertEquals(List.of(1L), current.changes().stream().map(KafkaMetadataChangeDto::cursor).toList());
+        assertTrue(current.complete());
+        assertEquals(List.of(1L), earlierFeed.changes().stream().map(KafkaMetadataChangeDto::cursor).toList());
+        assertEquals("2026-01-01T09:00:00Z/1", earlierFeed.nextCursor());
+        assertFalse(earlierFeed.complete());
+        assertThrows(IllegalArgumentException.class, () -> feed.changesAfter("7", null, 10));
+    }
+
+    private static KafkaMetadataChangeDto change(final long cursor, final KafkaMetadataChangeType type,
+            final String subject, final String before, final String after) {
+        return change(cursor, T2, type, subject, before, after);
+    }
+
+    private static KafkaMetadataChangeDto change(final long cursor, final Instant timestamp,
+            final KafkaMetadataChangeType type, final String subject, final String before, final String after) {
+        return new KafkaMetadataChangeDto(cursor, timestamp, type, subject, before, after);
+    }
+
+    private static KafkaTopicDescriptionDto topic(final String name, final KafkaTopicPartitionInfoDto... partitions) {
+        return new KafkaTopicDescriptionDto(name, false, List.of(partitions), name + "-id");
+    }
+
+    private static KafkaTopicPartitionInfoDto partition(final int partition, final KafkaNodeDto leader,
+            final KafkaNodeDto... isr) {
+        return new KafkaTopicPartitionInfoDto(partition, leader, List.of(isr), List.of(isr), List.of(), List.of());
+    }
+}
@@ -1,19 +1,52 @@
 package com.aloievets.ai.mcp.kafka.client.service;
 
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterHealthDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterOverviewDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaConsumerGroupLagDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaConsumerGroupTopicLagDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaConsumerLagDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaDiskUsageDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaPartitionHealthDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionsResultDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDiskUsageDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftKind;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftReportDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicSpecDto;
 import com.aloievets.ai.mcp.kafka.client.service.exceptions.KafkaClientException;
 import com.aloievets.ai.mcp.kafka.client.service.exceptions.KafkaClientTimeoutException;
 import com.aloievets.ai.mcp.kafka.client.service.exceptions.TopicsNotExistException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeLogDirsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.ReplicaInfo;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.BrokerNotAvailableException;
+import org.apache.kafka.common.errors.GroupAuthorizationException;
 import org.apache.kafka.common.errors.TopicAuthorizationException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,13 +56,26 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -280,4 +326,488 @@ class KafkaStatusViewerTest {
         // When & Then
         assertThrows(TopicsNotExistException.class, () -> kafkaStatusViewer.describeTopics(topicNames));
     }
+
+    @Test
+    void testDescribeClusterControllerAsync() throws Exception {
+        // Given
+        var node = new Node(1, "localhost", 9092);
+        when(kafkaAdminClient.describeCluster()).thenReturn(describeClusterResult);
+        when(describeClusterResult.controller()).thenReturn(KafkaFuture.completedFuture(node));
+
+        // When
+        KafkaNodeDto result = kafkaStatusViewer.describeClusterControllerAsync().get();
+
+        // Then
+        assertEquals(1, result.id());
+        assertEquals("localhost", result.host());
+        assertEquals(9092, result.port());
+    }
+
+    @Test
+    void testDescribeClusterControllerAsyncTimeout() {
+        // Given
+        when(kafkaAdminClient.describeCluster()).thenReturn(describeClusterResult);
+        when(describeClusterResult.controller()).thenReturn(new KafkaFutureImpl<>());
+
+        // When
+        CompletableFuture<KafkaNodeDto> result = kafkaStatusViewer.describeClusterControllerAsync();
+
+        // Then
+        assertAsyncFailure(KafkaClientTimeoutException.class, result);
+    }
+
+    @Test
+    void testDescribeClusterNodesAsync() throws Exception {
+        // Given
+        var nodes = List.of(new Node(1, "localhost", 9092), new Node(2, "localhost", 9093));
+        when(kafkaAdminClient.describeCluster()).thenReturn(describeClusterResult);
+        when(describeClusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(nodes));
+
+        // When
+        List<KafkaNodeDto> result = kafkaStatusViewer.describeClusterNodesAsync().get();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(0).id());
+        assertEquals(2, result.get(1).id());
+    }
+
+    @Test
+    void testDescribeClusterNodesAsyncExecutionException() {
+        // Given
+        when(kafkaAdminClient.describeCluster()).thenReturn(describeClusterResult);
+        when(describeClusterResult.nodes()).thenReturn(failedFuture(new RuntimeException()));
+
+        // When
+        CompletableFuture<List<KafkaNodeDto>> result = kafkaStatusViewer.describeClusterNodesAsync();
+
+        // Then
+        assertAsyncFailure(KafkaClientException.class, result);
+    }
+
+    @Test
+    void testListTopicsAsync() throws Exception {
+        // Given
+        var topics = Set.of("topic1", "topic2");
+        when(kafkaAdminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(topics));
+
+        // When
+        Set<String> result = kafkaStatusViewer.listTopicsAsync().get();
+
+        // Then
+        assertEquals(topics, result);
+    }
+
+    @Test
+    void testDescribeTopicsAsync() throws Exception {
+        // Given
+        var topicNames = List.of("topic1");
+        var node = new Node(1, "localhost", 9092);
+        var partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        var topicDescription = new TopicDescription("topic1", false, List.of(partition));
+        when(kafkaAdminClient.describeTopics(topicNames)).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames()).thenReturn(KafkaFuture.completedFuture(Map.of("topic1", topicDescription)));
+
+        // When
+        List<KafkaTopicDescriptionDto> result = kafkaStatusViewer.describeTopicsAsync(topicNames).get();
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("topic1", result.get(0).name());
+    }
+
+    @Test
+    void testDescribeTopicsAsyncTopicAuthorizationException() {
+        // Given
+        var topicNames = List.of("topic1");
+        when(kafkaAdminClient.describeTopics(topicNames)).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames()).thenReturn(failedFuture(new TopicAuthorizationException(Set.of("topic1"))));
+
+        // When
+        CompletableFuture<List<KafkaTopicDescriptionDto>> result = kafkaStatusViewer.describeTopicsAsync(topicNames);
+
+        // Then
+        assertAsyncFailure(TopicsNotExistException.class, result);
+    }
+
+    @Test
+    void testConcurrentIdenticalDescribeTopicsShareInFlightRequest() throws Exception {
+        // Given
+        var node = new Node(1, "localhost", 9092);
+        var partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        var topicDescriptions = Map.of(
+                "topic1", new TopicDescription("topic1", false, List.of(partition)),
+                "topic2", new TopicDescription("topic2", false, List.of(partition)));
+        var inFlight = new KafkaFutureImpl<Map<String, TopicDescription>>();
+        when(kafkaAdminClient.describeTopics(anyCollection())).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames()).thenReturn(inFlight);
+
+        // When
+        CompletableFuture<List<KafkaTopicDescriptionDto>> first = kafkaStatusViewer.describeTopicsAsync(List.of("topic1", "topic2"));
+        CompletableFuture<List<KafkaTopicDescriptionDto>> second = kafkaStatusViewer.describeTopicsAsync(List.of("topic2", "topic1"));
+        inFlight.complete(topicDescriptions);
+
+        // Then
+        assertEquals(2, first.get().size());
+        assertEquals(2, second.get().size());
+        verify(kafkaAdminClient, times(1)).describeTopics(anyCollection());
+    }
+
+    @Test
+    void testHangingRequestIsNotJoinedAfterTimeout() {
+        // Given
+        var viewer = new KafkaStatusViewer(kafkaAdminClient, 50L);
+        when(kafkaAdminClient.describeTopics(anyCollection())).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames()).thenReturn(new KafkaFutureImpl<>());
+
+        // When
+        CompletableFuture<List<KafkaTopicDescriptionDto>> first = viewer.describeTopicsAsync(List.of("topic1"));
+        assertAsyncFailure(KafkaClientTimeoutException.class, first);
+        CompletableFuture<List<KafkaTopicDescriptionDto>> second = viewer.describeTopicsAsync(List.of("topic1"));
+
+        // Then
+        assertAsyncFailure(KafkaClientTimeoutException.class, second);
+        verify(kafkaAdminClient, times(2)).describeTopics(anyCollection());
+    }
+
+    @Test
+    void testCompletedRequestIsNotReused() {
+        // Given
+        when(kafkaAdminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic1")));
+
+        // When
+        kafkaStatusViewer.listTopics();
+        kafkaStatusViewer.listTopics();
+
+        // Then
+        verify(kafkaAdminClient, times(2)).listTopics();
+    }
+
+    @Test
+    void testDescribeTopicsInBatchesReturnsPartialResults() throws Exception {
+        // Given
+        var viewer = new KafkaStatusViewer(kafkaAdminClient, TIMEOUT_MS, 2, 1);
+        var node = new Node(1, "localhost", 9092);
+        var partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        var firstBatchResult = mock(DescribeTopicsResult.class);
+        var secondBatchResult = mock(DescribeTopicsResult.class);
+        when(kafkaAdminClient.describeTopics(List.of("topic1", "topic2"))).thenReturn(firstBatchResult);
+        when(kafkaAdminClient.describeTopics(List.of("topic3"))).thenReturn(secondBatchResult);
+        when(firstBatchResult.topicNameValues()).thenReturn(Map.of(
+                "topic1", KafkaFuture.completedFuture(new TopicDescription("topic1", false, List.of(partition))),
+                "topic2", failedFuture(new UnknownTopicOrPartitionException("unknown topic"))));
+        when(secondBatchResult.topicNameValues()).thenReturn(Map.of(
+                "topic3", KafkaFuture.completedFuture(new TopicDescription("topic3", false, List.of(partition)))));
+
+        // When
+        KafkaTopicDescriptionsResultDto result = viewer.describeTopicsInBatchesAsync(
+                List.of("topic1", "topic2", "topic3", "topic1")).get();
+
+        // Then
+        assertEquals(List.of("topic1", "topic3"), result.topicDescriptions().stream()
+                .map(KafkaTopicDescriptionDto::name)
+                .toList());
+        assertEquals(Set.of("topic2"), result.failedTopics().keySet());
+    }
+
+    @Test
+    void testDescribeTopicsInBatchesReportsTimedOutTopics() throws Exception {
+        // Given
+        var viewer = new KafkaStatusViewer(kafkaAdminClient, TIMEOUT_MS, 10, 2);
+        var node = new Node(1, "localhost", 9092);
+        var partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        when(kafkaAdminClient.describeTopics(List.of("topic1", "topic2"))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(
+                "topic1", KafkaFuture.completedFuture(new TopicDescription("topic1", false, List.of(partition))),
+                "topic2", new KafkaFutureImpl<>()));
+
+        // When
+        KafkaTopicDescriptionsResultDto result = viewer.describeTopicsInBatchesAsync(List.of("topic1", "topic2")).get();
+
+        // Then
+        assertEquals(1, result.topicDescriptions().size());
+        assertEquals(Set.of("topic2"), result.failedTopics().keySet());
+    }
+
+    @Test
+    void testResultArrivingAfterTimeoutIsDropped() throws Exception {
+        // Given
+        var viewer = new KafkaStatusViewer(kafkaAdminClient, 50L, 10, 1);
+        var lateFuture = new KafkaFutureImpl<TopicDescription>();
+        var lateDescription = mock(TopicDescription.class);
+        when(kafkaAdminClient.describeTopics(List.of("topic1"))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of("topic1", lateFuture));
+        KafkaTopicDescriptionsResultDto result = viewer.describeTopicsInBatchesAsync(List.of("topic1")).get();
+
+        // When
+        lateFuture.complete(lateDescription);
+
+        // Then
+        assertTrue(result.topicDescriptions().isEmpty());
+        assertEquals(Set.of("topic1"), result.failedTopics().keySet());
+        verifyNoInteractions(lateDescription);
+    }
+
+    @Test
+    void testDescribeClusterOverviewAsyncIssuesSingleDescribeCluster() throws Exception {
+        // Given
+        var node1 = new Node(1, "localhost", 9092);
+        var node2 = new Node(2, "localhost", 9093);
+        when(kafkaAdminClient.describeCluster()).thenReturn(describeClusterResult);
+        when(describeClusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of(node1, node2)));
+        when(describeClusterResult.controller()).thenReturn(KafkaFuture.completedFuture(node1));
+        when(describeClusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture("cluster-id"));
+        when(kafkaAdminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic1", "topic2")));
+
+        // When
+        KafkaClusterOverviewDto result = kafkaStatusViewer.describeClusterOverviewAsync().get();
+
+        // Then
+        assertEquals("cluster-id", result.clusterId());
+        assertEquals(1, result.controller().id());
+        assertEquals(2, result.brokerCount());
+        assertEquals(2, result.topicCount());
+        assertNull(result.partitionCount());
+        verify(kafkaAdminClient, times(1)).describeCluster();
+        verify(kafkaAdminClient, never()).describeTopics(anyCollection());
+    }
+
+    @Test
+    void testDescribeClusterHealthAsyncReportsOnlyAnomalies() throws Exception {
+        // Given
+        var node1 = new Node(1, "localhost", 9092);
+        var node2 = new Node(2, "localhost", 9093);
+        var node3 = new Node(3, "localhost", 9094);
+        var healthy = new TopicPartitionInfo(0, node1, List.of(node1, node2), List.of(node1, node2));
+        var underReplicated = new TopicPartitionInfo(1, node2, List.of(node1, node2), List.of(node2));
+        var offline = new TopicPartitionInfo(0, null, List.of(node1), List.of(), List.of(node1), List.of());
+        when(kafkaAdminClient.describeCluster()).thenReturn(describeClusterResult);
+        when(describeClusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of(node1, node2, node3)));
+        when(describeClusterResult.controller()).thenReturn(KafkaFuture.completedFuture(node1));
+        when(describeClusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture("cluster-id"));
+        when(kafkaAdminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic1", "topic2", "topic3")));
+        when(kafkaAdminClient.describeTopics(anyCollection())).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(
+                "topic1", KafkaFuture.completedFuture(new TopicDescription("topic1", false, List.of(healthy, underReplicated))),
+                "topic2", KafkaFuture.completedFuture(new TopicDescription("topic2", false, List.of(offline))),
+                "topic3", failedFuture(new UnknownTopicOrPartitionException("unknown"))));
+
+        // When
+        KafkaClusterHealthDto result = kafkaStatusViewer.describeClusterHealthAsync(10).get();
+
+        // Then
+        assertEquals(3, result.brokerCount());
+        assertEquals(3, result.topicCount());
+        assertEquals(3, result.partitionCount());
+        assertEquals(1, result.undescribedTopicCount());
+        assertEquals(Map.of(1, 1L, 2, 1L, 3, 0L), result.leaderCountByBroker());
+        assertEquals(List.of(new KafkaPartitionHealthDto("topic1", 1, 2, List.of(1, 2), List.of(2), List.of()),
+                new KafkaPartitionHealthDto("topic2", 0, -1, List.of(1), List.of(), List.of(1))),
+                result.underReplicatedPartitions());
+        assertEquals(List.of(new KafkaPartitionHealthDto("topic2", 0, -1, List.of(1), List.of(), List.of(1))),
+                result.offlinePartitions());
+        assertEquals(1, result.eligibleLeaderReplicasPartitionCount());
+        verify(kafkaAdminClient, times(1)).describeCluster();
+    }
+
+    @Test
+    void testDescribeConsumerLagAsyncIssuesSingleRequestPerStep() throws Exception {
+        // Given
+        var topic1Partition0 = new TopicPartition("topic1", 0);
+        var topic1Partition1 = new TopicPartition("topic1", 1);
+        var topic2Partition0 = new TopicPartition("topic2", 0);
+        var listConsumerGroupsResult = mock(ListConsumerGroupsResult.class);
+        var listConsumerGroupOffsetsResult = mock(ListConsumerGroupOffsetsResult.class);
+        var listOffsetsResult = mock(ListOffsetsResult.class);
+        when(kafkaAdminClient.listConsumerGroups()).thenReturn(listConsumerGroupsResult);
+        when(listConsumerGroupsResult.all()).thenReturn(KafkaFuture.completedFuture(List.of(
+                new ConsumerGroupListing("group1", false), new ConsumerGroupListing("group2", false),
+                new ConsumerGroupListing("group3", false))));
+        when(kafkaAdminClient.listConsumerGroupOffsets(anyMap())).thenReturn(listConsumerGroupOffsetsResult);
+        when(listConsumerGroupOffsetsResult.partitionsToOffsetAndMetadata("group1")).thenReturn(
+                KafkaFuture.completedFuture(Map.of(topic1Partition0, new OffsetAndMetadata(10),
+                        topic1Partition1, new OffsetAndMetadata(20))));
+        when(listConsumerGroupOffsetsResult.partitionsToOffsetAndMetadata("group2")).thenReturn(
+                KafkaFuture.completedFuture(Map.of(topic1Partition0, new OffsetAndMetadata(90),
+                        topic2Partition0, new OffsetAndMetadata(5))));
+        when(listConsumerGroupOffsetsResult.partitionsToOffsetAndMetadata("group3")).thenReturn(
+                failedFuture(new GroupAuthorizationException("not authorized")));
+        when(kafkaAdminClient.listOffsets(anyMap())).thenReturn(listOffsetsResult);
+        when(listOffsetsResult.partitionResult(topic1Partition0)).thenReturn(
+                KafkaFuture.completedFuture(new ListOffsetsResultInfo(100, -1, Optional.empty())));
+        when(listOffsetsResult.partitionResult(topic1Partition1)).thenReturn(
+                KafkaFuture.completedFuture(new ListOffsetsResultInfo(20, -1, Optional.empty())));
+        when(listOffsetsResult.partitionResult(topic2Partition0)).thenReturn(
+                failedFuture(new UnknownTopicOrPartitionException("unknown")));
+
+        // When
+        KafkaConsumerLagDto result = kafkaStatusViewer.describeConsumerLagAsync(1).get();
+
+        // Then
+        assertEquals(3, result.groupCount());
+        assertEquals(100, result.totalLag());
+        assertEquals(List.of(new KafkaConsumerGroupLagDto("group1", 90, 1, 2)), result.groups());
+        assertEquals(List.of(new KafkaConsumerGroupTopicLagDto("group1", "topic1", 90, 90, 2)), result.topics());
+        assertEquals(List.of("group3"), result.failedGroups());
+        assertEquals(1, result.failedPartitionCount());
+        verify(kafkaAdminClient, times(1)).listConsumerGroupOffsets(anyMap());
+        verify(kafkaAdminClient, times(1)).listOffsets(argThat((Map<TopicPartition, OffsetSpec> specs) -> specs
+                .keySet()
+                .equals(Set.of(topic1Partition0, topic1Partition1, topic2Partition0))));
+    }
+
+    @Test
+    void testDescribeDiskUsageAsyncIssuesSingleDescribeLogDirs() throws Exception {
+        // Given
+        var node1 = new Node(1, "localhost", 9092);
+        var node2 = new Node(2, "localhost", 9093);
+        var describeLogDirsResult = mock(DescribeLogDirsResult.class);
+        when(kafkaAdminClient.describeCluster()).thenReturn(describeClusterResult);
+        when(describeClusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of(node1, node2)));
+        when(kafkaAdminClient.describeLogDirs(List.of(1, 2))).thenReturn(describeLogDirsResult);
+        when(describeLogDirsResult.descriptions()).thenReturn(Map.of(
+                1, KafkaFuture.completedFuture(Map.of("/data", new LogDirDescription(null, Map.of(
+                        new TopicPartition("topic1", 0), new ReplicaInfo(100, 0, false))))),
+                2, failedFuture(new BrokerNotAvailableException("broker down"))));
+
+        // When
+        KafkaDiskUsageDto result = kafkaStatusViewer.describeDiskUsageAsync(10).get();
+
+        // Then
+        assertEquals(2, result.brokerCount());
+        assertEquals(100, result.totalSize());
+        assertEquals(List.of(new KafkaTopicDiskUsageDto("topic1", 100, 1)), result.topics());
+        assertEquals(Map.of(2, "BrokerNotAvailableException: broker down"), result.failedBrokers());
+        verify(kafkaAdminClient, times(1)).describeLogDirs(List.of(1, 2));
+    }
+
+    @Test
+    void testDescribeTopicDriftAsyncReportsOnlyDifferences() throws Exception {
+        // Given
+        var viewer = new KafkaStatusViewer(kafkaAdminClient, TIMEOUT_MS, 10, 1);
+        var node1 = new Node(1, "localhost", 9092);
+        var node2 = new Node(2, "localhost", 9093);
+        var partition0 = new TopicPartitionInfo(0, node1, List.of(node1, node2), List.of(node1, node2));
+        var partition1 = new TopicPartitionInfo(1, node2, List.of(node2, node1), List.of(node2, node1));
+        var describeConfigsResult = mock(DescribeConfigsResult.class);
+        var declaredTopics = Map.of(
+                "topic1", new KafkaTopicSpecDto("topic1", 2, 2, Map.of("retention.ms", "1000")),
+                "topic2", new KafkaTopicSpecDto("topic2", 3, 3, Map.of("cleanup.policy", "compact")),
+                "topic3", new KafkaTopicSpecDto("topic3", 1, 1, Map.of()));
+        when(kafkaAdminClient.listTopics()).thenReturn(listTopicsResult);
+        when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic1", "topic2", "topic4")));
+        when(kafkaAdminClient.describeTopics(anyCollection())).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(
+                "topic1", KafkaFuture.completedFuture(new TopicDescription("topic1", false, List.of(partition0, partition1))),
+                "topic2", KafkaFuture.completedFuture(new TopicDescription("topic2", false, List.of(partition0, partition1)))));
+        when(kafkaAdminClient.describeConfigs(anyCollection())).thenReturn(describeConfigsResult);
+        when(describeConfigsResult.values()).thenReturn(Map.of(
+                new ConfigResource(ConfigResource.Type.TOPIC, "topic1"), KafkaFuture.completedFuture(new Config(List.of(
+                        new ConfigEntry("retention.ms", "1000"),
+                        topicOverride("cleanup.policy", "delete")))),
+                new ConfigResource(ConfigResource.Type.TOPIC, "topic2"), KafkaFuture.completedFuture(new Config(List.of(
+                        new ConfigEntry("cleanup.policy", "delete")))),
+                new ConfigResource(ConfigResource.Type.TOPIC, "topic4"), KafkaFuture.completedFuture(new Config(List.of()))));
+
+        // When
+        KafkaTopicDriftReportDto result = viewer.describeTopicDriftAsync(declaredTopics, 10).get();
+
+        // Then
+        assertEquals(2, result.comparedTopicCount());
+        assertEquals(2, result.driftedTopicCount());
+        assertEquals(List.of(
+                new KafkaTopicDriftDto("topic1", KafkaTopicDriftKind.UNDECLARED_CONFIG, "cleanup.policy", "", "delete"),
+                new KafkaTopicDriftDto("topic2", KafkaTopicDriftKind.PARTITION_COUNT, "partitions", "3", "2"),
+                new KafkaTopicDriftDto("topic2", KafkaTopicDriftKind.REPLICATION_FACTOR, "replicationFactor", "3", "2"),
+                new KafkaTopicDriftDto("topic2", KafkaTopicDriftKind.CONFIG_VALUE, "cleanup.policy", "compact",
+                        "delete")), result.drifts());
+        assertEquals(List.of("topic3"), result.missingTopics());
+        assertEquals(List.of("topic4"), result.undeclaredTopics());
+        assertEquals(0, result.failedTopicCount());
+        verify(kafkaAdminClient, times(1)).describeConfigs(anyCollection());
+    }
+
+    @Test
+    void testRequestMetricsAreRecordedPerOutcome() throws Exception {
+        // Given
+        var meterRegistry = new SimpleMeterRegistry();
+        var viewer = new KafkaStatusViewer(kafkaAdminClient, TIMEOUT_MS, 10, 1, Map.of(),
+                new MicrometerAdminClientMetrics(meterRegistry, "cluster-a"));
+        var node = new Node(1, "localhost", 9092);
+        var partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        var topicDescription = new TopicDescription("topic1", false, List.of(partition, partition));
+        when(kafkaAdminClient.describeTopics(List.of("topic1"))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames())
+                .thenReturn(KafkaFuture.completedFuture(Map.of("topic1", topicDescription)))
+                .thenReturn(failedFuture(new TopicAuthorizationException(Set.of("topic1"))));
+
+        // When
+        viewer.describeTopicsAsync(List.of("topic1")).get();
+        assertAsyncFailure(TopicsNotExistException.class, viewer.describeTopicsAsync(List.of("topic1")));
+
+        // Then
+        assertEquals(2, meterRegistry.get(MicrometerAdminClientMetrics.REQUEST_LATENCY)
+                .tags("cluster", "cluster-a", "operation", "describeTopics")
+                .timer()
+                .count());
+        assertEquals(1, meterRegistry.get(MicrometerAdminClientMetrics.REQUESTS)
+                .tags("operation", "describeTopics", "outcome", "success")
+                .counter()
+                .count());
+        assertEquals(1, meterRegistry.get(MicrometerAdminClientMetrics.REQUESTS)
+                .tags("operation", "describeTopics", "outcome", "authorization")
+                .counter()
+                .count());
+        assertEquals(2, meterRegistry.get(MicrometerAdminClientMetrics.RESULT_SIZE)
+                .tags("operation", "describeTopics", "unit", "partitions")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    void testBatchedRequestMetricsReportTimedOutBatches() throws Exception {
+        // Given
+        var meterRegistry = new SimpleMeterRegistry();
+        var viewer = new KafkaStatusViewer(kafkaAdminClient, TIMEOUT_MS, 10, 1, Map.of(),
+                new MicrometerAdminClientMetrics(meterRegistry, "cluster-a"));
+        var node = new Node(1, "localhost", 9092);
+        var partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        when(kafkaAdminClient.describeTopics(List.of("topic1", "topic2"))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(
+                "topic1", KafkaFuture.completedFuture(new TopicDescription("topic1", false, List.of(partition))),
+                "topic2", new KafkaFutureImpl<>()));
+
+        // When
+        viewer.describeTopicsInBatchesAsync(List.of("topic1", "topic2")).get();
+
+        // Then
+        assertEquals(1, meterRegistry.get(MicrometerAdminClientMetrics.REQUESTS)
+                .tags("operation", "describeTopics", "outcome", "timeout")
+                .counter()
+                .count());
+        assertEquals(1, meterRegistry.get(MicrometerAdminClientMetrics.RESULT_SIZE)
+                .tags("operation", "describeTopics", "unit", "topics")
+                .summary()
+                .totalAmount());
+    }
+
+    private static <T> KafkaFuture<T> failedFuture(final Throwable error) {
+        final KafkaFutureImpl<T> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    private static ConfigEntry topicOverride(final String name, final String value) {
+        return new ConfigEntry(name, value, ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(),
+                ConfigEntry.ConfigType.STRING, null);
+    }
+
+    private static void assertAsyncFailure(final Class<? extends Throwable> expected, final CompletableFuture<?> future) {
+        final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(expected, thrown.getCause());
+    }
 }
@@ -0,0 +1,181 @@
+package com.aloievets.ai.mcp.kafka.client.service;
+
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.NetworkException;
+import org.apache.kafka.common.errors.TopicAuthorizationException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResilientRequestExecutorTest {
+    private static final long TIMEOUT_MS = 5000L;
+
+    @Test
+    void testSingleAttemptPolicyReturnsAdminClientFuture() {
+        // Given
+        var executor = new ResilientRequestExecutor(Map.of(), TIMEOUT_MS);
+        var adminClientFuture = new KafkaFutureImpl<String>();
+
+        // When
+        KafkaFuture<String> result = executor.execute(AdminOperation.LIST_TOPICS, () -> adminClientFuture);
+
+        // Then
+        assertSame(adminClientFuture, result);
+    }
+
+    @Test
+    void testRetriableFailuresAreRetried() throws Exception {
+        // Given
+        var executor = new ResilientRequestExecutor(
+                Map.of(AdminOperation.LIST_TOPICS, new ResiliencePolicy(3, 1, 5, false, 0)), TIMEOUT_MS);
+        var attempts = new AtomicInteger();
+
+        // When
+        KafkaFuture<String> result = executor.execute(AdminOperation.LIST_TOPICS, () -> attempts.incrementAndGet() < 3
+                ? failedFuture(new NetworkException("connection lost"))
+                : KafkaFuture.completedFuture("topics"));
+
+        // Then
+        assertEquals("topics", result.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testLastFailureIsReturnedWhenAttemptsAreExhausted() {
+        // Given
+        var executor = new ResilientRequestExecutor(
+                Map.of(AdminOperation.LIST_TOPICS, new ResiliencePolicy(2, 1, 5, false, 0)), TIMEOUT_MS);
+        var attempts = new AtomicInteger();
+
+        // When
+        KafkaFuture<String> result = executor.execute(AdminOperation.LIST_TOPICS, () -> failedFuture(
+                new NetworkException("attempt " + attempts.incrementAndGet())));
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> result.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertInstanceOf(NetworkException.class, e.getCause());
+        assertEquals("attempt 2", e.getCause().getMessage());
+    }
+
+    @Test
+    void testNonRetriableFailuresAreNotRetried() {
+        // Given
+        var executor = new ResilientRequestExecutor(
+                Map.of(AdminOperation.DESCRIBE_TOPICS, new ResiliencePolicy(3, 1, 5, false, 0)), TIMEOUT_MS);
+        var attempts = new AtomicInteger();
+
+        // When
+        KafkaFuture<String> result = executor.execute(AdminOperation.DESCRIBE_TOPICS, () -> {
+            attempts.incrementAndGet();
+            return failedFuture(new TopicAuthorizationException(Set.of("topic1")));
+        });
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> result.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertInstanceOf(TopicAuthorizationException.class, e.getCause());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testRetryIsNotStartedWhenBackoffExceedsTimeout() {
+        // Given
+        var executor = new ResilientRequestExecutor(
+                Map.of(AdminOperation.LIST_TOPICS, new ResiliencePolicy(3, 10_000, 10_000, false, 0)), 100);
+        var attempts = new AtomicInteger();
+
+        // When
+        KafkaFuture<String> result = executor.execute(AdminOperation.LIST_TOPICS, () -> {
+            attempts.incrementAndGet();
+            return failedFuture(new NetworkException("connection lost"));
+        });
+
+        // Then
+        assertThrows(ExecutionException.class, () -> result.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testSlowRequestIsHedged() throws Exception {
+        // Given
+        var executor = new ResilientRequestExecutor(
+                Map.of(AdminOperation.DESCRIBE_CLUSTER, new ResiliencePolicy(1, 0, 0, true, 10)), TIMEOUT_MS);
+        var slowResponse = new KafkaFutureImpl<String>();
+        var requests = new ArrayList<KafkaFutureImpl<String>>(List.of(slowResponse));
+        var hedgedResponse = new KafkaFutureImpl<String>();
+        hedgedResponse.complete("hedged");
+        requests.add(hedgedResponse);
+        var sent = new AtomicInteger();
+
+        // When
+        KafkaFuture<String> result = executor.execute(AdminOperation.DESCRIBE_CLUSTER,
+                () -> requests.get(sent.getAndIncrement()));
+
+        // Then
+        assertEquals("hedged", result.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(2, sent.get());
+    }
+
+    @Test
+    void testHedgedRequestIsNotSentAfterFastResponse() throws Exception {
+        // Given
+        var delays = new ArrayList<Long>();
+        var delayedTasks = new ArrayList<Runnable>();
+        var executor = new ResilientRequestExecutor(
+                Map.of(AdminOperation.DESCRIBE_CLUSTER, new ResiliencePolicy(1, 0, 0, true, 10)), TIMEOUT_MS,
+                (delay, unit) -> task -> {
+                    delays.add(unit.toMillis(delay));
+                    delayedTasks.add(task);
+                });
+        var sent = new AtomicInteger();
+
+        // When
+        KafkaFuture<String> result = executor.execute(AdminOperation.DESCRIBE_CLUSTER, () -> {
+            sent.incrementAndGet();
+            return KafkaFuture.completedFuture("fast");
+        });
+        delayedTasks.forEach(Runnable::run);
+
+        // Then
+        assertEquals("fast", result.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(List.of(10L), delays);
+        assertEquals(1, sent.get());
+    }
+
+    @Test
+    void testLatencyPercentileNeedsMinimumSamples() {
+        // Given
+        var tracker = new LatencyTracker();
+        for (int i = 1; i < LatencyTracker.MIN_SAMPLES; i++) {
+            tracker.record(i);
+        }
+
+        // When
+        boolean presentBeforeMinimum = tracker.percentileNanos(0.95).isPresent();
+        tracker.record(LatencyTracker.MIN_SAMPLES);
+
+        // Then
+        assertFalse(presentBeforeMinimum);
+        assertEquals(19, tracker.percentileNanos(0.95).getAsLong());
+    }
+
+    private static <T> KafkaFuture<T> failedFuture(final Throwable error) {
+        var future = new KafkaFutureImpl<T>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
@@ -0,0 +1,82 @@
+package com.aloievets.ai.mcp.kafka.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.aloievets.ai.mcp.kafka.client.service.KafkaStatusViewer;
+import com.aloievets.ai.mcp.kafka.config.KafkaClientResilienceProperties;
+import com.aloievets.ai.mcp.kafka.config.KafkaClustersProperties;
+import com.aloievets.ai.mcp.kafka.model.TopicDescriptionsFormat;
+import com.aloievets.ai.mcp.kafka.service.KafkaMcpServer;
+import com.aloievets.ai.mcp.kafka.service.cluster.KafkaClusterRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Evaluates the {@link Cacheable} key of {@link KafkaMcpServer#describeTopics} the way the cache interceptor does on
+ * every call: the expression is parsed once, the evaluation context is created per invocation. The key hashes the
+ * requested topic names, so its cost grows with the topic count
+ * ({@value SyntheticTopicDescriptions#PARTITIONS_PER_TOPIC} partitions per topic).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DescribeTopicsCacheKeyBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int partitions;
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private Method method;
+    private Expression key;
+    private BeanFactoryResolver beanResolver;
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = KafkaMcpServer.class.getMethod("describeTopics", Collection.class, TopicDescriptionsFormat.class,
+                String.class);
+        key = new SpelExpressionParser().parseExpression(method.getAnnotation(Cacheable.class)
+                .key());
+
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("kafkaClusterRegistry", new KafkaClusterRegistry(
+                new KafkaStatusViewer(null, 1000), "benchmark", new KafkaClustersProperties(600_000, Map.of()), 1000,
+                500, 4, new KafkaClientResilienceProperties(Map.of()), new SimpleMeterRegistry()));
+        beanResolver = new BeanFactoryResolver(beanFactory);
+
+        final List<String> topicNames = SyntheticTopicDescriptions.topicNames(partitions);
+        args = new Object[]{topicNames, TopicDescriptionsFormat.COMPACT, null};
+    }
+
+    @Benchmark
+    public Object describeTopicsKey() {
+        final MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, args,
+                parameterNameDiscoverer);
+        context.setBeanResolver(beanResolver);
+        return key.getValue(context);
+    }
+}
@@ -0,0 +1,251 @@
+package com.aloievets.ai.mcp.kafka.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import com.aloievets.ai.mcp.kafka.config.HistoryDataSourceConfig;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads {@code getHistoricalMcpResponses} pages from a SQLite history file, alone and while a writer inserts batches
+ * the way the history writer does. {@code ROLLBACK_JOURNAL} is one shared pool on the default SQLite settings,
+ * {@code WAL} the split writer and read-only reader pools of {@link HistoryDataSourceConfig} with the pragmas of
+ * {@code application.yaml}. Reads and writes that fail with {@code SQLITE_BUSY} are counted instead of aborting the
+ * run.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HistoryConcurrencyBenchmark {
+    private static final int TOOLS = 20;
+    private static final int ENTRIES_PER_TOOL = 5_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WRITE_BATCH_SIZE = 200;
+    private static final String READ_PAGE = """
+            select h.id, h.timestamp, b.content from mcp_history h left join mcp_history_body b on b.hash = h.body_hash
+            where h.kafka_cluster_name = ? and h.tool_name = ? and h.timestamp > ?
+            order by h.timestamp, h.id limit ?""";
+    private static final String INSERT_BODY = "insert or ignore into mcp_history_body (hash, content) values (?, ?)";
+    private static final String INSERT_ENTRY = "insert into mcp_history (kafka_cluster_name, tool_name, body_hash, "
+            + "timestamp) values (?, ?, ?, ?)";
+
+    @Param({"ROLLBACK_JOURNAL", "WAL"})
+    private JournalMode journalMode;
+
+    private Path directory;
+    private HikariDataSource writerDataSource;
+    private HikariDataSource readerDataSource;
+    private final AtomicLong nextTimestamp = new AtomicLong();
+
+    public enum JournalMode {
+        ROLLBACK_JOURNAL,
+        WAL
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Failures {
+        public long busy;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("history-concurrency");
+        final String url = "jdbc:sqlite:" + directory.resolve("history.db");
+        if (journalMode == JournalMode.WAL) {
+            writerDataSource = writerDataSource(url);
+            readerDataSource = readerDataSource(url);
+        } else {
+            writerDataSource = sharedDataSource(url);
+            readerDataSource = writerDataSource;
+        }
+        populate(writerDataSource);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        readerDataSource.close();
+        writerDataSource.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("reads")
+    @GroupThreads(4)
+    public int readPage(final Failures failures) {
+        return readRandomPage(failures);
+    }
+
+    @Benchmark
+    @Group("readsUnderWrites")
+    @GroupThreads(4)
+    public int readPageUnderWrites(final Failures failures) {
+        return readRandomPage(failures);
+    }
+
+    @Benchmark
+    @Group("readsUnderWrites")
+    @GroupThreads(1)
+    public int writeBatch(final Failures failures) {
+        try (Connection connection = writerDataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                final int written = insertBatch(connection, WRITE_BATCH_SIZE);
+                connection.commit();
+                return written;
+            } catch (final SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (final SQLException e) {
+            return busy(failures, e);
+        }
+    }
+
+    private int readRandomPage(final Failures failures) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        try (Connection connection = readerDataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(READ_PAGE)) {
+            statement.setString(1, "benchmark");
+            statement.setString(2, "tool-" + random.nextInt(TOOLS));
+            statement.setLong(3, random.nextLong(TOOLS * (ENTRIES_PER_TOOL - PAGE_SIZE)));
+            statement.setInt(4, PAGE_SIZE);
+            int bytes = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    bytes += resultSet.getBytes(3).length;
+                }
+            }
+            return bytes;
+        } catch (final SQLException e) {
+            return busy(failures, e);
+        }
+    }
+
+    private int insertBatch(final Connection connection, final int entries) throws SQLException {
+        try (PreparedStatement bodies = connection.prepareStatement(INSERT_BODY);
+                PreparedStatement histories = connection.prepareStatement(INSERT_ENTRY)) {
+            for (int i = 0; i < entries; i++) {
+                final long timestamp = nextTimestamp.getAndIncrement();
+                final String tool = "tool-" + (timestamp % TOOLS);
+                final String hash = tool + "-" + (timestamp / TOOLS % 10);
+                bodies.setString(1, hash);
+                bodies.setBytes(2, body(timestamp));
+                bodies.addBatch();
+                histories.setString(1, "benchmark");
+                histories.setString(2, tool);
+                histories.setString(3, hash);
+                histories.setLong(4, timestamp);
+                histories.addBatch();
+            }
+            bodies.executeBatch();
+            histories.executeBatch();
+            return entries;
+        }
+    }
+
+    private void populate(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table mcp_history_body (hash varchar(64) primary key, content blob)");
+                statement.execute("create table mcp_history (id integer primary key, kafka_cluster_name varchar, "
+                        + "tool_name varchar, body_hash varchar(64), timestamp bigint)");
+                statement.execute("create index idx_mcp_history_cluster_tool_timestamp "
+                        + "on mcp_history (kafka_cluster_name, tool_name, timestamp)");
+            }
+            connection.setAutoCommit(false);
+            insertBatch(connection, TOOLS * ENTRIES_PER_TOOL);
+            connection.commit();
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static byte[] body(final long seed) {
+        final byte[] body = new byte[512];
+        ThreadLocalRandom.current().nextBytes(body);
+        body[0] = (byte) seed;
+        return body;
+    }
+
+    private static int busy(final Failures failures, final SQLException e) {
+        if (!e.getMessage().contains("SQLITE_BUSY")) {
+            throw new IllegalStateException(e);
+        }
+        failures.busy++;
+        return 0;
+    }
+
+    private static HikariDataSource sharedDataSource(final String url) {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setPoolName("history-shared");
+        config.setMaximumPoolSize(5);
+        return new HikariDataSource(config);
+    }
+
+    private static HikariDataSource writerDataSource(final String url) {
+        final HikariConfig config = tunedConfig(url);
+        config.setPoolName("history-writer");
+        config.setMaximumPoolSize(1);
+        config.addDataSourceProperty("journal_mode", "WAL");
+        config.addDataSourceProperty("synchronous", "NORMAL");
+        return new HikariDataSource(config);
+    }
+
+    private static HikariDataSource readerDataSource(final String url) {
+        final HikariConfig config = tunedConfig(url);
+        config.setPoolName("history-reader");
+        config.setMaximumPoolSize(4);
+        config.setConnectionInitSql("PRAGMA query_only = 1");
+        return new HikariDataSource(config);
+    }
+
+    private static HikariConfig tunedConfig(final String url) {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.addDataSourceProperty("busy_timeout", "5000");
+        config.addDataSourceProperty("cache_size", "-16000");
+        config.addDataSourceProperty("mmap_size", "268435456");
+        return config;
+    }
+}
@@ -0,0 +1,59 @@
+package com.aloievets.ai.mcp.kafka.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDtoInterner;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.model.KafkaTopicDescriptionsDto;
+import com.aloievets.ai.mcp.kafka.model.TopicDescriptionsFormat;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistory;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serializes a {@code describeTopics} response into an MCP history entry, in the format configured by
+ * {@code kafka-mcp.history.topic-descriptions-format}. The object mapper is built the way Spring Boot builds the
+ * application one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class McpHistorySerializationBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int partitions;
+    @Param({"FULL", "COMPACT"})
+    private TopicDescriptionsFormat format;
+    private McpHistoryConverter converter;
+    private KafkaTopicDescriptionsDto topicDescriptions;
+
+    @Setup
+    public void setUp() {
+        converter = new McpHistoryConverter(Jackson2ObjectMapperBuilder.json()
+                .build());
+        final KafkaNodeDtoInterner nodeInterner = new KafkaNodeDtoInterner();
+        topicDescriptions = new KafkaTopicDescriptionsDto(SyntheticTopicDescriptions.create(partitions)
+                .stream()
+                .map(description -> KafkaTopicDescriptionDto.fromKafkaTopicDescription(description, nodeInterner))
+                .toList()).toFormat(format);
+    }
+
+    @Benchmark
+    public McpHistory toMcpHistory() {
+        return converter.toMcpHistory("benchmark", "describeTopics", topicDescriptions);
+    }
+}
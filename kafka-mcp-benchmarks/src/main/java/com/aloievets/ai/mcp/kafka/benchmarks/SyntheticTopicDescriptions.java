@@ -0,0 +1,60 @@
+package com.aloievets.ai.mcp.kafka.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+
+/**
+ * Builds topic descriptions shaped like a production cluster: {@value #BROKER_COUNT} brokers, replication factor
+ * {@value #REPLICATION_FACTOR} and {@value #PARTITIONS_PER_TOPIC} partitions per topic with replicas spread
+ * round-robin. Every partition gets its own replica and ISR lists, as the AdminClient returns them.
+ */
+final class SyntheticTopicDescriptions {
+    static final int BROKER_COUNT = 12;
+    static final int REPLICATION_FACTOR = 3;
+    static final int PARTITIONS_PER_TOPIC = 10;
+
+    private SyntheticTopicDescriptions() {
+    }
+
+    static List<TopicDescription> create(final int partitionCount) {
+        final List<Node> brokers = new ArrayList<>(BROKER_COUNT);
+        for (int id = 0; id < BROKER_COUNT; id++) {
+            brokers.add(new Node(id, "broker-" + id + ".kafka.svc", 9092, "rack-" + id % 3));
+        }
+
+        final int topicCount = Math.ceilDiv(partitionCount, PARTITIONS_PER_TOPIC);
+        final List<TopicDescription> descriptions = new ArrayList<>(topicCount);
+        for (int topic = 0; topic < topicCount; topic++) {
+            final int topicPartitions = Math.min(PARTITIONS_PER_TOPIC, partitionCount - topic * PARTITIONS_PER_TOPIC);
+            final List<TopicPartitionInfo> partitions = new ArrayList<>(topicPartitions);
+            for (int partition = 0; partition < topicPartitions; partition++) {
+                final List<Node> replicas = new ArrayList<>(REPLICATION_FACTOR);
+                for (int replica = 0; replica < REPLICATION_FACTOR; replica++) {
+                    replicas.add(brokers.get((topic + partition + replica) % BROKER_COUNT));
+                }
+                partitions.add(new TopicPartitionInfo(partition, replicas.getFirst(), replicas,
+                        new ArrayList<>(replicas), List.of(), List.of()));
+            }
+            descriptions.add(new TopicDescription(topicName(topic), false, partitions, null, Uuid.randomUuid()));
+        }
+        return descriptions;
+    }
+
+    static List<String> topicNames(final int partitionCount) {
+        final int topicCount = Math.ceilDiv(partitionCount, PARTITIONS_PER_TOPIC);
+        final List<String> topicNames = new ArrayList<>(topicCount);
+        for (int topic = 0; topic < topicCount; topic++) {
+            topicNames.add(topicName(topic));
+        }
+        return topicNames;
+    }
+
+    private static String topicName(final int topic) {
+        return String.format("orders.events.v1.%06d", topic);
+    }
+}
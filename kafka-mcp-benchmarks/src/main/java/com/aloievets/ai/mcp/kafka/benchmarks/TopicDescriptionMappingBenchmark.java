@@ -0,0 +1,67 @@
+package com.aloievets.ai.mcp.kafka.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDtoInterner;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps a whole describe call worth of AdminClient topic descriptions to DTOs, sharing one node interner across the
+ * call as {@code KafkaStatusViewer} does. With {@code internNodes} false every node reference is mapped to a new
+ * {@link KafkaNodeDto}, as before the interner, so the gc profiler output compares the allocation of both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TopicDescriptionMappingBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int partitions;
+    @Param({"true", "false"})
+    private boolean internNodes;
+    private List<TopicDescription> descriptions;
+
+    @Setup
+    public void setUp() {
+        descriptions = SyntheticTopicDescriptions.create(partitions);
+    }
+
+    @Benchmark
+    public List<KafkaTopicDescriptionDto> fromKafkaTopicDescription() {
+        final KafkaNodeDtoInterner nodeInterner = internNodes
+                ? new KafkaNodeDtoInterner()
+                : new NonInterningNodeMapper();
+        final List<KafkaTopicDescriptionDto> dtos = new ArrayList<>(descriptions.size());
+        for (final TopicDescription description : descriptions) {
+            dtos.add(KafkaTopicDescriptionDto.fromKafkaTopicDescription(description, nodeInterner));
+        }
+        return dtos;
+    }
+
+    private static final class NonInterningNodeMapper extends KafkaNodeDtoInterner {
+
+        @Override
+        public KafkaNodeDto intern(final Node kafkaNode) {
+            return KafkaNodeDto.fromKafkaNode(kafkaNode);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.aloievets.ai.mcp.kafka.config;
+
+import javax.sql.DataSource;
+
+import com.aloievets.ai.mcp.kafka.service.history.HistoryDatabaseMaintenance;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * SQLite history database in WAL mode with separate writer and reader pools. SQLite allows one writer at a time, so
+ * every write goes through the single connection of the writer pool and waits in the pool instead of failing with
+ * {@code SQLITE_BUSY}. Read-only transactions, e.g. {@code getHistoricalMcpResponses} pages and repository finders,
+ * use the query-only reader pool and, thanks to WAL, are not blocked by a running write. The routing is done by
+ * {@link LazyConnectionDataSourceProxy}, which fetches the target connection when the transaction's read-only flag is
+ * known. Pool sizes and SQLite pragmas are configured under {@code kafka-mcp.history.datasource}.
+ */
+@Configuration
+@Profile("!mcp-test")
+public class HistoryDataSourceConfig {
+
+    /**
+     * Lets {@link HistoryDatabaseMaintenance} enable incremental auto-vacuum before Hibernate creates the tables.
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor historyDatabaseMaintenanceDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(HistoryDatabaseMaintenance.class);
+    }
+
+    @Bean
+    @ConfigurationProperties("kafka-mcp.history.datasource.writer")
+    public HikariDataSource historyWriterDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("kafka-mcp.history.datasource.reader")
+    public HikariDataSource historyReaderDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final HikariDataSource historyWriterDataSource,
+            final HikariDataSource historyReaderDataSource) {
+        final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(historyWriterDataSource);
+        dataSource.setReadOnlyDataSource(historyReaderDataSource);
+        return dataSource;
+    }
+}
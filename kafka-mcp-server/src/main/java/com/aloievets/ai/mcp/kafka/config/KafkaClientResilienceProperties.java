@@ -0,0 +1,20 @@
+package com.aloievets.ai.mcp.kafka.config;
+
+import java.util.Map;
+
+import com.aloievets.ai.mcp.kafka.client.service.AdminOperation;
+import com.aloievets.ai.mcp.kafka.client.service.ResiliencePolicy;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Retry and hedging policies per AdminClient operation, applied to every cluster. Operations without a policy are
+ * attempted once.
+ */
+@ConfigurationProperties(prefix = "kafka-mcp.kafka.client")
+public record KafkaClientResilienceProperties(Map<AdminOperation, ResiliencePolicy> resilience) {
+
+    public KafkaClientResilienceProperties {
+        resilience = resilience == null ? Map.of() : Map.copyOf(resilience);
+    }
+}
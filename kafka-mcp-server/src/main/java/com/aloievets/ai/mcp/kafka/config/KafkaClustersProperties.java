@@ -0,0 +1,17 @@
+package com.aloievets.ai.mcp.kafka.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Additional Kafka clusters served next to the one configured via {@code spring.kafka}. Every connection is a plain
+ * AdminClient config map, keyed by the cluster name used in the MCP tool calls.
+ */
+@ConfigurationProperties(prefix = "kafka-mcp.clusters")
+public record KafkaClustersProperties(long idleTimeoutMs, Map<String, Map<String, String>> connections) {
+
+    public KafkaClustersProperties {
+        connections = connections == null ? Map.of() : Map.copyOf(connections);
+    }
+}
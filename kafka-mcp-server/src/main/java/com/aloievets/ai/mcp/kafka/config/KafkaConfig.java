@@ -1,7 +1,9 @@
 package com.aloievets.ai.mcp.kafka.config;
 
 import com.aloievets.ai.mcp.kafka.client.service.KafkaStatusViewer;
+import com.aloievets.ai.mcp.kafka.client.service.MicrometerAdminClientMetrics;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -20,7 +22,12 @@ public class KafkaConfig {
 
     @Bean
     public KafkaStatusViewer kafkaStatusViewer(final AdminClient kafkaAdminClient,
-            @Value("${kafka-mcp.kafka.client.timeout-ms}") final long timeoutMs) {
-        return new KafkaStatusViewer(kafkaAdminClient, timeoutMs);
+            @Value("${kafka-mcp.kafka.client.timeout-ms}") final long timeoutMs,
+            @Value("${kafka-mcp.kafka.client.describe-topics.batch-size}") final int describeTopicsBatchSize,
+            @Value("${kafka-mcp.kafka.client.describe-topics.concurrency}") final int describeTopicsConcurrency,
+            final KafkaClientResilienceProperties resilienceProperties, final MeterRegistry meterRegistry,
+            @Value("${kafka-mcp.kafka.cluster.name}") final String clusterName) {
+        return new KafkaStatusViewer(kafkaAdminClient, timeoutMs, describeTopicsBatchSize, describeTopicsConcurrency,
+                resilienceProperties.resilience(), new MicrometerAdminClientMetrics(meterRegistry, clusterName));
     }
 }
@@ -0,0 +1,6 @@
+package com.aloievets.ai.mcp.kafka.model;
+
+import java.util.Set;
+
+public record KafkaClusterNamesDto(String defaultCluster, Set<String> clusterNames) {
+}
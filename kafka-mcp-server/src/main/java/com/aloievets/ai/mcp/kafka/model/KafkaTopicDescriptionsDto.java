@@ -1,8 +1,34 @@
 package com.aloievets.ai.mcp.kafka.model;
 
 import java.util.List;
+import java.util.Map;
 
+import com.aloievets.ai.mcp.kafka.client.model.KafkaCompactTopicDescriptionsDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
-public record KafkaTopicDescriptionsDto(List<KafkaTopicDescriptionDto> topicDescriptions) {
+public record KafkaTopicDescriptionsDto(@JsonProperty(required = false)
+                                        @JsonInclude(JsonInclude.Include.NON_NULL) List<KafkaTopicDescriptionDto> topicDescriptions,
+                                        @JsonProperty(required = false)
+                                        @JsonInclude(JsonInclude.Include.NON_NULL) KafkaCompactTopicDescriptionsDto compactTopicDescriptions,
+                                        @JsonProperty(required = false)
+                                        @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> failedTopics) {
+
+    public KafkaTopicDescriptionsDto(final List<KafkaTopicDescriptionDto> topicDescriptions) {
+        this(topicDescriptions, Map.of());
+    }
+
+    public KafkaTopicDescriptionsDto(final List<KafkaTopicDescriptionDto> topicDescriptions,
+            final Map<String, String> failedTopics) {
+        this(topicDescriptions, null, failedTopics);
+    }
+
+    public KafkaTopicDescriptionsDto toFormat(final TopicDescriptionsFormat format) {
+        if (format != TopicDescriptionsFormat.COMPACT || topicDescriptions == null) {
+            return this;
+        }
+        return new KafkaTopicDescriptionsDto(null,
+                KafkaCompactTopicDescriptionsDto.fromTopicDescriptions(topicDescriptions), failedTopics);
+    }
 }
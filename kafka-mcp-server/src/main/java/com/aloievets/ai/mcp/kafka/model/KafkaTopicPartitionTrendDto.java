@@ -0,0 +1,11 @@
+package com.aloievets.ai.mcp.kafka.model;
+
+import java.util.List;
+
+/**
+ * Partition trend of a topic, one point per interval that holds at least one stored {@code describeTopics} response
+ * of the topic, oldest first.
+ */
+public record KafkaTopicPartitionTrendDto(String topic, TrendInterval interval,
+                                          List<KafkaTopicPartitionTrendPointDto> points) {
+}
@@ -0,0 +1,13 @@
+package com.aloievets.ai.mcp.kafka.model;
+
+import java.time.Instant;
+
+/**
+ * Partition aggregates of a topic over the {@code snapshots} responses stored within one interval starting at
+ * {@code start}. The minimum ISR size is taken over every partition of every response, the average ISR size over all
+ * of them, the partition, under-replicated, offline and ELR counts are the highest seen in a single response.
+ */
+public record KafkaTopicPartitionTrendPointDto(Instant start, int snapshots, long maxPartitions, int minIsrCount,
+                                               double avgIsrCount, long maxUnderReplicatedPartitions,
+                                               long maxOfflinePartitions, long maxElrCount) {
+}
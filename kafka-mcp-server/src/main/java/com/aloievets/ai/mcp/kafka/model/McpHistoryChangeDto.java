@@ -0,0 +1,16 @@
+package com.aloievets.ai.mcp.kafka.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One difference between two historical responses. {@code path} is a JSON pointer into the response, except that
+ * elements of arrays of objects with an identity field are addressed as {@code [field=value]}, e.g.
+ * {@code /topicDescriptions/[name=orders]/partitions/[partition=0]/inSyncReplicas}. Elements added to or removed from
+ * an array of scalars, such as topic names or broker ids, are reported with the path of the array, regardless of their
+ * order.
+ */
+public record McpHistoryChangeDto(McpHistoryChangeType type, String path,
+                                  @JsonInclude(JsonInclude.Include.NON_NULL) JsonNode before,
+                                  @JsonInclude(JsonInclude.Include.NON_NULL) JsonNode after) {
+}
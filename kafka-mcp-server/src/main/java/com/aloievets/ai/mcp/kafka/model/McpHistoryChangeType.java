@@ -0,0 +1,18 @@
+package com.aloievets.ai.mcp.kafka.model;
+
+public enum McpHistoryChangeType {
+    /**
+     * A field or array element present in the newer response only, {@code before} is omitted.
+     */
+    ADDED,
+    /**
+     * A field or array element present in the older response only, {@code after} is omitted.
+     */
+    REMOVED,
+    /**
+     * A scalar value that differs between the responses, or a value whose type changed. Arrays are never reported as
+     * changed as a whole: elements of arrays of objects are matched by their identity field and diffed one by one,
+     * arrays of scalars are compared as multisets, so only changed order is no change.
+     */
+    CHANGED
+}
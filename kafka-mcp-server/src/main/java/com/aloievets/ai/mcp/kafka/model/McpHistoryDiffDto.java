@@ -0,0 +1,13 @@
+package com.aloievets.ai.mcp.kafka.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Differences from the stored response of a tool nearest to one timestamp to the one nearest to another, at
+ * {@code fromTimestamp} and {@code toTimestamp}. {@code changeCount} covers every difference, {@code changes} lists
+ * the first ones up to the requested maximum.
+ */
+public record McpHistoryDiffDto(String toolName, Instant fromTimestamp, Instant toTimestamp, int changeCount,
+                                List<McpHistoryChangeDto> changes) {
+}
@@ -0,0 +1,12 @@
+package com.aloievets.ai.mcp.kafka.model;
+
+public enum TopicDescriptionsFormat {
+    /**
+     * Every partition with full leader, replica, ISR and ELR node details.
+     */
+    FULL,
+    /**
+     * One node table plus per-topic broker id arrays, an order of magnitude smaller for large topics.
+     */
+    COMPACT
+}
@@ -0,0 +1,24 @@
+package com.aloievets.ai.mcp.kafka.model;
+
+import java.time.temporal.ChronoUnit;
+
+public enum TrendInterval {
+    /**
+     * One point per UTC hour.
+     */
+    HOUR(ChronoUnit.HOURS),
+    /**
+     * One point per UTC day, recommended for ranges longer than a few days.
+     */
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    TrendInterval(final ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+}
@@ -3,120 +3,468 @@ package com.aloievets.ai.mcp.kafka.service;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterHealthDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterOverviewDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterSnapshotDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaConsumerLagDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaDiskUsageDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangesDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionsResultDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftReportDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicSpecDto;
 import com.aloievets.ai.mcp.kafka.client.service.KafkaStatusViewer;
 import com.aloievets.ai.mcp.kafka.exceptions.GenericMcpException;
+import com.aloievets.ai.mcp.kafka.model.KafkaClusterNamesDto;
 import com.aloievets.ai.mcp.kafka.model.KafkaNodesDto;
 import com.aloievets.ai.mcp.kafka.model.KafkaRecommendationsSummaryDto;
 import com.aloievets.ai.mcp.kafka.model.KafkaTopicDescriptionsDto;
 import com.aloievets.ai.mcp.kafka.model.KafkaTopicNamesDto;
+import com.aloievets.ai.mcp.kafka.model.KafkaTopicPartitionTrendDto;
+import com.aloievets.ai.mcp.kafka.model.McpHistoryDiffDto;
+import com.aloievets.ai.mcp.kafka.model.TopicDescriptionsFormat;
+import com.aloievets.ai.mcp.kafka.model.TrendInterval;
+import com.aloievets.ai.mcp.kafka.service.cluster.KafkaClusterRegistry;
 import com.aloievets.ai.mcp.kafka.service.history.McpHistory;
 import com.aloievets.ai.mcp.kafka.service.history.McpHistoryConverter;
-import com.aloievets.ai.mcp.kafka.service.history.McpHistoryRepository;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryDiffer;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryPageDto;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryReader;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryStore;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryWriter;
+import com.aloievets.ai.mcp.kafka.service.snapshot.ClusterSnapshotPoller;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springaicommunity.mcp.annotation.McpResource;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
+/**
+ * MCP tools of the server. The Kafka calls behind the tools are asynchronous, but the tools are still blocking: the
+ * server runs the sync MCP transport, whose tool provider skips reactive return types and would serialize a
+ * {@code CompletableFuture} as is, so every tool joins its AdminClient future in {@link #awaitResult} and holds the
+ * servlet request thread until Kafka responds or the kafka-client timeout expires. Only the requests issued within one
+ * tool, e.g. the topic description batches, run concurrently. Releasing the request thread requires switching to the
+ * async MCP server with {@code Mono} tool results.
+ */
 @Component
 public class KafkaMcpServer {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaMcpServer.class);
-    private final KafkaStatusViewer kafkaStatusViewer;
+    private static final String CLUSTER_PARAM_DESCRIPTION = "Kafka cluster name from listClusters, the default cluster "
+            + "is used when omitted";
+    private final KafkaClusterRegistry clusterRegistry;
     private final KafkaTerraformConfigReader kafkaTerraformConfigReader;
     private final McpHistoryConverter historyConverter;
-    private final McpHistoryRepository historyRepository;
+    private final McpHistoryStore historyStore;
+    private final McpHistoryWriter historyWriter;
+    private final McpHistoryReader historyReader;
+    private final McpHistoryDiffer historyDiffer;
+    private final ClusterSnapshotPoller clusterSnapshotPoller;
+    private final int describeTopicsBatchSize;
+    private final TopicDescriptionsFormat historyTopicDescriptionsFormat;
+    private final int healthMaxListedPartitions;
+    private final int consumerLagTopN;
+    private final int diskUsageTopN;
+    private final int driftMaxListed;
+    private final int changeFeedMaxListed;
+    private final int historyPageSize;
+    private final int historyDiffMaxListed;
 
-    public KafkaMcpServer(final KafkaStatusViewer kafkaStatusViewer,
+    public KafkaMcpServer(final KafkaClusterRegistry clusterRegistry,
             final KafkaTerraformConfigReader kafkaTerraformConfigReader, final McpHistoryConverter historyConverter,
-            final McpHistoryRepository historyRepository) {
-        this.kafkaStatusViewer = kafkaStatusViewer;
+            final McpHistoryStore historyStore, final McpHistoryWriter historyWriter,
+            final McpHistoryReader historyReader, final McpHistoryDiffer historyDiffer,
+            final ClusterSnapshotPoller clusterSnapshotPoller,
+            @Value("${kafka-mcp.kafka.client.describe-topics.batch-size}") final int describeTopicsBatchSize,
+            @Value("${kafka-mcp.history.topic-descriptions-format}") final TopicDescriptionsFormat historyTopicDescriptionsFormat,
+            @Value("${kafka-mcp.health.max-listed-partitions}") final int healthMaxListedPartitions,
+            @Value("${kafka-mcp.consumer-lag.top-n}") final int consumerLagTopN,
+            @Value("${kafka-mcp.disk-usage.top-n}") final int diskUsageTopN,
+            @Value("${kafka-mcp.terraform-drift.max-listed}") final int driftMaxListed,
+            @Value("${kafka-mcp.snapshot.change-feed.max-listed}") final int changeFeedMaxListed,
+            @Value("${kafka-mcp.history.page-size}") final int historyPageSize,
+            @Value("${kafka-mcp.history.diff.max-listed}") final int historyDiffMaxListed) {
+        this.clusterRegistry = clusterRegistry;
+        this.clusterSnapshotPoller = clusterSnapshotPoller;
         this.kafkaTerraformConfigReader = kafkaTerraformConfigReader;
         this.historyConverter = historyConverter;
-        this.historyRepository = historyRepository;
+        this.historyStore = historyStore;
+        this.historyWriter = historyWriter;
+        this.historyReader = historyReader;
+        this.historyDiffer = historyDiffer;
+        this.describeTopicsBatchSize = describeTopicsBatchSize;
+        this.historyTopicDescriptionsFormat = historyTopicDescriptionsFormat;
+        this.healthMaxListedPartitions = healthMaxListedPartitions;
+        this.consumerLagTopN = consumerLagTopN;
+        this.diskUsageTopN = diskUsageTopN;
+        this.driftMaxListed = driftMaxListed;
+        this.changeFeedMaxListed = changeFeedMaxListed;
+        this.historyPageSize = historyPageSize;
+        this.historyDiffMaxListed = historyDiffMaxListed;
     }
 
     @McpTool(title = "Describe Kafka cluster controller", description = "Get Kafka cluster controller node",
             generateOutputSchema = true)
-    @Cacheable(value = "mcp-responses", key = "'describeClusterController'")
-    public KafkaNodeDto describeClusterController() {
-        LOG.debug("Requested to describe cluster controller");
-        final KafkaNodeDto node = kafkaStatusViewer.describeClusterController();
-        saveMcpResponseToHistory("describeClusterController", node);
+    @Cacheable(value = "mcp-responses",
+            key = "'describeClusterController-' + @kafkaClusterRegistry.resolveClusterName(#cluster)")
+    public KafkaNodeDto describeClusterController(
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        LOG.debug("Requested to describe cluster controller of {}", clusterName);
+        final KafkaNodeDto node = getFreshSnapshot(clusterName)
+                .map(KafkaClusterSnapshotDto::controller)
+                .orElseGet(() -> awaitResult(getStatusViewer(clusterName).describeClusterControllerAsync()));
+        saveMcpResponseToHistory(clusterName, "describeClusterController", node);
 
         return node;
     }
 
     @McpTool(title = "Describe Kafka cluster nodes", description = "Get all Kafka cluster nodes details",
             generateOutputSchema = true)
-    @Cacheable(value = "mcp-responses", key = "'describeClusterNodes'")
-    public KafkaNodesDto describeClusterNodes() {
-        LOG.debug("Requested to describe cluster nodes");
-        final List<KafkaNodeDto> nodes = kafkaStatusViewer.describeClusterNodes();
+    @Cacheable(value = "mcp-responses",
+            key = "'describeClusterNodes-' + @kafkaClusterRegistry.resolveClusterName(#cluster)")
+    public KafkaNodesDto describeClusterNodes(
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        LOG.debug("Requested to describe cluster nodes of {}", clusterName);
+        final List<KafkaNodeDto> nodes = getFreshSnapshot(clusterName)
+                .map(KafkaClusterSnapshotDto::nodes)
+                .orElseGet(() -> awaitResult(getStatusViewer(clusterName).describeClusterNodesAsync()));
         final KafkaNodesDto nodesDto = new KafkaNodesDto(nodes);
-        saveMcpResponseToHistory("describeClusterNodes", nodesDto);
+        saveMcpResponseToHistory(clusterName, "describeClusterNodes", nodesDto);
 
         return nodesDto;
     }
 
+    @McpTool(title = "Describe Kafka cluster overview",
+            description = "Get Kafka cluster id, controller and broker, topic and partition counts in a single call. "
+                    + "The partition count is null when no fresh cluster snapshot is available",
+            generateOutputSchema = true)
+    @Cacheable(value = "mcp-responses",
+            key = "'describeClusterOverview-' + @kafkaClusterRegistry.resolveClusterName(#cluster)")
+    public KafkaClusterOverviewDto describeClusterOverview(
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        LOG.debug("Requested to describe cluster overview of {}", clusterName);
+        final KafkaClusterOverviewDto overview = getFreshPartitionSnapshot(clusterName)
+                .map(KafkaClusterSnapshotDto::toOverview)
+                .orElseGet(() -> awaitResult(getStatusViewer(clusterName).describeClusterOverviewAsync()));
+        saveMcpResponseToHistory(clusterName, "describeClusterOverview", overview);
+
+        return overview;
+    }
+
+    @McpTool(title = "Describe Kafka cluster health",
+            description = "Get under-replicated, offline and ELR partitions and leader counts per broker, computed "
+                    + "server-side over all topics. Counts cover every partition, only anomalous partitions are listed",
+            generateOutputSchema = true)
+    @Cacheable(value = "mcp-responses", key = "'describeClusterHealth-' "
+            + "+ @kafkaClusterRegistry.resolveClusterName(#cluster) + '-' + #maxListedPartitions")
+    public KafkaClusterHealthDto describeClusterHealth(
+            @McpToolParam(description = "Maximum number of partitions listed per anomaly kind, defaults to "
+                    + "the server setting", required = false) final Integer maxListedPartitions,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        final int listedPartitions = maxListedPartitions == null
+                ? healthMaxListedPartitions
+                : Math.min(Math.max(maxListedPartitions, 0), healthMaxListedPartitions);
+        LOG.debug("Requested to describe cluster health of {}", clusterName);
+        final KafkaClusterHealthDto health = getFreshPartitionSnapshot(clusterName)
+                .map(snapshot -> snapshot.toHealth(listedPartitions))
+                .orElseGet(() -> awaitResult(getStatusViewer(clusterName).describeClusterHealthAsync(listedPartitions)));
+        saveMcpResponseToHistory(clusterName, "describeClusterHealth", Map.of("maxListedPartitions", listedPartitions),
+                health);
+
+        return health;
+    }
+
+    @McpTool(title = "Describe consumer lag",
+            description = "Get the total lag of every consumer group and the groups and group topics with the highest "
+                    + "lag, computed server-side from committed and latest offsets in a fixed number of requests",
+            generateOutputSchema = true)
+    @Cacheable(value = "mcp-responses", key = "'describeConsumerLag-' "
+            + "+ @kafkaClusterRegistry.resolveClusterName(#cluster) + '-' + #topN")
+    public KafkaConsumerLagDto describeConsumerLag(
+            @McpToolParam(description = "Maximum number of groups and group topics listed, defaults to the server "
+                    + "setting", required = false) final Integer topN,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        final int listed = topN == null ? consumerLagTopN : Math.min(Math.max(topN, 0), consumerLagTopN);
+        LOG.debug("Requested to describe consumer lag of {}", clusterName);
+        final KafkaConsumerLagDto consumerLag = awaitResult(getStatusViewer(clusterName).describeConsumerLagAsync(
+                listed));
+        saveMcpResponseToHistory(clusterName, "describeConsumerLag", Map.of("topN", listed), consumerLag);
+
+        return consumerLag;
+    }
+
+    @McpTool(title = "Describe disk usage",
+            description = "Get disk usage per broker, topic, broker topic and log directory and the offset lag of "
+                    + "future replicas, aggregated server-side from the log directories of all brokers. Totals cover "
+                    + "every replica, only the largest entries are listed",
+            generateOutputSchema = true)
+    @Cacheable(value = "mcp-responses", key = "'describeDiskUsage-' "
+            + "+ @kafkaClusterRegistry.resolveClusterName(#cluster) + '-' + #topN")
+    public KafkaDiskUsageDto describeDiskUsage(
+            @McpToolParam(description = "Maximum number of entries listed per aggregate, defaults to the server "
+                    + "setting", required = false) final Integer topN,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        final int listed = topN == null ? diskUsageTopN : Math.min(Math.max(topN, 0), diskUsageTopN);
+        LOG.debug("Requested to describe disk usage of {}", clusterName);
+        final KafkaDiskUsageDto diskUsage = awaitResult(getStatusViewer(clusterName).describeDiskUsageAsync(listed));
+        saveMcpResponseToHistory(clusterName, "describeDiskUsage", Map.of("topN", listed), diskUsage);
+
+        return diskUsage;
+    }
+
+    @McpTool(title = "Describe metadata changes",
+            description = "Get the metadata changes observed since a cursor or a timestamp: broker join and leave, "
+                    + "controller, topic creation and deletion, partition count, leader and ISR changes. Use it "
+                    + "instead of re-describing topics and nodes to find out what changed. Pass nextCursor of the "
+                    + "previous answer to continue; complete is false when changes may have been missed, e.g. "
+                    + "evicted from the feed or not observed while the server restarted",
+            generateOutputSchema = true)
+    public KafkaMetadataChangesDto describeMetadataChanges(
+            @McpToolParam(description = "nextCursor of the previous answer, omit to start at the oldest kept change",
+                    required = false) final String afterCursor,
+            @McpToolParam(description = "Return changes observed at or after this ISO-8601 timestamp, e.g. "
+                    + "2026-01-01T10:00:00Z", required = false) final String since,
+            @McpToolParam(description = "Maximum number of changes returned, defaults to the server setting",
+                    required = false) final Integer limit,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        if (!clusterRegistry.isDefaultCluster(clusterName) || !clusterSnapshotPoller.isSnapshotEnabled()) {
+            throw new GenericMcpException(String.format("Metadata changes are tracked for the default cluster '%s' "
+                    + "only, with kafka-mcp.snapshot.enabled", clusterRegistry.getDefaultClusterName()));
+        }
+        final int listed = limit == null ? changeFeedMaxListed : Math.min(Math.max(limit, 0), changeFeedMaxListed);
+        LOG.debug("Requested to describe metadata changes of {} after cursor {} since {}", clusterName, afterCursor,
+                since);
+
+        final Instant sinceTimestamp = parseTimestamp(since);
+        try {
+            return clusterSnapshotPoller.getChanges(afterCursor, sinceTimestamp, listed);
+        } catch (final IllegalArgumentException e) {
+            throw new GenericMcpException(e.getMessage());
+        }
+    }
+
     @McpTool(title = "List topics", description = "List Kafka topics in my cluster",
             generateOutputSchema = true)
-    @Cacheable(value = "mcp-responses", key = "'listTopics'")
-    public KafkaTopicNamesDto listTopics() {
-        LOG.debug("Requested to list topics");
-        final KafkaTopicNamesDto topicNamesDto = new KafkaTopicNamesDto(kafkaStatusViewer.listTopics());
-        saveMcpResponseToHistory("listTopics", topicNamesDto);
+    @Cacheable(value = "mcp-responses", key = "'listTopics-' + @kafkaClusterRegistry.resolveClusterName(#cluster)")
+    public KafkaTopicNamesDto listTopics(
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        LOG.debug("Requested to list topics of {}", clusterName);
+        final KafkaTopicNamesDto topicNamesDto = new KafkaTopicNamesDto(getFreshSnapshot(clusterName)
+                .map(KafkaClusterSnapshotDto::topicNames)
+                .orElseGet(() -> awaitResult(getStatusViewer(clusterName).listTopicsAsync())));
+        saveMcpResponseToHistory(clusterName, "listTopics", topicNamesDto);
 
         return topicNamesDto;
     }
 
-    @McpTool(title = "Describe topics", description = "Get Kafka topic details for the provided collection of topic names",
+    @McpTool(title = "Describe topics", description = "Get Kafka topic details for the provided collection of topic names. "
+            + "Large collections are described in batches, topics that could not be described are listed in failedTopics",
             generateOutputSchema = true)
-    @Cacheable(value = "mcp-responses", key = "'describeTopics-' + (#topicNames?.hashCode() ?: 'null')")
+    @Cacheable(value = "mcp-responses",
+            key = "'describeTopics-' + @kafkaClusterRegistry.resolveClusterName(#cluster) + '-' "
+                    + "+ (#topicNames?.hashCode() ?: 'null') + '-' + #outputFormat")
     public KafkaTopicDescriptionsDto describeTopics(
-            @McpToolParam(description = "Collection of Kafka topic names to describe") final Collection<String> topicNames) {
-        LOG.debug("Requested to describe topics: {}", topicNames);
-        final List<KafkaTopicDescriptionDto> topicDescriptions = kafkaStatusViewer.describeTopics(topicNames);
-        final KafkaTopicDescriptionsDto topicDescriptionsDto = new KafkaTopicDescriptionsDto(topicDescriptions);
-        saveMcpResponseToHistory("describeTopics", topicDescriptionsDto);
+            @McpToolParam(description = "Collection of Kafka topic names to describe") final Collection<String> topicNames,
+            @McpToolParam(description = "FULL (default) for complete node details per partition, COMPACT for one node "
+                    + "table and broker id arrays per topic, recommended for many or large topics",
+                    required = false) final TopicDescriptionsFormat outputFormat,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        LOG.debug("Requested to describe topics of {}: {}", clusterName, topicNames);
+        final KafkaStatusViewer kafkaStatusViewer = getStatusViewer(clusterName);
+        final Optional<List<KafkaTopicDescriptionDto>> snapshotDescriptions = getFreshPartitionSnapshot(clusterName)
+                .flatMap(snapshot -> snapshot.findTopicDescriptions(topicNames));
+        final KafkaTopicDescriptionsDto topicDescriptionsDto;
+        if (snapshotDescriptions.isPresent()) {
+            topicDescriptionsDto = new KafkaTopicDescriptionsDto(snapshotDescriptions.get());
+        } else if (topicNames != null && topicNames.size() > describeTopicsBatchSize) {
+            final KafkaTopicDescriptionsResultDto result = awaitResult(
+                    kafkaStatusViewer.describeTopicsInBatchesAsync(topicNames));
+            topicDescriptionsDto = new KafkaTopicDescriptionsDto(result.topicDescriptions(), result.failedTopics());
+        } else {
+            final List<KafkaTopicDescriptionDto> topicDescriptions = awaitResult(
+                    kafkaStatusViewer.describeTopicsAsync(topicNames));
+            topicDescriptionsDto = new KafkaTopicDescriptionsDto(topicDescriptions);
+        }
+        final McpHistory history = historyConverter.toMcpHistory(clusterName, McpHistory.TOPIC_DESCRIPTIONS_TOOL_NAME,
+                Map.of("topicNames", topicNames == null ? Set.of() : new TreeSet<>(topicNames)),
+                topicDescriptionsDto.toFormat(historyTopicDescriptionsFormat));
+        // the partitions are extracted from the full descriptions by the history writer, whatever the stored format
+        history.setTopicDescriptions(topicDescriptionsDto.topicDescriptions());
+        queueHistory(history);
 
-        return topicDescriptionsDto;
+        return topicDescriptionsDto.toFormat(outputFormat);
     }
 
     @McpTool(title = "Get historical MCP responses about Kafka cluster or topics state",
-            description = "Provide a tool name and start and end dates range to get the historical MCP responses from the past")
+            description = "Provide a tool name and start and end dates range to get the historical MCP responses from the past. "
+                    + "Responses are returned oldest first in pages, pass nextCursor to get the next page while hasMore is true")
     @Cacheable(value = "mcp-responses",
-            key = "'getHistoricalMcpResponses-' + (#mcpTool + '-' + #startDate + '-' + #endDate)")
-    public List<McpHistory> getHistoricalMcpResponses(
+            key = "'getHistoricalMcpResponses-' + @kafkaClusterRegistry.resolveClusterName(#cluster) + '-' "
+                    + "+ (#mcpTool + '-' + #startDate + '-' + #endDate + '-' + #cursor + '-' + #limit)")
+    public McpHistoryPageDto getHistoricalMcpResponses(
             @McpToolParam(description = "Kafka MCP tool name") final String mcpTool,
             @McpToolParam(description = "start date, string in format yyyy-MM-dd") final String startDate,
-            @McpToolParam(description = "end date, string in format yyyy-MM-dd") final String endDate) {
-        LOG.debug("Requested to get historical MCP responses for {} from {} to {}", mcpTool, startDate, endDate);
+            @McpToolParam(description = "end date, string in format yyyy-MM-dd") final String endDate,
+            @McpToolParam(description = "nextCursor of the previous page, omit for the first page",
+                    required = false) final String cursor,
+            @McpToolParam(description = "Maximum number of responses per page, capped by the server",
+                    required = false) final Integer limit,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        final int pageSize = limit == null ? historyPageSize : Math.min(Math.max(limit, 1), historyPageSize);
+        LOG.debug("Requested to get historical MCP responses of {} for {} from {} to {} after cursor '{}', page size {}",
+                clusterName, mcpTool, startDate, endDate, cursor, pageSize);
 
         final Instant startDateInstant = parseDate(startDate);
         final Instant endDateInstant = parseDate(endDate);
 
-        final List<McpHistory> history = historyRepository.findByToolNameAndTimestampBetween(mcpTool,
-                startDateInstant, endDateInstant);
-        LOG.debug("Found {} historical MCP responses for {} from {} to {}", history.size(), mcpTool, startDate, endDate);
+        final McpHistoryPageDto page = historyReader.readPage(clusterName, mcpTool, startDateInstant, endDateInstant,
+                cursor, pageSize);
+        LOG.debug("Found {} historical MCP responses for {} from {} to {}, more pages: {}", page.entries()
+                .size(), mcpTool, startDate, endDate, page.hasMore());
 
-        return history;
+        return page;
+    }
+
+    @McpTool(title = "Diff historical MCP responses",
+            description = "Compare the stored responses of a tool nearest to two timestamps server-side and get only "
+                    + "the differences: added, removed and changed fields, topics, partitions, nodes and other list "
+                    + "elements. Use it instead of getHistoricalMcpResponses to find out what changed between two points "
+                    + "in time")
+    @Cacheable(value = "mcp-responses",
+            key = "'diffHistoricalMcpResponses-' + @kafkaClusterRegistry.resolveClusterName(#cluster) + '-' "
+                    + "+ (#mcpTool + '-' + #from + '-' + #to + '-' + #maxListed)")
+    public McpHistoryDiffDto diffHistoricalMcpResponses(
+            @McpToolParam(description = "Kafka MCP tool name") final String mcpTool,
+            @McpToolParam(description = "ISO-8601 timestamp of the response to compare from, e.g. "
+                    + "2026-01-01T10:00:00Z, the nearest stored response is used") final String from,
+            @McpToolParam(description = "ISO-8601 timestamp of the response to compare to, the nearest stored "
+                    + "response is used") final String to,
+            @McpToolParam(description = "Maximum number of changes listed, defaults to the server setting",
+                    required = false) final Integer maxListed,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        final int listed = maxListed == null
+                ? historyDiffMaxListed
+                : Math.min(Math.max(maxListed, 0), historyDiffMaxListed);
+        final Instant fromTimestamp = parseTimestamp(from);
+        final Instant toTimestamp = parseTimestamp(to);
+        if (fromTimestamp == null || toTimestamp == null) {
+            throw new GenericMcpException("Both timestamps to compare the responses at are required");
+        }
+        LOG.debug("Requested to diff historical MCP responses of {} for {} from {} to {}", clusterName, mcpTool, from,
+                to);
+
+        final McpHistoryDiffDto diff = historyDiffer.diff(clusterName, mcpTool, fromTimestamp, toTimestamp, listed);
+        LOG.debug("Found {} changes of {} responses from {} to {}", diff.changeCount(), mcpTool, diff.fromTimestamp(),
+                diff.toTimestamp());
+
+        return diff;
+    }
+
+    @McpTool(title = "Describe topic partition trend",
+            description = "Get how the partition count, ISR size, under-replicated and offline partitions and ELR "
+                    + "replicas of a topic evolved within a dates range, aggregated server-side per HOUR or DAY from "
+                    + "the stored describeTopics responses. Use it instead of getHistoricalMcpResponses for trend "
+                    + "questions, only topics described with describeTopics are covered",
+            generateOutputSchema = true)
+    @Cacheable(value = "mcp-responses",
+            key = "'describeTopicPartitionTrend-' + @kafkaClusterRegistry.resolveClusterName(#cluster) + '-' "
+                    + "+ (#topic + '-' + #startDate + '-' + #endDate + '-' + #interval)")
+    public KafkaTopicPartitionTrendDto describeTopicPartitionTrend(
+            @McpToolParam(description = "Kafka topic name") final String topic,
+            @McpToolParam(description = "start date, string in format yyyy-MM-dd") final String startDate,
+            @McpToolParam(description = "end date, string in format yyyy-MM-dd") final String endDate,
+            @McpToolParam(description = "HOUR or DAY (default), the interval every point aggregates",
+                    required = false) final TrendInterval interval,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        final TrendInterval trendInterval = interval == null ? TrendInterval.DAY : interval;
+        LOG.debug("Requested to describe the partition trend of topic {} of {} from {} to {} per {}", topic,
+                clusterName, startDate, endDate, trendInterval);
+
+        final KafkaTopicPartitionTrendDto trend = historyReader.readTopicPartitionTrend(clusterName, topic,
+                parseDate(startDate), parseDate(endDate), trendInterval);
+        LOG.debug("Found {} partition trend points of topic {} from {} to {}", trend.points()
+                .size(), topic, startDate, endDate);
+
+        return trend;
     }
 
     @McpTool(title = "Save key problems and recommendations",
             description = "Saves the summary of the Kafka cluster problems and recommended fixes. Before saving the summary, it is required to get user's consent first")
     public void saveProblemsAndRecommendationsSummary(
-            @McpToolParam(description = "Summary of the Kafka cluster problems and recommended fixes") final String summary) {
-        LOG.debug("Requested to save problems and recommendations summary: {}", summary);
+            @McpToolParam(description = "Summary of the Kafka cluster problems and recommended fixes") final String summary,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        LOG.debug("Requested to save problems and recommendations summary of {}: {}", clusterName, summary);
         final KafkaRecommendationsSummaryDto summaryDto = new KafkaRecommendationsSummaryDto(summary);
-        saveMcpResponseToHistory("problemsAndRecommendationsSummary", summaryDto);
+        // written synchronously: the user consented to save it, so it must not be dropped by the history writer
+        final McpHistory history = historyConverter.toMcpHistory(clusterName, McpHistory.SUMMARY_TOOL_NAME,
+                summaryDto);
+        historyStore.saveAll(List.of(history));
+    }
+
+    @McpTool(title = "List Kafka clusters",
+            description = "List the Kafka clusters this server can inspect, every other tool accepts one of them as cluster",
+            generateOutputSchema = true)
+    public KafkaClusterNamesDto listClusters() {
+        LOG.debug("Requested to list clusters");
+        return new KafkaClusterNamesDto(clusterRegistry.getDefaultClusterName(), clusterRegistry.getClusterNames());
+    }
+
+    @McpTool(title = "Describe terraform drift",
+            description = "Compare the topics declared in the Kafka cluster terraform configuration with the live "
+                    + "cluster server-side: partition counts, replication factors and declared or undeclared config "
+                    + "overrides. Only the differences and missing or undeclared topics are returned",
+            generateOutputSchema = true)
+    @Cacheable(value = "mcp-responses", key = "'describeTerraformDrift-' "
+            + "+ @kafkaClusterRegistry.resolveClusterName(#cluster) + '-' + #maxListed")
+    public KafkaTopicDriftReportDto describeTerraformDrift(
+            @McpToolParam(description = "Maximum number of drifts and topics listed, defaults to the server setting",
+                    required = false) final Integer maxListed,
+            @McpToolParam(description = CLUSTER_PARAM_DESCRIPTION, required = false) final String cluster) {
+        final String clusterName = clusterRegistry.resolveClusterName(cluster);
+        final int listed = maxListed == null ? driftMaxListed : Math.min(Math.max(maxListed, 0), driftMaxListed);
+        LOG.debug("Requested to describe terraform drift of {}", clusterName);
+        final Map<String, KafkaTopicSpecDto> declaredTopics;
+        try {
+            declaredTopics = kafkaTerraformConfigReader.getDeclaredTopics(clusterName);
+        } catch (final Exception e) {
+            final String message = String.format("Failed to load the declared topics of Kafka cluster '%s' from "
+                    + "its terraform config: %s", clusterName, e.getMessage());
+            LOG.error(message, e);
+            throw new GenericMcpException(message);
+        }
+        final KafkaTopicDriftReportDto drift = awaitResult(getStatusViewer(clusterName).describeTopicDriftAsync(
+                declaredTopics, listed));
+        saveMcpResponseToHistory(clusterName, "describeTerraformDrift", Map.of("maxListed", listed), drift);
+
+        return drift;
     }
 
     @McpResource(uri = "file://mcp/kafka-terraform.yaml", mimeType = "text/yaml", title = "Kafka cluster terraform configuration", description = "Kafka cluster terraform configuration. Use it to compare the current cluster state vs the terraform configuration.")
@@ -131,10 +479,74 @@ public class KafkaMcpServer {
         }
     }
 
-    private void saveMcpResponseToHistory(final String methodName, final Object result) {
-        final McpHistory history = historyConverter.toMcpHistory(methodName, result);
-        LOG.debug("Saving MCP history: {}", history);
-        historyRepository.save(history);
+    /**
+     * The sync MCP server needs a value to return, so the tool thread joins the AdminClient future here, once, after
+     * the request has been issued. Failures are unwrapped so that {@code McpExceptionHandler} sees the original
+     * kafka-client exceptions.
+     */
+    private <T> T awaitResult(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private KafkaStatusViewer getStatusViewer(final String clusterName) {
+        return clusterRegistry.getStatusViewer(clusterName);
+    }
+
+    /**
+     * Only the default cluster is polled in the background, the other clusters are always queried directly.
+     */
+    private Optional<KafkaClusterSnapshotDto> getFreshSnapshot(final String clusterName) {
+        if (!clusterRegistry.isDefaultCluster(clusterName)) {
+            return Optional.empty();
+        }
+        return clusterSnapshotPoller.getFreshSnapshot();
+    }
+
+    private Optional<KafkaClusterSnapshotDto> getFreshPartitionSnapshot(final String clusterName) {
+        if (!clusterRegistry.isDefaultCluster(clusterName)) {
+            return Optional.empty();
+        }
+        return clusterSnapshotPoller.getFreshPartitionSnapshot();
+    }
+
+    /**
+     * Serializes the response on the calling thread and hands it to the {@link McpHistoryWriter}, so the tool call
+     * does not wait for the database.
+     */
+    private void saveMcpResponseToHistory(final String clusterName, final String methodName, final Object result) {
+        queueHistory(historyConverter.toMcpHistory(clusterName, methodName, result));
+    }
+
+    /**
+     * @param arguments the arguments the response depends on, normalized as described in {@link McpHistoryConverter}
+     */
+    private void saveMcpResponseToHistory(final String clusterName, final String methodName,
+            final Map<String, ?> arguments, final Object result) {
+        queueHistory(historyConverter.toMcpHistory(clusterName, methodName, arguments, result));
+    }
+
+    private void queueHistory(final McpHistory history) {
+        LOG.debug("Queueing MCP history: {}", history);
+        historyWriter.submit(history);
+    }
+
+    private Instant parseTimestamp(final String timestamp) {
+        if (timestamp == null || timestamp.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(timestamp);
+        } catch (final DateTimeParseException e) {
+            throw new GenericMcpException(String.format("Invalid timestamp '%s', expected ISO-8601 format, e.g. "
+                    + "2026-01-01T10:00:00Z", timestamp));
+        }
     }
 
     private Instant parseDate(final String dateString) {
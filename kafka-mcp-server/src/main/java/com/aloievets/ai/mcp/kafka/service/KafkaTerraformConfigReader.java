@@ -1,18 +1,33 @@
 package com.aloievets.ai.mcp.kafka.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicSpecDto;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
 
 @Component
 public class KafkaTerraformConfigReader {
     private static final String TERRAFORM_FILE_PATH_TEMPLATE = "mcp/kafka-terraform-%s.yaml";
     private final String kafkaClusterName;
     private final ResourceLoader resourceLoader;
+    private final ConcurrentMap<String, Map<String, KafkaTopicSpecDto>> declaredTopicsByCluster =
+            new ConcurrentHashMap<>();
 
     public KafkaTerraformConfigReader(
             @Value("${kafka-mcp.kafka.cluster.name}") final String kafkaClusterName,
@@ -22,8 +37,72 @@ public class KafkaTerraformConfigReader {
     }
 
     public String getKafkaTerraformConfig() throws IOException {
-        final String filename = String.format(TERRAFORM_FILE_PATH_TEMPLATE, kafkaClusterName);
-        final Resource resource = resourceLoader.getResource("classpath:" + filename);
-        return resource.getContentAsString(StandardCharsets.UTF_8);
+        return getResource(kafkaClusterName).getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Topics declared under {@code kafka.topics} of the cluster terraform configuration, by name. The file is parsed
+     * once per cluster, later calls return the parsed topics.
+     *
+     * @throws IllegalArgumentException if the topics are not declared as a list of maps with a {@code name}
+     */
+    public Map<String, KafkaTopicSpecDto> getDeclaredTopics(final String clusterName) throws IOException {
+        final Map<String, KafkaTopicSpecDto> cached = declaredTopicsByCluster.get(clusterName);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Map<String, KafkaTopicSpecDto> declaredTopics;
+        try (InputStream input = getResource(clusterName).getInputStream()) {
+            declaredTopics = parseDeclaredTopics(new Yaml(new SafeConstructor(new LoaderOptions())).load(input));
+        }
+        final Map<String, KafkaTopicSpecDto> previous = declaredTopicsByCluster.putIfAbsent(clusterName,
+                declaredTopics);
+        return previous == null ? declaredTopics : previous;
+    }
+
+    private Resource getResource(final String clusterName) {
+        final String filename = String.format(TERRAFORM_FILE_PATH_TEMPLATE, clusterName);
+        return resourceLoader.getResource("classpath:" + filename);
+    }
+
+    private static Map<String, KafkaTopicSpecDto> parseDeclaredTopics(final Object document) {
+        final Object kafka = document instanceof final Map<?, ?> root ? root.get("kafka") : null;
+        final Object topics = kafka instanceof final Map<?, ?> kafkaMap ? kafkaMap.get("topics") : null;
+        if (topics == null) {
+            return Map.of();
+        }
+        if (!(topics instanceof final List<?> topicList)) {
+            throw new IllegalArgumentException("kafka.topics must be a list");
+        }
+
+        final Map<String, KafkaTopicSpecDto> declaredTopics = new LinkedHashMap<>();
+        for (final Object topic : topicList) {
+            if (!(topic instanceof final Map<?, ?> topicMap) || !(topicMap.get("name") instanceof final String name)) {
+                throw new IllegalArgumentException("Every entry of kafka.topics must be a map with a name");
+            }
+            final Map<String, String> configs = new HashMap<>();
+            if (topicMap.get("config") instanceof final Map<?, ?> configMap) {
+                configMap.forEach((key, value) -> configs.put(String.valueOf(key), String.valueOf(value)));
+            }
+            declaredTopics.put(name, new KafkaTopicSpecDto(name, toInteger(topicMap.get("partitions"), name),
+                    toInteger(topicMap.get("replicationFactor"), name), Collections.unmodifiableMap(configs)));
+        }
+        return Collections.unmodifiableMap(declaredTopics);
+    }
+
+    private static Integer toInteger(final Object value, final String topic) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof final Number number) {
+            return number.intValue();
+        }
+        try {
+            return Integer.valueOf(String.valueOf(value));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Topic '%s' declares a non-numeric value '%s'", topic,
+                    value), e);
+        }
     }
 }
@@ -0,0 +1,195 @@
+package com.aloievets.ai.mcp.kafka.service.cluster;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import com.aloievets.ai.mcp.kafka.client.service.AdminOperation;
+import com.aloievets.ai.mcp.kafka.client.service.KafkaStatusViewer;
+import com.aloievets.ai.mcp.kafka.client.service.MicrometerAdminClientMetrics;
+import com.aloievets.ai.mcp.kafka.client.service.ResiliencePolicy;
+import com.aloievets.ai.mcp.kafka.config.KafkaClientResilienceProperties;
+import com.aloievets.ai.mcp.kafka.config.KafkaClustersProperties;
+import com.aloievets.ai.mcp.kafka.exceptions.GenericMcpException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the Kafka cluster an MCP tool call targets. The default cluster, configured via {@code spring.kafka}, is
+ * served by the application {@link KafkaStatusViewer}. Every cluster from {@code kafka-mcp.clusters.connections} gets
+ * its own AdminClient, created on first use and closed once it has not been used for {@code idle-timeout-ms}, so only
+ * the clusters in active use hold sockets and network threads.
+ */
+@Component
+public class KafkaClusterRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaClusterRegistry.class);
+    private final KafkaStatusViewer defaultStatusViewer;
+    private final String defaultClusterName;
+    private final Map<String, Map<String, String>> connections;
+    private final long idleTimeoutNanos;
+    private final long timeoutMs;
+    private final int describeTopicsBatchSize;
+    private final int describeTopicsConcurrency;
+    private final Map<AdminOperation, ResiliencePolicy> resiliencePolicies;
+    private final Function<Map<String, Object>, AdminClient> adminClientFactory;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, ClusterClient> clusterClients = new ConcurrentHashMap<>();
+
+    @Autowired
+    public KafkaClusterRegistry(final KafkaStatusViewer defaultStatusViewer,
+            @Value("${kafka-mcp.kafka.cluster.name}") final String defaultClusterName,
+            final KafkaClustersProperties clustersProperties,
+            @Value("${kafka-mcp.kafka.client.timeout-ms}") final long timeoutMs,
+            @Value("${kafka-mcp.kafka.client.describe-topics.batch-size}") final int describeTopicsBatchSize,
+            @Value("${kafka-mcp.kafka.client.describe-topics.concurrency}") final int describeTopicsConcurrency,
+            final KafkaClientResilienceProperties resilienceProperties, final MeterRegistry meterRegistry) {
+        this(defaultStatusViewer, defaultClusterName, clustersProperties, timeoutMs, describeTopicsBatchSize,
+                describeTopicsConcurrency, resilienceProperties.resilience(), AdminClient::create, meterRegistry);
+    }
+
+    KafkaClusterRegistry(final KafkaStatusViewer defaultStatusViewer, final String defaultClusterName,
+            final KafkaClustersProperties clustersProperties, final long timeoutMs, final int describeTopicsBatchSize,
+            final int describeTopicsConcurrency, final Map<AdminOperation, ResiliencePolicy> resiliencePolicies,
+            final Function<Map<String, Object>, AdminClient> adminClientFactory, final MeterRegistry meterRegistry) {
+        if (clustersProperties.connections()
+                .containsKey(defaultClusterName)) {
+            throw new IllegalArgumentException(String.format(
+                    "Cluster '%s' is the default cluster and must not be listed in kafka-mcp.clusters.connections",
+                    defaultClusterName));
+        }
+        this.defaultStatusViewer = defaultStatusViewer;
+        this.defaultClusterName = defaultClusterName;
+        this.connections = clustersProperties.connections();
+        this.idleTimeoutNanos = Duration.ofMillis(clustersProperties.idleTimeoutMs())
+                .toNanos();
+        this.timeoutMs = timeoutMs;
+        this.describeTopicsBatchSize = describeTopicsBatchSize;
+        this.describeTopicsConcurrency = describeTopicsConcurrency;
+        this.resiliencePolicies = resiliencePolicies;
+        this.adminClientFactory = adminClientFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public String getDefaultClusterName() {
+        return defaultClusterName;
+    }
+
+    public Set<String> getClusterNames() {
+        final Set<String> clusterNames = new TreeSet<>(connections.keySet());
+        clusterNames.add(defaultClusterName);
+        return clusterNames;
+    }
+
+    /**
+     * @return the name of the requested cluster, or the default cluster name when none was requested
+     * @throws GenericMcpException if the cluster is not configured
+     */
+    public String resolveClusterName(final String clusterName) {
+        if (clusterName == null || clusterName.isBlank() || clusterName.equals(defaultClusterName)) {
+            return defaultClusterName;
+        }
+        if (!connections.containsKey(clusterName)) {
+            throw new GenericMcpException(String.format("Unknown Kafka cluster '%s', available clusters: %s",
+                    clusterName, getClusterNames()));
+        }
+        return clusterName;
+    }
+
+    public boolean isDefaultCluster(final String clusterName) {
+        return defaultClusterName.equals(resolveClusterName(clusterName));
+    }
+
+    public KafkaStatusViewer getStatusViewer(final String clusterName) {
+        final String resolvedClusterName = resolveClusterName(clusterName);
+        if (resolvedClusterName.equals(defaultClusterName)) {
+            return defaultStatusViewer;
+        }
+
+        return clusterClients.compute(resolvedClusterName, (name, client) -> {
+                    final ClusterClient current = client == null ? createClusterClient(name) : client;
+                    current.lastUsedNanos = System.nanoTime();
+                    return current;
+                })
+                .statusViewer();
+    }
+
+    int openClientCount() {
+        return clusterClients.size();
+    }
+
+    @Scheduled(fixedDelayString = "${kafka-mcp.clusters.eviction-interval-ms}")
+    public void closeIdleClients() {
+        final long now = System.nanoTime();
+        for (final String clusterName : clusterClients.keySet()) {
+            final ClusterClient[] evicted = new ClusterClient[1];
+            clusterClients.computeIfPresent(clusterName, (name, client) -> {
+                if (now - client.lastUsedNanos < idleTimeoutNanos) {
+                    return client;
+                }
+                evicted[0] = client;
+                return null;
+            });
+
+            // closed outside computeIfPresent: closing waits for the AdminClient network thread
+            if (evicted[0] != null) {
+                LOG.info("Closing AdminClient of Kafka cluster '{}' after it has been idle", clusterName);
+                closeQuietly(clusterName, evicted[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        clusterClients.forEach(this::closeQuietly);
+        clusterClients.clear();
+    }
+
+    private ClusterClient createClusterClient(final String clusterName) {
+        LOG.info("Creating AdminClient for Kafka cluster '{}'", clusterName);
+        final AdminClient adminClient = adminClientFactory.apply(new HashMap<>(connections.get(clusterName)));
+        return new ClusterClient(adminClient, new KafkaStatusViewer(adminClient, timeoutMs, describeTopicsBatchSize,
+                describeTopicsConcurrency, resiliencePolicies, new MicrometerAdminClientMetrics(meterRegistry,
+                clusterName)));
+    }
+
+    private void closeQuietly(final String clusterName, final ClusterClient client) {
+        try {
+            client.adminClient()
+                    .close(Duration.ofMillis(timeoutMs));
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to close AdminClient of Kafka cluster '{}'", clusterName, e);
+        }
+    }
+
+    private static final class ClusterClient {
+        private final AdminClient adminClient;
+        private final KafkaStatusViewer statusViewer;
+        private volatile long lastUsedNanos;
+
+        private ClusterClient(final AdminClient adminClient, final KafkaStatusViewer statusViewer) {
+            this.adminClient = adminClient;
+            this.statusViewer = statusViewer;
+        }
+
+        private AdminClient adminClient() {
+            return adminClient;
+        }
+
+        private KafkaStatusViewer statusViewer() {
+            return statusViewer;
+        }
+    }
+}
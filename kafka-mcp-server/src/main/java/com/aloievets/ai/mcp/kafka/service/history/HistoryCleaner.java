@@ -2,38 +2,168 @@ package com.aloievets.ai.mcp.kafka.service.history;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.ToIntBiFunction;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import jakarta.annotation.PostConstruct;
-
+/**
+ * Deletes the MCP history entries older than {@code daily-days} in the background. Expired entries are found in id
+ * order and deleted by id range in bulk statements of up to {@code batch-size} entries, one transaction each, pausing
+ * {@code pause-ms} between them so that the history writer is not locked out. Afterwards the bodies and extracted
+ * partitions no longer referenced are deleted the same way, by body hash range in batches of {@code batch-size} bodies,
+ * and up to {@code vacuum-pages} free pages are released with SQLite incremental vacuum. A database created without
+ * incremental auto-vacuum is rebuilt for it only when {@code vacuum-rebuild-enabled} is set.
+ */
 @Component
 public class HistoryCleaner {
     private static final Logger LOG = LoggerFactory.getLogger(HistoryCleaner.class);
     private final McpHistoryRepository repository;
+    private final McpHistoryBodyRepository bodyRepository;
+    private final McpHistoryPartitionRepository partitionRepository;
+    private final HistoryDatabaseMaintenance databaseMaintenance;
     private final int keepHistoryDays;
     private final boolean cleanupEnabled;
+    private final int batchSize;
+    private final long pauseMs;
+    private final int vacuumPages;
+    private final boolean vacuumRebuildEnabled;
+    private final Counter removedEntries;
+    private final Counter removedBodies;
+    private final Counter removedPartitions;
+    private final Timer cleanupDuration;
+    private boolean incrementalVacuumChecked;
+    private boolean incrementalVacuumEnabled;
 
-    public HistoryCleaner(final McpHistoryRepository repository,
-            @Value("${kafka-mcp.history.days}") final int keepHistoryDays,
-            @Value("${kafka-mcp.history.cleanup-enabled}") final boolean cleanupEnabled) {
+    public HistoryCleaner(final McpHistoryRepository repository, final McpHistoryBodyRepository bodyRepository,
+            final McpHistoryPartitionRepository partitionRepository,
+            final HistoryDatabaseMaintenance databaseMaintenance, final MeterRegistry meterRegistry,
+            @Value("${kafka-mcp.history.daily-days}") final int keepHistoryDays,
+            @Value("${kafka-mcp.history.cleanup-enabled}") final boolean cleanupEnabled,
+            @Value("${kafka-mcp.history.cleanup.batch-size}") final int batchSize,
+            @Value("${kafka-mcp.history.cleanup.pause-ms}") final long pauseMs,
+            @Value("${kafka-mcp.history.cleanup.vacuum-pages}") final int vacuumPages,
+            @Value("${kafka-mcp.history.cleanup.vacuum-rebuild-enabled}") final boolean vacuumRebuildEnabled) {
+        if (batchSize <= 0 || pauseMs < 0 || vacuumPages <= 0) {
+            throw new IllegalArgumentException("History cleanup batch size and vacuum pages must be positive, pause "
+                    + "must not be negative");
+        }
         this.repository = repository;
+        this.bodyRepository = bodyRepository;
+        this.partitionRepository = partitionRepository;
+        this.databaseMaintenance = databaseMaintenance;
         this.keepHistoryDays = keepHistoryDays;
         this.cleanupEnabled = cleanupEnabled;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.vacuumPages = vacuumPages;
+        this.vacuumRebuildEnabled = vacuumRebuildEnabled;
+        this.removedEntries = removedRows(meterRegistry, "entry");
+        this.removedBodies = removedRows(meterRegistry, "body");
+        this.removedPartitions = removedRows(meterRegistry, "partition");
+        this.cleanupDuration = Timer.builder("mcp.history.cleanup.duration")
+                .description("Duration of the MCP history cleanup runs")
+                .register(meterRegistry);
     }
 
-    @PostConstruct
+    @Scheduled(initialDelayString = "${kafka-mcp.history.cleanup.initial-delay-ms}",
+            fixedDelayString = "${kafka-mcp.history.cleanup.interval-ms}")
     public void cleanupOldHistory() {
         if (!cleanupEnabled) {
-            LOG.info("MCP history cleanup is disabled");
             return;
         }
 
-        final Instant threshold = Instant.now().minus(keepHistoryDays, ChronoUnit.DAYS);
+        final long startNanos = System.nanoTime();
+        try {
+            cleanup(Instant.now());
+        } catch (final InterruptedException e) {
+            LOG.warn("MCP history cleanup was interrupted");
+            Thread.currentThread().interrupt();
+        } catch (final RuntimeException e) {
+            LOG.error("Failed to clean up the MCP history, retrying on the next run", e);
+        } finally {
+            cleanupDuration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return the number of deleted entries
+     */
+    long cleanup(final Instant now) throws InterruptedException {
+        final Instant threshold = now.minus(keepHistoryDays, ChronoUnit.DAYS);
         LOG.info("Deleting all MCP history entries older than {}", threshold);
-        repository.deleteAllByTimestampBefore(threshold);
+        long deletedEntries = 0;
+        long afterId = -1;
+        while (true) {
+            final List<Long> expiredIds = repository.findIdsBefore(threshold, afterId, Limit.of(batchSize));
+            if (expiredIds.isEmpty()) {
+                break;
+            }
+            final int deleted = repository.deleteBefore(threshold, expiredIds.getFirst(), expiredIds.getLast());
+            removedEntries.increment(deleted);
+            deletedEntries += deleted;
+            afterId = expiredIds.getLast();
+            if (expiredIds.size() < batchSize) {
+                break;
+            }
+            TimeUnit.MILLISECONDS.sleep(pauseMs);
+        }
+
+        final long deletedBodies = deleteUnreferenced(bodyRepository::findUnreferencedHashes,
+                bodyRepository::deleteUnreferenced, removedBodies);
+        final long deletedPartitions = deleteUnreferenced(partitionRepository::findUnreferencedHashes,
+                partitionRepository::deleteUnreferenced, removedPartitions);
+
+        if (!incrementalVacuumChecked) {
+            incrementalVacuumEnabled = databaseMaintenance.enableIncrementalVacuum(vacuumRebuildEnabled);
+            incrementalVacuumChecked = true;
+        }
+        final int releasedPages = incrementalVacuumEnabled ? databaseMaintenance.incrementalVacuum(vacuumPages) : 0;
+        LOG.info("Deleted {} MCP history entries, {} bodies and {} partitions, released {} pages", deletedEntries,
+                deletedBodies, deletedPartitions, releasedPages);
+        return deletedEntries;
+    }
+
+    /**
+     * Deletes the unreferenced rows by body hash range, {@code batch-size} body hashes per bulk statement.
+     *
+     * @return the number of deleted rows
+     */
+    private long deleteUnreferenced(final BiFunction<String, Limit, List<String>> findUnreferencedHashes,
+            final ToIntBiFunction<String, String> deleteUnreferenced, final Counter removedRows)
+            throws InterruptedException {
+        long deletedRows = 0;
+        String afterHash = "";
+        while (true) {
+            final List<String> hashes = findUnreferencedHashes.apply(afterHash, Limit.of(batchSize));
+            if (hashes.isEmpty()) {
+                return deletedRows;
+            }
+            final int deleted = deleteUnreferenced.applyAsInt(hashes.getFirst(), hashes.getLast());
+            removedRows.increment(deleted);
+            deletedRows += deleted;
+            afterHash = hashes.getLast();
+            if (hashes.size() < batchSize) {
+                return deletedRows;
+            }
+            TimeUnit.MILLISECONDS.sleep(pauseMs);
+        }
+    }
+
+    private static Counter removedRows(final MeterRegistry meterRegistry, final String row) {
+        return Counter.builder("mcp.history.cleanup.removed")
+                .description("MCP history rows removed by the cleanup")
+                .tag("row", row)
+                .register(meterRegistry);
     }
 }
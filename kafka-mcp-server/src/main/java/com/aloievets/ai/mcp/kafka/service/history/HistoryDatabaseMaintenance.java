@@ -0,0 +1,129 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQLite maintenance of the history database. Deleted rows leave free pages in the file, which incremental vacuum
+ * returns to the file system without rewriting the whole database like {@code VACUUM} does. The JPA entity manager
+ * factory depends on this bean, so a new database is switched to incremental auto-vacuum before its tables exist.
+ */
+@Component
+public class HistoryDatabaseMaintenance {
+    private static final Logger LOG = LoggerFactory.getLogger(HistoryDatabaseMaintenance.class);
+    private static final int AUTO_VACUUM_INCREMENTAL = 2;
+    private final JdbcTemplate jdbcTemplate;
+
+    public HistoryDatabaseMaintenance(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Switches a database without tables to incremental auto-vacuum. The writer pool's WAL journal mode already wrote
+     * the database header, so the mode takes effect only with {@code VACUUM}, which is instant on an empty database.
+     */
+    @PostConstruct
+    public void enableIncrementalVacuumOfNewDatabase() {
+        final Integer tables = jdbcTemplate.queryForObject(
+                "select count(*) from sqlite_schema where type = 'table'", Integer.class);
+        if ((tables != null && tables > 0) || isIncrementalVacuum()) {
+            return;
+        }
+
+        LOG.info("Enabling incremental auto-vacuum of the new MCP history database");
+        jdbcTemplate.execute("PRAGMA auto_vacuum = INCREMENTAL");
+        jdbcTemplate.execute("VACUUM");
+    }
+
+    /**
+     * Checks that the database uses incremental auto-vacuum, which new databases get on startup. A database created
+     * without it takes the mode only when rebuilt with {@code VACUUM}, which rewrites the whole file and holds the
+     * writer connection meanwhile, so it is rebuilt only when {@code rebuild} is set.
+     *
+     * @return whether incremental vacuum is enabled
+     */
+    public boolean enableIncrementalVacuum(final boolean rebuild) {
+        if (isIncrementalVacuum()) {
+            return true;
+        }
+        if (!rebuild) {
+            LOG.warn("The MCP history database does not use incremental auto-vacuum, so freed pages are not released. "
+                    + "Set kafka-mcp.history.cleanup.vacuum-rebuild-enabled to rebuild it once with VACUUM, which "
+                    + "blocks history writes until done");
+            return false;
+        }
+
+        LOG.info("Enabling incremental auto-vacuum of the MCP history database, rebuilding it once with VACUUM");
+        jdbcTemplate.execute("PRAGMA auto_vacuum = INCREMENTAL");
+        jdbcTemplate.execute("VACUUM");
+        LOG.info("Rebuilt the MCP history database with incremental auto-vacuum");
+        return isIncrementalVacuum();
+    }
+
+    /**
+     * Releases up to {@code maxPages} free pages in one transaction. In WAL mode the file shrinks on the checkpoint,
+     * so the WAL is checkpointed and truncated afterwards.
+     *
+     * @return the number of released pages
+     */
+    public int incrementalVacuum(final int maxPages) {
+        final Integer releasedPages = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            final boolean autoCommit = connection.getAutoCommit();
+            final int released;
+            connection.setAutoCommit(false);
+            try {
+                final int freePages = freePages(connection);
+                // the pragma releases one page per step and the driver steps a statement once per execute, the
+                // statement must be closed before the commit
+                try (PreparedStatement vacuum = connection.prepareStatement("PRAGMA incremental_vacuum(1)")) {
+                    for (int page = 0; page < Math.min(freePages, maxPages); page++) {
+                        vacuum.execute();
+                    }
+                }
+                connection.commit();
+                released = freePages - freePages(connection);
+            } catch (final SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            // a checkpoint cannot run within a transaction
+            if (released > 0) {
+                checkpoint(connection);
+            }
+            return released;
+        });
+        return releasedPages == null ? 0 : releasedPages;
+    }
+
+    private boolean isIncrementalVacuum() {
+        final Integer autoVacuum = jdbcTemplate.queryForObject("PRAGMA auto_vacuum", Integer.class);
+        return autoVacuum != null && autoVacuum == AUTO_VACUUM_INCREMENTAL;
+    }
+
+    private static void checkpoint(final Connection connection) throws SQLException {
+        try (PreparedStatement checkpoint = connection.prepareStatement("PRAGMA wal_checkpoint(TRUNCATE)");
+                ResultSet resultSet = checkpoint.executeQuery()) {
+            if (resultSet.next() && resultSet.getInt(1) != 0) {
+                LOG.debug("MCP history WAL checkpoint was blocked by readers, the file shrinks on a later checkpoint");
+            }
+        }
+    }
+
+    private static int freePages(final Connection connection) throws SQLException {
+        try (PreparedStatement freelistCount = connection.prepareStatement("PRAGMA freelist_count");
+                ResultSet resultSet = freelistCount.executeQuery()) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        }
+    }
+}
@@ -1,27 +1,98 @@
 package com.aloievets.ai.mcp.kafka.service.history;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
 
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * The response body is not stored in the entry itself but in {@link McpHistoryBody}, referenced by its hash, so that
+ * identical responses are stored once. Entries read by the history queries carry the encoded body and decode it on the
+ * first {@link #getJsonResponse()} call, so rows that are read but not returned are never decompressed. Entries written
+ * before the bodies were split out keep the response in the legacy {@code json_response} column until
+ * {@link McpHistoryMigrator} moves it into a body. Entries of {@code describeTopics} carry the described topics until
+ * they are saved, to extract their {@link McpHistoryPartition} rows. The arguments hash identifies the arguments the
+ * tool was called with, so that {@link McpHistoryCompactor} downsamples the responses of each argument set apart.
+ * <p>
+ * The cluster, tool and timestamp index serves the history queries of one tool within a time range. SQLite appends the
+ * integer primary key to every index, so it also orders the entries of equal timestamps for the keyset pagination. The
+ * body hash index serves the deletion of bodies no entry references anymore.
+ */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_mcp_history_cluster_tool_timestamp", columnList = "kafkaClusterName, toolName, timestamp"),
+        @Index(name = "idx_mcp_history_body_hash", columnList = "bodyHash")})
 public class McpHistory {
+    /**
+     * Tool name of the summaries saved with the user's consent, which are kept in full until they expire.
+     */
+    public static final String SUMMARY_TOOL_NAME = "problemsAndRecommendationsSummary";
+    /**
+     * Tool name of the topic descriptions, whose partitions are extracted into {@link McpHistoryPartition} rows.
+     */
+    public static final String TOPIC_DESCRIPTIONS_TOOL_NAME = "describeTopics";
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String kafkaClusterName;
     private String toolName;
+    private String bodyHash;
+    /**
+     * SHA-256 hash of the canonical JSON of the normalized tool arguments, {@code null} for entries written before the
+     * arguments were recorded.
+     */
+    private String argumentsHash;
+    @Transient
     private String jsonResponse;
+    @Transient
+    private byte[] encodedResponse;
+    @Column(name = "json_response", insertable = false, updatable = false)
+    private String legacyJsonResponse;
     private Instant timestamp;
+    @Transient
+    private List<KafkaTopicDescriptionDto> topicDescriptions;
 
     public McpHistory() {
     }
 
+    /**
+     * Used by the history queries, which join the entry with its body.
+     *
+     * @param encodedResponse body encoded by {@link McpHistoryBodyCodec}, {@code null} if not encoded yet
+     * @param jsonResponse    plain JSON of entries written before the bodies were split out
+     */
+    public McpHistory(final Long id, final String kafkaClusterName, final String toolName, final String bodyHash,
+            final byte[] encodedResponse, final String jsonResponse, final Instant timestamp) {
+        this(id, kafkaClusterName, toolName, null, bodyHash, encodedResponse, jsonResponse, timestamp);
+    }
+
+    /**
+     * Used by the history queries that also need the argument set of the entry.
+     */
+    public McpHistory(final Long id, final String kafkaClusterName, final String toolName, final String argumentsHash,
+            final String bodyHash, final byte[] encodedResponse, final String jsonResponse, final Instant timestamp) {
+        this.id = id;
+        this.kafkaClusterName = kafkaClusterName;
+        this.toolName = toolName;
+        this.argumentsHash = argumentsHash;
+        this.bodyHash = bodyHash;
+        this.encodedResponse = encodedResponse;
+        this.jsonResponse = jsonResponse;
+        this.timestamp = timestamp;
+    }
+
     public Long getId() {
         return id;
     }
@@ -46,7 +117,29 @@ public class McpHistory {
         this.toolName = toolName;
     }
 
+    @JsonIgnore
+    public String getBodyHash() {
+        return bodyHash;
+    }
+
+    public void setBodyHash(final String bodyHash) {
+        this.bodyHash = bodyHash;
+    }
+
+    @JsonIgnore
+    public String getArgumentsHash() {
+        return argumentsHash;
+    }
+
+    public void setArgumentsHash(final String argumentsHash) {
+        this.argumentsHash = argumentsHash;
+    }
+
     public String getJsonResponse() {
+        if (jsonResponse == null && encodedResponse != null) {
+            jsonResponse = McpHistoryBodyCodec.decode(encodedResponse);
+            encodedResponse = null;
+        }
         return jsonResponse;
     }
 
@@ -54,6 +147,10 @@ public class McpHistory {
         this.jsonResponse = jsonResponse;
     }
 
+    String getLegacyJsonResponse() {
+        return legacyJsonResponse;
+    }
+
     public Instant getTimestamp() {
         return timestamp;
     }
@@ -62,6 +159,15 @@ public class McpHistory {
         this.timestamp = timestamp;
     }
 
+    @JsonIgnore
+    public List<KafkaTopicDescriptionDto> getTopicDescriptions() {
+        return topicDescriptions;
+    }
+
+    public void setTopicDescriptions(final List<KafkaTopicDescriptionDto> topicDescriptions) {
+        this.topicDescriptions = topicDescriptions;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o == null || getClass() != o.getClass()) {
@@ -70,7 +176,7 @@ public class McpHistory {
 
         final McpHistory that = (McpHistory) o;
         return Objects.equals(id, that.id) && Objects.equals(toolName, that.toolName)
-                && Objects.equals(jsonResponse, that.jsonResponse) && Objects.equals(timestamp,
+                && Objects.equals(getJsonResponse(), that.getJsonResponse()) && Objects.equals(timestamp,
                 that.timestamp);
     }
 
@@ -78,7 +184,7 @@ public class McpHistory {
     public int hashCode() {
         int result = Objects.hashCode(id);
         result = 31 * result + Objects.hashCode(toolName);
-        result = 31 * result + Objects.hashCode(jsonResponse);
+        result = 31 * result + Objects.hashCode(getJsonResponse());
         result = 31 * result + Objects.hashCode(timestamp);
         return result;
     }
@@ -88,7 +194,7 @@ public class McpHistory {
         return new StringJoiner(", ", McpHistory.class.getSimpleName() + "[", "]")
                 .add("id=" + id)
                 .add("toolName='" + toolName + "'")
-                .add("jsonResponse='" + jsonResponse + "'")
+                .add("jsonResponse='" + getJsonResponse() + "'")
                 .add("timestamp=" + timestamp)
                 .toString();
     }
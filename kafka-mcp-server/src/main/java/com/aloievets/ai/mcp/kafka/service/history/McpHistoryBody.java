@@ -0,0 +1,84 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+
+/**
+ * Response body of MCP history entries, keyed by the SHA-256 hash of its canonical JSON and shared by every entry with
+ * the same response. The hash is assigned by {@link McpHistoryConverter}, so a body is new until it is persisted or
+ * loaded, which lets it be inserted without a preceding select.
+ * <p>
+ * The JSON is stored in the {@code content} BLOB encoded by {@link McpHistoryBodyCodec}.
+ */
+@Entity
+public class McpHistoryBody implements Persistable<String> {
+    @Id
+    private String hash;
+    private byte[] content;
+    @Transient
+    private boolean stored;
+
+    public McpHistoryBody() {
+    }
+
+    public McpHistoryBody(final String hash, final byte[] content) {
+        this.hash = hash;
+        this.content = content;
+    }
+
+    @Override
+    public String getId() {
+        return hash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final McpHistoryBody that = (McpHistoryBody) o;
+        return Objects.equals(hash, that.hash) && Arrays.equals(content, that.content);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(hash) + Arrays.hashCode(content);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", McpHistoryBody.class.getSimpleName() + "[", "]")
+                .add("hash='" + hash + "'")
+                .add("contentLength=" + (content == null ? 0 : content.length))
+                .toString();
+    }
+}
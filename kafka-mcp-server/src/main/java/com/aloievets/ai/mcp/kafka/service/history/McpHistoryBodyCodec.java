@@ -0,0 +1,53 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Storage encoding of MCP history bodies: a format version byte followed by the encoded JSON. Version
+ * {@value #DEFLATE_JSON} is the UTF-8 JSON compressed with DEFLATE; the repeated property names and broker lists of
+ * large responses such as {@code describeTopics} compress to a small fraction of the text. The version byte lets rows
+ * of different formats coexist, so a later format needs no rewrite of the stored bodies.
+ */
+final class McpHistoryBodyCodec {
+    static final byte DEFLATE_JSON = 1;
+
+    private McpHistoryBodyCodec() {
+    }
+
+    static byte[] encode(final String json) {
+        final byte[] utf8 = json.getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream(utf8.length / 4 + 16);
+        content.write(DEFLATE_JSON);
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (OutputStream deflated = new DeflaterOutputStream(content, deflater)) {
+            deflated.write(utf8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to compress the MCP history body", e);
+        } finally {
+            deflater.end();
+        }
+        return content.toByteArray();
+    }
+
+    static String decode(final byte[] content) {
+        if (content.length == 0 || content[0] != DEFLATE_JSON) {
+            throw new IllegalStateException(String.format("Unsupported MCP history body format %s",
+                    content.length == 0 ? "<empty>" : String.valueOf(content[0])));
+        }
+        try (InputStream inflated = new InflaterInputStream(new ByteArrayInputStream(content, 1,
+                content.length - 1))) {
+            return new String(inflated.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to decompress the MCP history body", e);
+        }
+    }
+}
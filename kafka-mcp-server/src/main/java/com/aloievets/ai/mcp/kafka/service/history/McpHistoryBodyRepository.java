@@ -0,0 +1,54 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface McpHistoryBodyRepository extends JpaRepository<McpHistoryBody, String> {
+
+    /**
+     * @return the given hashes whose bodies are already stored, looked up by primary key without loading the bodies
+     */
+    @Query("select b.hash from McpHistoryBody b where b.hash in :hashes")
+    Set<String> findStoredHashes(@Param("hashes") final Collection<String> hashes);
+
+    /**
+     * Inserts the body unless a body with its hash is stored already.
+     */
+    @Modifying
+    @Query(value = "insert or ignore into mcp_history_body (hash, content) values (:hash, :content)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("hash") final String hash, @Param("content") final byte[] content);
+
+    /**
+     * Hashes following {@code afterHash} of the bodies no MCP history entry references anymore, read in primary key
+     * order and served by the body hash index of the entries.
+     */
+    @Query("""
+            select b.hash from McpHistoryBody b
+            where b.hash > :afterHash and not exists (select 1 from McpHistory h where h.bodyHash = b.hash)
+            order by b.hash""")
+    List<String> findUnreferencedHashes(@Param("afterHash") final String afterHash, final Limit limit);
+
+    /**
+     * Deletes the bodies within the hash range no MCP history entry references anymore in one bulk statement.
+     *
+     * @return the number of deleted bodies
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from McpHistoryBody b
+            where b.hash between :fromHash and :toHash
+                and not exists (select 1 from McpHistory h where h.bodyHash = b.hash)""")
+    int deleteUnreferenced(@Param("fromHash") final String fromHash, @Param("toHash") final String toHash);
+}
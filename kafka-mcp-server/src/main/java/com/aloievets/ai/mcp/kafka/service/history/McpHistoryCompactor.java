@@ -0,0 +1,138 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Downsamples the MCP history into retention tiers: every response of the last {@code days}, then one response per
+ * hour of each cluster, tool and argument set until {@code hourly-days}, then one per day until {@code daily-days},
+ * after which {@link HistoryCleaner} deletes them. The first response of each bucket is kept, so a response that
+ * survived the hourly tier also represents its day. Responses to different arguments, e.g. {@code describeTopics} of
+ * different topics, are kept apart by {@link McpHistory#getArgumentsHash()}. Saved summaries and entries written before
+ * the arguments were recorded are never downsampled.
+ * <p>
+ * Tiers start at bucket boundaries, so only complete buckets are downsampled. Entries are read in keyset chunks of
+ * {@code batch-size} ids and timestamps without their bodies, and the redundant ones of each chunk are deleted in their
+ * own transaction. Compacted tiers hold few entries, so each run re-reads them cheaply instead of keeping a watermark.
+ * The bodies left unreferenced are deleted in batches by the next {@link HistoryCleaner} run.
+ */
+@Component
+public class McpHistoryCompactor {
+    private static final Logger LOG = LoggerFactory.getLogger(McpHistoryCompactor.class);
+    private final McpHistoryRepository historyRepository;
+    private final int rawDays;
+    private final int hourlyDays;
+    private final int batchSize;
+    private final boolean compactionEnabled;
+
+    public McpHistoryCompactor(final McpHistoryRepository historyRepository,
+            @Value("${kafka-mcp.history.days}") final int rawDays,
+            @Value("${kafka-mcp.history.hourly-days}") final int hourlyDays,
+            @Value("${kafka-mcp.history.daily-days}") final int dailyDays,
+            @Value("${kafka-mcp.history.compaction.batch-size}") final int batchSize,
+            @Value("${kafka-mcp.history.cleanup-enabled}") final boolean compactionEnabled) {
+        if (rawDays < 0 || hourlyDays < rawDays || dailyDays < hourlyDays) {
+            throw new IllegalArgumentException(String.format("History retention days must satisfy 0 <= days (%d) <= "
+                    + "hourly-days (%d) <= daily-days (%d)", rawDays, hourlyDays, dailyDays));
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("History compaction batch size must be positive");
+        }
+        this.historyRepository = historyRepository;
+        this.rawDays = rawDays;
+        this.hourlyDays = hourlyDays;
+        this.batchSize = batchSize;
+        this.compactionEnabled = compactionEnabled;
+    }
+
+    @Scheduled(initialDelayString = "${kafka-mcp.history.compaction.interval-ms}",
+            fixedDelayString = "${kafka-mcp.history.compaction.interval-ms}")
+    public void compactHistory() {
+        if (!compactionEnabled) {
+            return;
+        }
+
+        try {
+            compact(Instant.now());
+        } catch (final RuntimeException e) {
+            LOG.error("Failed to compact the MCP history, retrying on the next run", e);
+        }
+    }
+
+    /**
+     * @return the number of deleted entries
+     */
+    int compact(final Instant now) {
+        final Instant hourlyEnd = now.minus(rawDays, ChronoUnit.DAYS)
+                .truncatedTo(ChronoUnit.HOURS);
+        final Instant dailyEnd = now.minus(hourlyDays, ChronoUnit.DAYS)
+                .truncatedTo(ChronoUnit.DAYS);
+        long deleted = 0;
+        for (final McpHistorySeries series : historyRepository.findSeries()) {
+            if (McpHistory.SUMMARY_TOOL_NAME.equals(series.toolName())) {
+                continue;
+            }
+            deleted += compact(series, dailyEnd, hourlyEnd, ChronoUnit.HOURS);
+            deleted += compact(series, Instant.EPOCH, dailyEnd, ChronoUnit.DAYS);
+        }
+
+        if (deleted > 0) {
+            LOG.info("Compacted the MCP history by {} entries", deleted);
+        }
+        return Math.toIntExact(deleted);
+    }
+
+    /**
+     * Keeps the first entry of every {@code bucket} and argument set within {@code [start, end)} and deletes the rest.
+     * Entries come in timestamp order, so only the argument sets of the current bucket are tracked.
+     */
+    private int compact(final McpHistorySeries series, final Instant start, final Instant end,
+            final ChronoUnit bucket) {
+        Instant afterTimestamp = start;
+        long afterId = -1;
+        Instant currentBucket = null;
+        final Set<String> keptArguments = new HashSet<>();
+        int deleted = 0;
+        while (true) {
+            final List<McpHistoryTimestamp> chunk = historyRepository.findTimestamps(series.kafkaClusterName(),
+                    series.toolName(), afterTimestamp, afterId, end, Limit.of(batchSize));
+            final List<Long> redundantIds = new ArrayList<>();
+            for (final McpHistoryTimestamp entry : chunk) {
+                if (entry.argumentsHash() == null) {
+                    continue;
+                }
+                final Instant entryBucket = entry.timestamp()
+                        .truncatedTo(bucket);
+                if (!entryBucket.equals(currentBucket)) {
+                    currentBucket = entryBucket;
+                    keptArguments.clear();
+                }
+                if (!keptArguments.add(entry.argumentsHash())) {
+                    redundantIds.add(entry.id());
+                }
+            }
+            if (!redundantIds.isEmpty()) {
+                historyRepository.deleteAllByIdInBatch(redundantIds);
+                deleted += redundantIds.size();
+            }
+            if (chunk.size() < batchSize) {
+                return deleted;
+            }
+            afterTimestamp = chunk.getLast()
+                    .timestamp();
+            afterId = chunk.getLast()
+                    .id();
+        }
+    }
+}
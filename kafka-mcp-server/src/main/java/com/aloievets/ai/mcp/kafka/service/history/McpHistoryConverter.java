@@ -1,28 +1,47 @@
 package com.aloievets.ai.mcp.kafka.service.history;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
 
 import com.aloievets.ai.mcp.kafka.exceptions.GenericMcpException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Serializes MCP responses into history entries. The JSON is canonical, map entries are ordered by key, so that equal
+ * responses produce equal bytes and share one {@link McpHistoryBody} under the SHA-256 hash of the JSON. The normalized
+ * tool arguments are hashed the same way.
+ */
 @Component
 public class McpHistoryConverter {
 	private static final Logger LOG = LoggerFactory.getLogger(McpHistoryConverter.class);
+	private static final HexFormat HEX = HexFormat.of();
 	private final ObjectMapper objectMapper;
-	private final String kafkaClusterName;
 
-	public McpHistoryConverter(final ObjectMapper objectMapper, @Value("${kafka-mcp.kafka.cluster.name}") final String kafkaClusterName) {
-		this.objectMapper = objectMapper;
-        this.kafkaClusterName = kafkaClusterName;
-    }
+	public McpHistoryConverter(final ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper.copy()
+				.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+	}
+
+	public <T> McpHistory toMcpHistory(final String kafkaClusterName, final String toolName, final T responseDto) {
+		return toMcpHistory(kafkaClusterName, toolName, Map.of(), responseDto);
+	}
 
-	public <T> McpHistory toMcpHistory(final String toolName, final T responseDto) {
+	/**
+	 * @param arguments tool arguments that shape the response, with defaults and limits applied and collections sorted,
+	 *                  so that calls returning the same kind of response have equal arguments
+	 */
+	public <T> McpHistory toMcpHistory(final String kafkaClusterName, final String toolName,
+			final Map<String, ?> arguments, final T responseDto) {
 		LOG.debug("Converting MCP response DTO to MCP history");
 
 		try {
@@ -30,6 +49,8 @@ public class McpHistoryConverter {
 			final McpHistory history = new McpHistory();
 			history.setKafkaClusterName(kafkaClusterName);
 			history.setToolName(toolName);
+			history.setArgumentsHash(hash(objectMapper.writeValueAsString(arguments)));
+			history.setBodyHash(hash(jsonResponse));
 			history.setJsonResponse(jsonResponse);
 			history.setTimestamp(Instant.now());
 			return history;
@@ -39,4 +60,14 @@ public class McpHistoryConverter {
 			throw new GenericMcpException("Failed to convert MCP response to JSON and save the results to the history. Contact the development team");
 		}
 	}
+
+	static String hash(final String json) {
+		try {
+			return HEX.formatHex(MessageDigest.getInstance("SHA-256")
+					.digest(json.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+		}
+	}
 }
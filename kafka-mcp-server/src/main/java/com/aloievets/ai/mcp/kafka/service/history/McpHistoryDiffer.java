@@ -0,0 +1,270 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import com.aloievets.ai.mcp.kafka.exceptions.GenericMcpException;
+import com.aloievets.ai.mcp.kafka.model.McpHistoryChangeDto;
+import com.aloievets.ai.mcp.kafka.model.McpHistoryChangeType;
+import com.aloievets.ai.mcp.kafka.model.McpHistoryDiffDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Diffs two stored responses of a tool server-side, so that only the differences are returned. Each timestamp is
+ * resolved to the nearest stored response with two single-row index lookups. The {@code to} response is looked up
+ * first and the {@code from} response among those of the same argument set, so e.g. {@code describeTopics} responses
+ * of different topics are never compared. Responses written before the arguments were recorded match any arguments.
+ * Responses with the same body hash are equal without being decoded.
+ * <p>
+ * The diff is structural: objects are compared field by field; arrays of objects are matched by the first identity
+ * field in {@link #IDENTITY_FIELDS} whose values are unique on both sides, e.g. topics by {@code name}, partitions by
+ * {@code partition} and nodes by {@code id}, so an added topic is reported once instead of shifting every later
+ * element; arrays of scalars are compared as multisets, so a reordered {@code listTopics} response has no changes and
+ * only the added and removed elements are reported; other arrays by index.
+ */
+@Component
+public class McpHistoryDiffer {
+    private static final Logger LOG = LoggerFactory.getLogger(McpHistoryDiffer.class);
+    private static final List<String> IDENTITY_FIELDS = List.of("name", "id", "partition", "groupId", "topic", "path");
+    private final McpHistoryRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public McpHistoryDiffer(final McpHistoryRepository repository, final ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param maxListed maximum number of changes listed, all changes are counted
+     */
+    @Transactional(readOnly = true)
+    public McpHistoryDiffDto diff(final String kafkaClusterName, final String toolName, final Instant from,
+            final Instant to, final int maxListed) {
+        final McpHistory after = findNearest(kafkaClusterName, toolName, null, to);
+        final McpHistory before = findNearest(kafkaClusterName, toolName, after.getArgumentsHash(), from);
+        LOG.debug("Diffing MCP history entries {} and {} of tool {}", before.getId(), after.getId(), toolName);
+
+        final Changes changes = new Changes(maxListed);
+        if (!Objects.equals(before.getBodyHash(), after.getBodyHash()) || before.getBodyHash() == null) {
+            diff("", readTree(before), readTree(after), changes);
+        }
+        return new McpHistoryDiffDto(toolName, before.getTimestamp(), after.getTimestamp(), changes.getCount(),
+                changes.getListed());
+    }
+
+    /**
+     * @param argumentsHash argument set of the response, any if {@code null}
+     */
+    private McpHistory findNearest(final String kafkaClusterName, final String toolName, final String argumentsHash,
+            final Instant timestamp) {
+        final Optional<McpHistory> atOrBefore = repository.findLatestAtOrBefore(kafkaClusterName, toolName,
+                        argumentsHash, timestamp, Limit.of(1))
+                .stream()
+                .findFirst();
+        final Optional<McpHistory> after = repository.findEarliestAfter(kafkaClusterName, toolName, argumentsHash,
+                        timestamp, Limit.of(1))
+                .stream()
+                .findFirst();
+        if (atOrBefore.isPresent() && after.isPresent()) {
+            return Duration.between(atOrBefore.get()
+                    .getTimestamp(), timestamp)
+                    .compareTo(Duration.between(timestamp, after.get()
+                            .getTimestamp())) <= 0 ? atOrBefore.get() : after.get();
+        }
+        return atOrBefore.or(() -> after)
+                .orElseThrow(() -> new GenericMcpException(String.format("No responses of tool '%s' of Kafka cluster "
+                        + "'%s' are stored in the history", toolName, kafkaClusterName)));
+    }
+
+    private JsonNode readTree(final McpHistory history) {
+        try {
+            return objectMapper.readTree(history.getJsonResponse());
+        } catch (final JsonProcessingException e) {
+            LOG.error(String.format("Failed to parse the MCP history entry %d", history.getId()), e);
+            throw new GenericMcpException(String.format("The stored response of tool '%s' at %s can not be parsed",
+                    history.getToolName(), history.getTimestamp()));
+        }
+    }
+
+    static void diff(final String path, final JsonNode before, final JsonNode after, final Changes changes) {
+        if (before.equals(after)) {
+            return;
+        }
+        if (before.isObject() && after.isObject()) {
+            diffObjects(path, before, after, changes);
+        } else if (before.isArray() && after.isArray()) {
+            diffArrays(path, before, after, changes);
+        } else {
+            changes.add(McpHistoryChangeType.CHANGED, path, before, after);
+        }
+    }
+
+    private static void diffObjects(final String path, final JsonNode before, final JsonNode after,
+            final Changes changes) {
+        before.fieldNames()
+                .forEachRemaining(field -> {
+                    final String fieldPath = path + "/" + escape(field);
+                    if (after.has(field)) {
+                        diff(fieldPath, before.get(field), after.get(field), changes);
+                    } else {
+                        changes.add(McpHistoryChangeType.REMOVED, fieldPath, before.get(field), null);
+                    }
+                });
+        after.fieldNames()
+                .forEachRemaining(field -> {
+                    if (!before.has(field)) {
+                        changes.add(McpHistoryChangeType.ADDED, path + "/" + escape(field), null, after.get(field));
+                    }
+                });
+    }
+
+    private static void diffArrays(final String path, final JsonNode before, final JsonNode after,
+            final Changes changes) {
+        final String identityField = findIdentityField(before, after);
+        if (identityField != null) {
+            final Map<String, JsonNode> beforeElements = byIdentity(before, identityField);
+            final Map<String, JsonNode> afterElements = byIdentity(after, identityField);
+            beforeElements.forEach((identity, element) -> {
+                final String elementPath = path + "/[" + identityField + "=" + escape(identity) + "]";
+                final JsonNode afterElement = afterElements.get(identity);
+                if (afterElement == null) {
+                    changes.add(McpHistoryChangeType.REMOVED, elementPath, element, null);
+                } else {
+                    diff(elementPath, element, afterElement, changes);
+                }
+            });
+            afterElements.forEach((identity, element) -> {
+                if (!beforeElements.containsKey(identity)) {
+                    changes.add(McpHistoryChangeType.ADDED, path + "/[" + identityField + "=" + escape(identity) + "]",
+                            null, element);
+                }
+            });
+            return;
+        }
+
+        final Map<JsonNode, Integer> beforeScalars = countScalars(before);
+        final Map<JsonNode, Integer> afterScalars = countScalars(after);
+        if (beforeScalars != null && afterScalars != null) {
+            beforeScalars.forEach((element, count) -> {
+                for (int i = afterScalars.getOrDefault(element, 0); i < count; i++) {
+                    changes.add(McpHistoryChangeType.REMOVED, path, element, null);
+                }
+            });
+            afterScalars.forEach((element, count) -> {
+                for (int i = beforeScalars.getOrDefault(element, 0); i < count; i++) {
+                    changes.add(McpHistoryChangeType.ADDED, path, null, element);
+                }
+            });
+            return;
+        }
+
+        final int common = Math.min(before.size(), after.size());
+        for (int i = 0; i < common; i++) {
+            diff(path + "/" + i, before.get(i), after.get(i), changes);
+        }
+        for (int i = common; i < before.size(); i++) {
+            changes.add(McpHistoryChangeType.REMOVED, path + "/" + i, before.get(i), null);
+        }
+        for (int i = common; i < after.size(); i++) {
+            changes.add(McpHistoryChangeType.ADDED, path + "/" + i, null, after.get(i));
+        }
+    }
+
+    /**
+     * @return the first identity field every element of both arrays has, with a scalar value unique within its array,
+     * {@code null} if there is none
+     */
+    private static String findIdentityField(final JsonNode before, final JsonNode after) {
+        for (final String field : IDENTITY_FIELDS) {
+            if (isIdentity(before, field) && isIdentity(after, field)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isIdentity(final JsonNode array, final String field) {
+        final Set<String> identities = new HashSet<>();
+        for (final JsonNode element : array) {
+            final JsonNode identity = element.get(field);
+            if (identity == null || !identity.isValueNode() || !identities.add(identity.asText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, JsonNode> byIdentity(final JsonNode array, final String field) {
+        final Map<String, JsonNode> elements = new LinkedHashMap<>();
+        for (final JsonNode element : array) {
+            elements.put(element.get(field)
+                    .asText(), element);
+        }
+        return elements;
+    }
+
+    /**
+     * @return the occurrences of each element in order of first occurrence, {@code null} if some element is not a
+     * scalar
+     */
+    private static Map<JsonNode, Integer> countScalars(final JsonNode array) {
+        final Map<JsonNode, Integer> elements = new LinkedHashMap<>();
+        for (final JsonNode element : array) {
+            if (!element.isValueNode()) {
+                return null;
+            }
+            elements.merge(element, 1, Integer::sum);
+        }
+        return elements;
+    }
+
+    /**
+     * JSON pointer escaping of a path segment.
+     */
+    private static String escape(final String segment) {
+        return segment.replace("~", "~0")
+                .replace("/", "~1");
+    }
+
+    static final class Changes {
+        private final int maxListed;
+        private final List<McpHistoryChangeDto> listed = new ArrayList<>();
+        private int count;
+
+        Changes(final int maxListed) {
+            this.maxListed = maxListed;
+        }
+
+        private void add(final McpHistoryChangeType type, final String path, final JsonNode before,
+                final JsonNode after) {
+            count++;
+            if (listed.size() < maxListed) {
+                listed.add(new McpHistoryChangeDto(type, path, before, after));
+            }
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        List<McpHistoryChangeDto> getListed() {
+            return listed;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the responses of the history written by earlier versions, which stored them in the {@code json_response}
+ * column of the entries, into encoded, content-addressed bodies in the background. Rows are read and rewritten in
+ * chunks of {@code batch-size}, one transaction per chunk, pausing {@code pause-ms} between them so that the history
+ * writer is not locked out. A failed run resumes where it stopped on the next run, and runs stop once no entry is
+ * left to migrate.
+ */
+@Component
+public class McpHistoryMigrator {
+    private static final Logger LOG = LoggerFactory.getLogger(McpHistoryMigrator.class);
+    private final McpHistoryStore store;
+    private final int batchSize;
+    private final long pauseMs;
+    private final boolean migrationEnabled;
+    private boolean migrationCompleted;
+
+    public McpHistoryMigrator(final McpHistoryStore store,
+            @Value("${kafka-mcp.history.migration.batch-size}") final int batchSize,
+            @Value("${kafka-mcp.history.migration.pause-ms}") final long pauseMs,
+            @Value("${kafka-mcp.history.migration.enabled}") final boolean migrationEnabled) {
+        if (batchSize <= 0 || pauseMs < 0) {
+            throw new IllegalArgumentException("History migration batch size must be positive, pause must not be "
+                    + "negative");
+        }
+        this.store = store;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.migrationEnabled = migrationEnabled;
+    }
+
+    @Scheduled(initialDelayString = "${kafka-mcp.history.migration.initial-delay-ms}",
+            fixedDelayString = "${kafka-mcp.history.migration.interval-ms}")
+    public void migrateLegacyHistory() {
+        if (!migrationEnabled || migrationCompleted) {
+            return;
+        }
+
+        try {
+            migrate();
+        } catch (final InterruptedException e) {
+            LOG.warn("MCP history migration was interrupted");
+            Thread.currentThread().interrupt();
+        } catch (final RuntimeException e) {
+            LOG.error("Failed to migrate the MCP history, the remaining rows are migrated on the next run", e);
+        }
+    }
+
+    /**
+     * @return the number of migrated entries
+     */
+    long migrate() throws InterruptedException {
+        long migrated = 0;
+        while (true) {
+            final int batch = store.moveLegacyResponses(batchSize);
+            migrated += batch;
+            if (batch < batchSize) {
+                break;
+            }
+            TimeUnit.MILLISECONDS.sleep(pauseMs);
+        }
+        migrationCompleted = true;
+        if (migrated > 0) {
+            LOG.info("Migrated {} MCP history entry responses", migrated);
+        }
+        return migrated;
+    }
+}
@@ -0,0 +1,9 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.util.List;
+
+/**
+ * One page of historical MCP responses, oldest first. {@code nextCursor} is empty when {@code hasMore} is false.
+ */
+public record McpHistoryPageDto(List<McpHistory> entries, String nextCursor, boolean hasMore) {
+}
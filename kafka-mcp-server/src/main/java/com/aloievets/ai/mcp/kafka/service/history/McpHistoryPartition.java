@@ -0,0 +1,184 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicPartitionInfoDto;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+
+/**
+ * Leader and replica counts of one partition in a {@code describeTopics} response, extracted when its
+ * {@link McpHistoryBody} is stored. Like the body, the row is keyed by the body hash, so a response repeated by many
+ * entries is extracted once; trend queries join it with the entries of a time range instead of decoding their JSON.
+ * The primary key, body hash, topic and partition, serves both that join and the topic filter. Hibernate orders the
+ * key columns by attribute name, hence {@code topicPartition} rather than a name sorting before {@code topic}.
+ */
+@Entity
+@IdClass(McpHistoryPartition.Key.class)
+public class McpHistoryPartition implements Persistable<McpHistoryPartition.Key> {
+    @Id
+    private String bodyHash;
+    @Id
+    private String topic;
+    @Id
+    private int topicPartition;
+    /**
+     * {@code -1} if the partition has no leader.
+     */
+    private int leaderId;
+    private int replicaCount;
+    private int isrCount;
+    private int elrCount;
+    @Transient
+    private boolean stored;
+
+    public McpHistoryPartition() {
+    }
+
+    public McpHistoryPartition(final String bodyHash, final String topic, final int topicPartition,
+            final int leaderId, final int replicaCount, final int isrCount, final int elrCount) {
+        this.bodyHash = bodyHash;
+        this.topic = topic;
+        this.topicPartition = topicPartition;
+        this.leaderId = leaderId;
+        this.replicaCount = replicaCount;
+        this.isrCount = isrCount;
+        this.elrCount = elrCount;
+    }
+
+    static List<McpHistoryPartition> fromTopicDescriptions(final String bodyHash,
+            final List<KafkaTopicDescriptionDto> topicDescriptions) {
+        final List<McpHistoryPartition> partitions = new ArrayList<>();
+        for (final KafkaTopicDescriptionDto description : topicDescriptions) {
+            for (final KafkaTopicPartitionInfoDto partition : description.partitions()) {
+                partitions.add(new McpHistoryPartition(bodyHash, description.name(), partition.partition(),
+                        partition.partitionLeader() == null ? -1 : partition.partitionLeader()
+                                .id(),
+                        partition.partitionReplicas()
+                                .size(),
+                        partition.inSyncReplicas()
+                                .size(),
+                        partition.eligibleLeaderReplicas()
+                                .size()));
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(bodyHash, topic, topicPartition);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+
+    public String getBodyHash() {
+        return bodyHash;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public int getTopicPartition() {
+        return topicPartition;
+    }
+
+    public int getLeaderId() {
+        return leaderId;
+    }
+
+    public int getReplicaCount() {
+        return replicaCount;
+    }
+
+    public int getIsrCount() {
+        return isrCount;
+    }
+
+    public int getElrCount() {
+        return elrCount;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final McpHistoryPartition that = (McpHistoryPartition) o;
+        return topicPartition == that.topicPartition && leaderId == that.leaderId
+                && replicaCount == that.replicaCount && isrCount == that.isrCount && elrCount == that.elrCount
+                && Objects.equals(bodyHash, that.bodyHash) && Objects.equals(topic, that.topic);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bodyHash, topic, topicPartition, leaderId, replicaCount, isrCount, elrCount);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", McpHistoryPartition.class.getSimpleName() + "[", "]")
+                .add("bodyHash='" + bodyHash + "'")
+                .add("topic='" + topic + "'")
+                .add("topicPartition=" + topicPartition)
+                .add("leaderId=" + leaderId)
+                .add("replicaCount=" + replicaCount)
+                .add("isrCount=" + isrCount)
+                .add("elrCount=" + elrCount)
+                .toString();
+    }
+
+    public static class Key implements Serializable {
+        private String bodyHash;
+        private String topic;
+        private int topicPartition;
+
+        public Key() {
+        }
+
+        public Key(final String bodyHash, final String topic, final int topicPartition) {
+            this.bodyHash = bodyHash;
+            this.topic = topic;
+            this.topicPartition = topicPartition;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final Key that = (Key) o;
+            return topicPartition == that.topicPartition && Objects.equals(bodyHash, that.bodyHash)
+                    && Objects.equals(topic, that.topic);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bodyHash, topic, topicPartition);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface McpHistoryPartitionRepository extends JpaRepository<McpHistoryPartition, McpHistoryPartition.Key> {
+
+    /**
+     * @return the given body hashes whose partitions are already extracted, served by the primary key
+     */
+    @Query("select distinct p.bodyHash from McpHistoryPartition p where p.bodyHash in :bodyHashes")
+    Set<String> findExtractedHashes(@Param("bodyHashes") final Collection<String> bodyHashes);
+
+    /**
+     * Partition aggregates of the topic per entry of the tool within {@code [start, end]}, ordered by timestamp. The
+     * entries are found by the cluster, tool and timestamp index and joined with their partitions by primary key, no
+     * body is read.
+     */
+    @Query("""
+            select new com.aloievets.ai.mcp.kafka.service.history.McpHistoryTopicStats(h.timestamp, count(p),
+                min(p.isrCount), sum(p.isrCount), sum(case when p.isrCount < p.replicaCount then 1 else 0 end),
+                sum(case when p.leaderId < 0 then 1 else 0 end), sum(p.elrCount))
+            from McpHistory h join McpHistoryPartition p on p.bodyHash = h.bodyHash
+            where h.kafkaClusterName = :kafkaClusterName and h.toolName = :toolName
+                and h.timestamp between :start and :end and p.topic = :topic
+            group by h.id, h.timestamp
+            order by h.timestamp, h.id""")
+    List<McpHistoryTopicStats> findTopicStats(@Param("kafkaClusterName") final String kafkaClusterName,
+            @Param("toolName") final String toolName, @Param("topic") final String topic,
+            @Param("start") final Instant start, @Param("end") final Instant end);
+
+    /**
+     * Body hashes following {@code afterHash} whose partitions no MCP history entry references anymore, read in primary
+     * key order and served by the body hash index of the entries.
+     */
+    @Query("""
+            select distinct p.bodyHash from McpHistoryPartition p
+            where p.bodyHash > :afterHash and not exists (select 1 from McpHistory h where h.bodyHash = p.bodyHash)
+            order by p.bodyHash""")
+    List<String> findUnreferencedHashes(@Param("afterHash") final String afterHash, final Limit limit);
+
+    /**
+     * Deletes the partitions of the bodies within the hash range no MCP history entry references anymore in one bulk
+     * statement.
+     *
+     * @return the number of deleted partitions
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from McpHistoryPartition p
+            where p.bodyHash between :fromHash and :toHash
+                and not exists (select 1 from McpHistory h where h.bodyHash = p.bodyHash)""")
+    int deleteUnreferenced(@Param("fromHash") final String fromHash, @Param("toHash") final String toHash);
+}
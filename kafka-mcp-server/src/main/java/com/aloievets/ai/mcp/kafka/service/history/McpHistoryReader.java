@@ -0,0 +1,126 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.aloievets.ai.mcp.kafka.exceptions.GenericMcpException;
+import com.aloievets.ai.mcp.kafka.model.KafkaTopicPartitionTrendDto;
+import com.aloievets.ai.mcp.kafka.model.KafkaTopicPartitionTrendPointDto;
+import com.aloievets.ai.mcp.kafka.model.TrendInterval;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the MCP history page by page with keyset pagination: a cursor holds the timestamp and id of the last entry
+ * returned, so every page is a bounded index range scan regardless of how deep the client has paged. Topic trends are
+ * aggregated from the extracted {@link McpHistoryPartition} rows without reading any response body.
+ */
+@Component
+public class McpHistoryReader {
+    private static final char CURSOR_SEPARATOR = '/';
+    private final McpHistoryRepository repository;
+    private final McpHistoryPartitionRepository partitionRepository;
+
+    public McpHistoryReader(final McpHistoryRepository repository,
+            final McpHistoryPartitionRepository partitionRepository) {
+        this.repository = repository;
+        this.partitionRepository = partitionRepository;
+    }
+
+    /**
+     * @param cursor   {@code nextCursor} of the previous page, {@code null} or blank for the first page
+     * @param pageSize maximum number of entries returned, one more row is read to tell whether another page follows
+     */
+    @Transactional(readOnly = true)
+    public McpHistoryPageDto readPage(final String kafkaClusterName, final String toolName, final Instant start,
+            final Instant end, final String cursor, final int pageSize) {
+        Instant afterTimestamp = start;
+        long afterId = -1;
+        if (cursor != null && !cursor.isBlank()) {
+            final int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+            try {
+                afterTimestamp = Instant.parse(cursor.substring(0, Math.max(separator, 0)));
+                afterId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (final DateTimeParseException | NumberFormatException e) {
+                throw new GenericMcpException(String.format("Invalid cursor '%s', pass the nextCursor of the previous "
+                        + "page", cursor));
+            }
+        }
+
+        final List<McpHistory> entries;
+        try (Stream<McpHistory> rows = repository.streamPage(kafkaClusterName, toolName, start, end, afterTimestamp,
+                afterId, Limit.of(pageSize + 1))) {
+            entries = rows.toList();
+        }
+
+        if (entries.size() <= pageSize) {
+            return new McpHistoryPageDto(entries, "", false);
+        }
+        final List<McpHistory> page = entries.subList(0, pageSize);
+        final McpHistory last = page.getLast();
+        return new McpHistoryPageDto(page, last.getTimestamp() + String.valueOf(CURSOR_SEPARATOR) + last.getId(), true);
+    }
+
+    /**
+     * Aggregates the partitions of the topic in the {@code describeTopics} responses within {@code [start, end]} per
+     * entry in SQL, then the entries per interval.
+     */
+    @Transactional(readOnly = true)
+    public KafkaTopicPartitionTrendDto readTopicPartitionTrend(final String kafkaClusterName, final String topic,
+            final Instant start, final Instant end, final TrendInterval interval) {
+        final List<McpHistoryTopicStats> stats = partitionRepository.findTopicStats(kafkaClusterName,
+                McpHistory.TOPIC_DESCRIPTIONS_TOOL_NAME, topic, start, end);
+        final ChronoUnit unit = interval.getUnit();
+        final List<KafkaTopicPartitionTrendPointDto> points = new ArrayList<>();
+        int from = 0;
+        while (from < stats.size()) {
+            final Instant pointStart = stats.get(from)
+                    .timestamp()
+                    .truncatedTo(unit);
+            int to = from + 1;
+            while (to < stats.size() && stats.get(to)
+                    .timestamp()
+                    .truncatedTo(unit)
+                    .equals(pointStart)) {
+                to++;
+            }
+            points.add(toTrendPoint(pointStart, stats.subList(from, to)));
+            from = to;
+        }
+        return new KafkaTopicPartitionTrendDto(topic, interval, points);
+    }
+
+    /**
+     * @param stats aggregates of the entries within the interval, not empty
+     */
+    private static KafkaTopicPartitionTrendPointDto toTrendPoint(final Instant start,
+            final List<McpHistoryTopicStats> stats) {
+        long maxPartitions = 0;
+        int minIsrCount = Integer.MAX_VALUE;
+        long partitions = 0;
+        long isrCount = 0;
+        long maxUnderReplicatedPartitions = 0;
+        long maxOfflinePartitions = 0;
+        long maxElrCount = 0;
+        for (final McpHistoryTopicStats snapshot : stats) {
+            maxPartitions = Math.max(maxPartitions, snapshot.partitions());
+            minIsrCount = Math.min(minIsrCount, snapshot.minIsrCount());
+            partitions += snapshot.partitions();
+            isrCount += snapshot.isrCount();
+            maxUnderReplicatedPartitions = Math.max(maxUnderReplicatedPartitions,
+                    snapshot.underReplicatedPartitions());
+            maxOfflinePartitions = Math.max(maxOfflinePartitions, snapshot.offlinePartitions());
+            maxElrCount = Math.max(maxElrCount, snapshot.elrCount());
+        }
+
+        return new KafkaTopicPartitionTrendPointDto(start, stats.size(), maxPartitions, minIsrCount,
+                Math.round(100.0 * isrCount / partitions) / 100.0, maxUnderReplicatedPartitions, maxOfflinePartitions,
+                maxElrCount);
+    }
+}
@@ -1,15 +1,122 @@
 package com.aloievets.ai.mcp.kafka.service.history;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface McpHistoryRepository extends JpaRepository<McpHistory, Long> {
 
-    List<McpHistory> findByToolNameAndTimestampBetween(final String toolName, final Instant start, final Instant end);
+    /**
+     * Keyset page of the entries of a tool within {@code [start, end]}, ordered by timestamp and id, that follow the
+     * entry at {@code (afterTimestamp, afterId)}. Served by the cluster, tool and timestamp index. Every entry is
+     * joined with its encoded body, which is decoded only when the response is read; entries not migrated yet fall
+     * back to their plain JSON column. The rows are streamed with a bounded JDBC fetch size and must be
+     * consumed within a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+            select new com.aloievets.ai.mcp.kafka.service.history.McpHistory(h.id, h.kafkaClusterName, h.toolName,
+                h.bodyHash, b.content, h.legacyJsonResponse, h.timestamp)
+            from McpHistory h left join McpHistoryBody b on b.hash = h.bodyHash
+            where h.kafkaClusterName = :kafkaClusterName and h.toolName = :toolName
+                and h.timestamp between :start and :end
+                and (h.timestamp > :afterTimestamp or (h.timestamp = :afterTimestamp and h.id > :afterId))
+            order by h.timestamp, h.id""")
+    Stream<McpHistory> streamPage(@Param("kafkaClusterName") final String kafkaClusterName,
+            @Param("toolName") final String toolName, @Param("start") final Instant start,
+            @Param("end") final Instant end, @Param("afterTimestamp") final Instant afterTimestamp,
+            @Param("afterId") final long afterId, final Limit limit);
+
+    /**
+     * The latest entries of a tool at or before {@code timestamp} with their bodies, newest first, of the argument set
+     * with {@code argumentsHash} or of any arguments if it is {@code null}. Served by a backward scan of the cluster,
+     * tool and timestamp index.
+     */
+    @Query("""
+            select new com.aloievets.ai.mcp.kafka.service.history.McpHistory(h.id, h.kafkaClusterName, h.toolName,
+                h.argumentsHash, h.bodyHash, b.content, h.legacyJsonResponse, h.timestamp)
+            from McpHistory h left join McpHistoryBody b on b.hash = h.bodyHash
+            where h.kafkaClusterName = :kafkaClusterName and h.toolName = :toolName and h.timestamp <= :timestamp
+                and (:argumentsHash is null or h.argumentsHash = :argumentsHash)
+            order by h.timestamp desc, h.id desc""")
+    List<McpHistory> findLatestAtOrBefore(@Param("kafkaClusterName") final String kafkaClusterName,
+            @Param("toolName") final String toolName, @Param("argumentsHash") final String argumentsHash,
+            @Param("timestamp") final Instant timestamp, final Limit limit);
+
+    /**
+     * The earliest entries of a tool after {@code timestamp} with their bodies, oldest first, of the argument set with
+     * {@code argumentsHash} or of any arguments if it is {@code null}.
+     */
+    @Query("""
+            select new com.aloievets.ai.mcp.kafka.service.history.McpHistory(h.id, h.kafkaClusterName, h.toolName,
+                h.argumentsHash, h.bodyHash, b.content, h.legacyJsonResponse, h.timestamp)
+            from McpHistory h left join McpHistoryBody b on b.hash = h.bodyHash
+            where h.kafkaClusterName = :kafkaClusterName and h.toolName = :toolName and h.timestamp > :timestamp
+                and (:argumentsHash is null or h.argumentsHash = :argumentsHash)
+            order by h.timestamp, h.id""")
+    List<McpHistory> findEarliestAfter(@Param("kafkaClusterName") final String kafkaClusterName,
+            @Param("toolName") final String toolName, @Param("argumentsHash") final String argumentsHash,
+            @Param("timestamp") final Instant timestamp, final Limit limit);
+
+    @Query("select distinct new com.aloievets.ai.mcp.kafka.service.history.McpHistorySeries(h.kafkaClusterName, "
+            + "h.toolName) from McpHistory h")
+    List<McpHistorySeries> findSeries();
+
+    /**
+     * Keyset chunk of the ids, timestamps and arguments hashes of a tool's entries before {@code end}, ordered by
+     * timestamp and id, that follow the entry at {@code (afterTimestamp, afterId)}. Served by the cluster, tool and
+     * timestamp index.
+     */
+    @Query("""
+            select new com.aloievets.ai.mcp.kafka.service.history.McpHistoryTimestamp(h.id, h.timestamp,
+                h.argumentsHash)
+            from McpHistory h
+            where h.kafkaClusterName = :kafkaClusterName and h.toolName = :toolName and h.timestamp < :end
+                and (h.timestamp > :afterTimestamp or (h.timestamp = :afterTimestamp and h.id > :afterId))
+            order by h.timestamp, h.id""")
+    List<McpHistoryTimestamp> findTimestamps(@Param("kafkaClusterName") final String kafkaClusterName,
+            @Param("toolName") final String toolName, @Param("afterTimestamp") final Instant afterTimestamp,
+            @Param("afterId") final long afterId, @Param("end") final Instant end, final Limit limit);
+
+    /**
+     * Entries written before the bodies were split out, whose response is still in the legacy column.
+     */
+    @Query("select h from McpHistory h where h.bodyHash is null and h.legacyJsonResponse is not null order by h.id")
+    List<McpHistory> findLegacyEntries(final Limit limit);
+
+    @Modifying
+    @Query(value = "update mcp_history set body_hash = :bodyHash, json_response = null where id = :id",
+            nativeQuery = true)
+    int moveToBody(@Param("id") final long id, @Param("bodyHash") final String bodyHash);
+
+    /**
+     * Ids of the entries older than {@code threshold} following {@code afterId}, read in primary key order.
+     */
+    @Query("select h.id from McpHistory h where h.id > :afterId and h.timestamp < :threshold order by h.id")
+    List<Long> findIdsBefore(@Param("threshold") final Instant threshold, @Param("afterId") final long afterId,
+            final Limit limit);
 
-    void deleteAllByTimestampBefore(final Instant timestamp);
-}
\ No newline at end of file
+    /**
+     * Deletes the entries older than {@code threshold} within the id range in one bulk statement, without loading them.
+     *
+     * @return the number of deleted entries
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from McpHistory h where h.id between :fromId and :toId and h.timestamp < :threshold")
+    int deleteBefore(@Param("threshold") final Instant threshold, @Param("fromId") final long fromId,
+            @Param("toId") final long toId);
+}
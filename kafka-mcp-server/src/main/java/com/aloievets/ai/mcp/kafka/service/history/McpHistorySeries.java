@@ -0,0 +1,7 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+/**
+ * The MCP history entries of one tool on one cluster.
+ */
+public record McpHistorySeries(String kafkaClusterName, String toolName) {
+}
@@ -0,0 +1,94 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Persists MCP history entries together with their content-addressed bodies. A body is inserted only if no body with
+ * its hash is stored yet, so repeated identical responses cost one small entry row each. Bodies are encoded with
+ * {@link McpHistoryBodyCodec} here, on the writer thread rather than the tool call thread. The same applies to the
+ * {@link McpHistoryPartition} rows of {@code describeTopics} responses, which are extracted once per body hash.
+ */
+@Component
+public class McpHistoryStore {
+    private static final Logger LOG = LoggerFactory.getLogger(McpHistoryStore.class);
+    private final McpHistoryRepository historyRepository;
+    private final McpHistoryBodyRepository bodyRepository;
+    private final McpHistoryPartitionRepository partitionRepository;
+
+    public McpHistoryStore(final McpHistoryRepository historyRepository,
+            final McpHistoryBodyRepository bodyRepository, final McpHistoryPartitionRepository partitionRepository) {
+        this.historyRepository = historyRepository;
+        this.bodyRepository = bodyRepository;
+        this.partitionRepository = partitionRepository;
+    }
+
+    /**
+     * Inserts the entries, their missing bodies and the partitions of topic descriptions not extracted yet in one
+     * transaction. The stored bodies and extracted partitions are looked up with a single query each per call and
+     * bodies shared by several entries are inserted once. Partitions are checked separately from bodies, so responses
+     * whose body was stored before the extraction was introduced are extracted too.
+     */
+    @Transactional
+    public void saveAll(final List<McpHistory> histories) {
+        final Map<String, McpHistoryBody> bodies = new LinkedHashMap<>();
+        for (final McpHistory history : histories) {
+            bodies.computeIfAbsent(history.getBodyHash(), hash -> new McpHistoryBody(hash,
+                    McpHistoryBodyCodec.encode(history.getJsonResponse())));
+        }
+        bodies.keySet().removeAll(bodyRepository.findStoredHashes(List.copyOf(bodies.keySet())));
+        LOG.debug("Saving {} MCP history entries with {} new bodies", histories.size(), bodies.size());
+
+        bodyRepository.saveAll(bodies.values());
+        historyRepository.saveAll(histories);
+        savePartitions(histories);
+    }
+
+    private void savePartitions(final List<McpHistory> histories) {
+        final Map<String, McpHistory> partitionSources = new LinkedHashMap<>();
+        for (final McpHistory history : histories) {
+            if (history.getTopicDescriptions() != null) {
+                partitionSources.putIfAbsent(history.getBodyHash(), history);
+            }
+        }
+        if (partitionSources.isEmpty()) {
+            return;
+        }
+        partitionSources.keySet().removeAll(partitionRepository.findExtractedHashes(
+                List.copyOf(partitionSources.keySet())));
+
+        final List<McpHistoryPartition> partitions = new ArrayList<>();
+        for (final Map.Entry<String, McpHistory> source : partitionSources.entrySet()) {
+            partitions.addAll(McpHistoryPartition.fromTopicDescriptions(source.getKey(), source.getValue()
+                    .getTopicDescriptions()));
+        }
+        LOG.debug("Saving {} partitions of {} new topic descriptions", partitions.size(), partitionSources.size());
+        partitionRepository.saveAll(partitions);
+    }
+
+    /**
+     * Moves the responses of up to {@code limit} entries written before the bodies were split out into encoded bodies.
+     * Their JSON is hashed as stored, it is not re-serialized into the canonical form.
+     *
+     * @return the number of moved entries, {@code 0} once every entry references a body
+     */
+    @Transactional
+    public int moveLegacyResponses(final int limit) {
+        final List<McpHistory> legacyEntries = historyRepository.findLegacyEntries(Limit.of(limit));
+        for (final McpHistory entry : legacyEntries) {
+            final String json = entry.getLegacyJsonResponse();
+            final String hash = McpHistoryConverter.hash(json);
+            bodyRepository.insertIfAbsent(hash, McpHistoryBodyCodec.encode(json));
+            historyRepository.moveToBody(entry.getId(), hash);
+        }
+        return legacyEntries.size();
+    }
+}
@@ -0,0 +1,9 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.time.Instant;
+
+/**
+ * Id, timestamp and arguments hash of an MCP history entry, read without its body.
+ */
+public record McpHistoryTimestamp(long id, Instant timestamp, String argumentsHash) {
+}
@@ -0,0 +1,11 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.time.Instant;
+
+/**
+ * Partition aggregates of one topic in one {@code describeTopics} history entry, computed by SQL from
+ * {@link McpHistoryPartition} rows.
+ */
+public record McpHistoryTopicStats(Instant timestamp, long partitions, int minIsrCount, long isrCount,
+                                   long underReplicatedPartitions, long offlinePartitions, long elrCount) {
+}
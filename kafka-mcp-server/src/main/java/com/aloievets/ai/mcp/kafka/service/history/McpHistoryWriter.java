@@ -0,0 +1,152 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Persists MCP history entries off the request path. Entries are put into a bounded queue and a single writer thread
+ * inserts them in batches of up to {@code batch-size} entries, one transaction per batch, at least every
+ * {@code flush-interval-ms}. When the queue is full new entries are dropped instead of blocking the tool call. The
+ * queue is flushed on shutdown.
+ */
+@Component
+public class McpHistoryWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(McpHistoryWriter.class);
+    private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private final McpHistoryStore store;
+    private final BlockingQueue<McpHistory> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter writtenEntries;
+    private final Counter droppedEntries;
+    private final Counter failedEntries;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public McpHistoryWriter(final McpHistoryStore store, final MeterRegistry meterRegistry,
+            @Value("${kafka-mcp.history.writer.queue-capacity}") final int queueCapacity,
+            @Value("${kafka-mcp.history.writer.batch-size}") final int batchSize,
+            @Value("${kafka-mcp.history.writer.flush-interval-ms}") final long flushIntervalMs) {
+        if (queueCapacity <= 0 || batchSize <= 0 || flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("History writer queue capacity, batch size and flush interval must be "
+                    + "positive");
+        }
+        this.store = store;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.writtenEntries = historyWrites(meterRegistry, "written");
+        this.droppedEntries = historyWrites(meterRegistry, "dropped");
+        this.failedEntries = historyWrites(meterRegistry, "failed");
+        Gauge.builder("mcp.history.queue.size", queue, BlockingQueue::size)
+                .description("MCP history entries waiting to be written")
+                .register(meterRegistry);
+        this.writerThread = new Thread(this::writeUntilStopped, "mcp-history-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * @return {@code false} if the entry was dropped because the queue is full or the writer is stopped
+     */
+    public boolean submit(final McpHistory history) {
+        if (running && queue.offer(history)) {
+            return true;
+        }
+        droppedEntries.increment();
+        LOG.warn("Dropped the MCP history entry of tool '{}', {}", history.getToolName(), running
+                ? "the history queue is full" : "the history writer is stopped");
+        return false;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        try {
+            writerThread.join(10_000);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            LOG.warn("MCP history writer did not finish in time, {} entries were not written", queue.size());
+        }
+    }
+
+    private void writeUntilStopped() {
+        final List<McpHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (final InterruptedException e) {
+                LOG.warn("MCP history writer was interrupted, {} queued entries are not written", queue.size());
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Collects entries until the batch is full or the flush interval since the first entry elapsed. Waits in slices of
+     * at most {@link #MAX_WAIT_NANOS}, so a stop is noticed without interrupting the writer; once stopped, only the
+     * entries already queued are taken.
+     */
+    private void fillBatch(final List<McpHistory> batch) throws InterruptedException {
+        final McpHistory first = queue.poll(Math.min(flushIntervalNanos, MAX_WAIT_NANOS), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        final long deadlineNanos = System.nanoTime() + flushIntervalNanos;
+        while (true) {
+            queue.drainTo(batch, batchSize - batch.size());
+            final long remainingNanos = deadlineNanos - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0 || !running) {
+                return;
+            }
+            final McpHistory next = queue.poll(Math.min(remainingNanos, MAX_WAIT_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void write(final List<McpHistory> batch) {
+        try {
+            store.saveAll(List.copyOf(batch));
+            writtenEntries.increment(batch.size());
+            LOG.debug("Saved {} MCP history entries", batch.size());
+        } catch (final RuntimeException e) {
+            failedEntries.increment(batch.size());
+            LOG.error("Failed to save {} MCP history entries", batch.size(), e);
+        }
+    }
+
+    private static Counter historyWrites(final MeterRegistry meterRegistry, final String outcome) {
+        return Counter.builder("mcp.history.writes")
+                .description("MCP history entries by write outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,145 @@
+package com.aloievets.ai.mcp.kafka.service.snapshot;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterSnapshotDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangesDto;
+import com.aloievets.ai.mcp.kafka.client.service.KafkaClusterSnapshotRefresher;
+import com.aloievets.ai.mcp.kafka.client.service.KafkaMetadataChangeFeed;
+import com.aloievets.ai.mcp.kafka.client.service.KafkaStatusViewer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps an in-memory snapshot of the cluster metadata refreshed in the background, so that read tools do not issue
+ * AdminClient requests per MCP session. A snapshot older than {@code max-age-ms} is not served. An incremental refresh
+ * describes only new topics and carries the other descriptions over, so partition leaders, ISRs and replicas are only
+ * as fresh as the last full refresh that described every topic; partition-level reads are served only while that is
+ * within {@code full-refresh-interval-ms} plus {@code max-age-ms}.
+ * The changes between consecutive snapshots are kept in a {@link KafkaMetadataChangeFeed}.
+ */
+@Component
+public class ClusterSnapshotPoller {
+    private static final Logger LOG = LoggerFactory.getLogger(ClusterSnapshotPoller.class);
+    private final KafkaClusterSnapshotRefresher snapshotRefresher;
+    private final KafkaMetadataChangeFeed changeFeed;
+    private final boolean snapshotEnabled;
+    private final Duration fullRefreshInterval;
+    private final Duration maxAge;
+    private final Duration partitionMaxAge;
+    private final Clock clock;
+    private volatile PolledSnapshot polled;
+    private Instant lastFullRefresh = Instant.EPOCH;
+
+    @Autowired
+    public ClusterSnapshotPoller(final KafkaStatusViewer kafkaStatusViewer,
+            @Value("${kafka-mcp.snapshot.enabled}") final boolean snapshotEnabled,
+            @Value("${kafka-mcp.snapshot.full-refresh-interval-ms}") final long fullRefreshIntervalMs,
+            @Value("${kafka-mcp.snapshot.max-age-ms}") final long maxAgeMs,
+            @Value("${kafka-mcp.snapshot.change-feed.capacity}") final int changeFeedCapacity) {
+        this(kafkaStatusViewer, snapshotEnabled, fullRefreshIntervalMs, maxAgeMs, changeFeedCapacity,
+                Clock.systemUTC());
+    }
+
+    ClusterSnapshotPoller(final KafkaStatusViewer kafkaStatusViewer, final boolean snapshotEnabled,
+            final long fullRefreshIntervalMs, final long maxAgeMs, final int changeFeedCapacity, final Clock clock) {
+        this.snapshotRefresher = new KafkaClusterSnapshotRefresher(kafkaStatusViewer);
+        this.changeFeed = new KafkaMetadataChangeFeed(changeFeedCapacity, clock.instant());
+        this.snapshotEnabled = snapshotEnabled;
+        this.fullRefreshInterval = Duration.ofMillis(fullRefreshIntervalMs);
+        this.maxAge = Duration.ofMillis(maxAgeMs);
+        this.partitionMaxAge = fullRefreshInterval.plus(maxAge);
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${kafka-mcp.snapshot.refresh-interval-ms}")
+    public void refreshSnapshot() {
+        if (!snapshotEnabled) {
+            return;
+        }
+
+        final PolledSnapshot previous = polled;
+        final Instant now = clock.instant();
+        final boolean fullRefresh = previous == null || !now.isBefore(lastFullRefresh.plus(fullRefreshInterval));
+        try {
+            final KafkaClusterSnapshotDto snapshot = snapshotRefresher.refreshAsync(
+                    previous == null ? null : previous.snapshot(), fullRefresh)
+                    .join();
+            if (previous != null) {
+                changeFeed.record(previous.snapshot(), snapshot);
+            }
+            Instant descriptionsRefreshedAt = previous == null ? Instant.EPOCH : previous.descriptionsRefreshedAt();
+            if (fullRefresh) {
+                lastFullRefresh = now;
+                if (snapshot.staleTopics()
+                        .isEmpty()) {
+                    descriptionsRefreshedAt = now;
+                } else {
+                    LOG.debug("Full refresh kept the previous layout of {} topics, partitions stay as fresh as {}",
+                            snapshot.staleTopics()
+                                    .size(), descriptionsRefreshedAt);
+                }
+            }
+            polled = new PolledSnapshot(snapshot, now, descriptionsRefreshedAt);
+            LOG.debug("Refreshed cluster snapshot with {} nodes and {} topics", snapshot.nodes()
+                    .size(), snapshot.topicNames()
+                    .size());
+        } catch (final RuntimeException e) {
+            LOG.warn("Failed to refresh cluster snapshot, keeping the snapshot taken at {}",
+                    previous == null ? null : previous.snapshot()
+                            .timestamp(), e);
+        }
+    }
+
+    public boolean isSnapshotEnabled() {
+        return snapshotEnabled;
+    }
+
+    public KafkaMetadataChangesDto getChanges(final String afterCursor, final Instant since, final int limit) {
+        return changeFeed.changesAfter(afterCursor, since, limit);
+    }
+
+    /**
+     * Snapshot for reads of nodes, controller and topic names, which every refresh re-reads.
+     */
+    public Optional<KafkaClusterSnapshotDto> getFreshSnapshot() {
+        final PolledSnapshot current = polled;
+        if (current == null || isStale(current.refreshedAt(), maxAge)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.snapshot());
+    }
+
+    /**
+     * Snapshot for reads of topic descriptions, e.g. partition counts, leaders and ISRs, which only a full refresh
+     * re-reads.
+     */
+    public Optional<KafkaClusterSnapshotDto> getFreshPartitionSnapshot() {
+        final PolledSnapshot current = polled;
+        if (current == null || isStale(current.refreshedAt(), maxAge)
+                || isStale(current.descriptionsRefreshedAt(), partitionMaxAge)) {
+            return Optional.empty();
+        }
+        return Optional.of(current.snapshot());
+    }
+
+    private boolean isStale(final Instant timestamp, final Duration age) {
+        return timestamp.plus(age)
+                .isBefore(clock.instant());
+    }
+
+    /**
+     * @param descriptionsRefreshedAt start of the last full refresh that described every topic
+     */
+    private record PolledSnapshot(KafkaClusterSnapshotDto snapshot, Instant refreshedAt,
+                                  Instant descriptionsRefreshedAt) {
+    }
+}
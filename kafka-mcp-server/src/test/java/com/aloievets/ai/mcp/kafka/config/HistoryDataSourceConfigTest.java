@@ -0,0 +1,94 @@
+package com.aloievets.ai.mcp.kafka.config;
+
+import com.aloievets.ai.mcp.kafka.service.history.HistoryDatabaseMaintenance;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryBody;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryBodyRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({HistoryDataSourceConfig.class, HistoryDatabaseMaintenance.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HistoryDataSourceConfigTest {
+    @TempDir
+    private static Path tempDir;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private HikariDataSource historyWriterDataSource;
+    @Autowired
+    private HikariDataSource historyReaderDataSource;
+    @Autowired
+    private McpHistoryBodyRepository bodyRepository;
+
+    @DynamicPropertySource
+    static void historyDatabase(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + tempDir.resolve("mcp-history.db"));
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesQueryOnlyReaderConnection() {
+        final TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            assertEquals(1, jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class));
+            assertEquals(1, activeConnections(historyReaderDataSource));
+            assertEquals(0, activeConnections(historyWriterDataSource));
+            assertThrows(DataAccessException.class, () -> jdbcTemplate.update(
+                    "insert into mcp_history_body (hash, content) values ('read-only', x'01')"));
+        });
+    }
+
+    @Test
+    void testTransactionalWritesUseSingleWriterConnection() {
+        final TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        readWrite.executeWithoutResult(status -> {
+            bodyRepository.save(new McpHistoryBody("written", new byte[] {1}));
+            assertEquals(0, jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class));
+            assertEquals(1, activeConnections(historyWriterDataSource));
+            assertEquals(0, activeConnections(historyReaderDataSource));
+        });
+
+        assertEquals(1, historyWriterDataSource.getMaximumPoolSize());
+        assertEquals(Set.of("written"), bodyRepository.findStoredHashes(List.of("written", "missing")));
+    }
+
+    @Test
+    void testNewDatabaseUsesWalAndIncrementalAutoVacuum() {
+        assertEquals("wal", jdbcTemplate.queryForObject("PRAGMA journal_mode", String.class));
+        assertEquals(2, jdbcTemplate.queryForObject("PRAGMA auto_vacuum", Integer.class));
+    }
+
+    /**
+     * Pools are started by their first connection.
+     */
+    private static int activeConnections(final HikariDataSource dataSource) {
+        return dataSource.getHikariPoolMXBean() == null ? 0 : dataSource.getHikariPoolMXBean()
+                .getActiveConnections();
+    }
+}
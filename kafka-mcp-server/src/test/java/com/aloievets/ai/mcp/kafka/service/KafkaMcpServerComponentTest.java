@@ -2,23 +2,54 @@ package com.aloievets.ai.mcp.kafka.service;
 
 import static com.aloievets.ai.mcp.kafka.service.McpTestUtils.assertTextMcpResourceResult;
 import static com.aloievets.ai.mcp.kafka.service.McpTestUtils.assertTextMcpToolResult;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.aloievets.ai.mcp.kafka.client.model.KafkaBrokerDiskUsageDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaBrokerTopicDiskUsageDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterHealthDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterOverviewDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterSnapshotDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaConsumerGroupLagDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaConsumerGroupTopicLagDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaConsumerLagDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaDiskUsageDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaLogDirDiskUsageDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangeType;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaMetadataChangesDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaPartitionHealthDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionsResultDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDiskUsageDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftKind;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDriftReportDto;
 import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicPartitionInfoDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicSpecDto;
 import com.aloievets.ai.mcp.kafka.client.service.KafkaStatusViewer;
 import com.aloievets.ai.mcp.kafka.model.KafkaNodesDto;
 import com.aloievets.ai.mcp.kafka.model.KafkaRecommendationsSummaryDto;
 import com.aloievets.ai.mcp.kafka.model.KafkaTopicDescriptionsDto;
 import com.aloievets.ai.mcp.kafka.model.KafkaTopicNamesDto;
+import com.aloievets.ai.mcp.kafka.service.history.HistoryDatabaseMaintenance;
 import com.aloievets.ai.mcp.kafka.service.history.McpHistory;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryBodyRepository;
 import com.aloievets.ai.mcp.kafka.service.history.McpHistoryConverter;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryPartitionRepository;
 import com.aloievets.ai.mcp.kafka.service.history.McpHistoryRepository;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryStore;
+import com.aloievets.ai.mcp.kafka.service.history.McpHistoryTopicStats;
+import com.aloievets.ai.mcp.kafka.service.snapshot.ClusterSnapshotPoller;
 import io.modelcontextprotocol.client.McpClient;
 import io.modelcontextprotocol.client.McpSyncClient;
 import io.modelcontextprotocol.client.transport.HttpClientStreamableHttpTransport;
@@ -28,14 +59,20 @@ import io.modelcontextprotocol.spec.McpSchema.ReadResourceRequest;
 import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -52,7 +89,17 @@ public class KafkaMcpServerComponentTest {
     @MockitoBean
     private McpHistoryRepository historyRepository;
     @MockitoBean
+    private McpHistoryBodyRepository historyBodyRepository;
+    @MockitoBean
+    private McpHistoryPartitionRepository historyPartitionRepository;
+    @MockitoBean
+    private HistoryDatabaseMaintenance historyDatabaseMaintenance;
+    @MockitoBean
+    private McpHistoryStore historyStore;
+    @MockitoBean
     private KafkaTerraformConfigReader terraformConfigReader;
+    @MockitoBean
+    private ClusterSnapshotPoller clusterSnapshotPoller;
     private McpSyncClient mcpClient;
 
     @BeforeEach
@@ -74,40 +121,42 @@ public class KafkaMcpServerComponentTest {
         final Set<String> topics = new TreeSet<>();
         topics.add("topic1");
         topics.add("topic2");
-        when(kafkaStatusViewer.listTopics()).thenReturn(topics);
+        when(kafkaStatusViewer.listTopicsAsync()).thenReturn(CompletableFuture.completedFuture(topics));
         final String expectedText = "{\"topicNames\":[\"topic1\",\"topic2\"]}";
         final var expectedDto = new KafkaTopicNamesDto(topics);
         final var mcpHistory = new McpHistory();
         mcpHistory.setId(1L);
         mcpHistory.setToolName("listTopics");
-        when(historyConverter.toMcpHistory(eq("listTopics"), eq(expectedDto))).thenReturn(mcpHistory);
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("listTopics"), eq(expectedDto))).thenReturn(mcpHistory);
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
                 .name("listTopics")
+                .arguments(Map.of())
                 .build());
 
         assertTextMcpToolResult(expectedText, result);
-        verify(historyConverter).toMcpHistory(eq("listTopics"), eq(expectedDto));
-        verify(historyRepository).save(mcpHistory);
+        verify(historyConverter).toMcpHistory(eq("testCluster"), eq("listTopics"), eq(expectedDto));
+        verifyHistorySaved(mcpHistory);
     }
 
     @Test
     void describeClusterController() {
         final KafkaNodeDto controllerNode = new KafkaNodeDto(1, "1", "localhost", 9092, "rack1");
-        when(kafkaStatusViewer.describeClusterController()).thenReturn(controllerNode);
+        when(kafkaStatusViewer.describeClusterControllerAsync()).thenReturn(CompletableFuture.completedFuture(controllerNode));
         final String expectedText = "{\"id\":1,\"idString\":\"1\",\"host\":\"localhost\",\"port\":9092,\"rack\":\"rack1\"}";
         final var mcpHistory = new McpHistory();
         mcpHistory.setId(2L);
         mcpHistory.setToolName("describeClusterController");
-        when(historyConverter.toMcpHistory(eq("describeClusterController"), eq(controllerNode))).thenReturn(mcpHistory);
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeClusterController"), eq(controllerNode))).thenReturn(mcpHistory);
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
                 .name("describeClusterController")
+                .arguments(Map.of())
                 .build());
 
         assertTextMcpToolResult(expectedText, result);
-        verify(historyConverter).toMcpHistory(eq("describeClusterController"), eq(controllerNode));
-        verify(historyRepository).save(mcpHistory);
+        verify(historyConverter).toMcpHistory(eq("testCluster"), eq("describeClusterController"), eq(controllerNode));
+        verifyHistorySaved(mcpHistory);
     }
 
     @Test
@@ -115,21 +164,161 @@ public class KafkaMcpServerComponentTest {
         final KafkaNodeDto node1 = new KafkaNodeDto(1, "1", "localhost", 9092, "rack1");
         final KafkaNodeDto node2 = new KafkaNodeDto(2, "2", "localhost", 9093, "rack2");
         final List<KafkaNodeDto> nodes = List.of(node1, node2);
-        when(kafkaStatusViewer.describeClusterNodes()).thenReturn(nodes);
+        when(kafkaStatusViewer.describeClusterNodesAsync()).thenReturn(CompletableFuture.completedFuture(nodes));
         final String expectedText = "{\"nodes\":[{\"id\":1,\"idString\":\"1\",\"host\":\"localhost\",\"port\":9092,\"rack\":\"rack1\"},{\"id\":2,\"idString\":\"2\",\"host\":\"localhost\",\"port\":9093,\"rack\":\"rack2\"}]}";
         final var expectedDto = new KafkaNodesDto(nodes);
         final var mcpHistory = new McpHistory();
         mcpHistory.setId(3L);
         mcpHistory.setToolName("describeClusterNodes");
-        when(historyConverter.toMcpHistory(eq("describeClusterNodes"), eq(expectedDto))).thenReturn(mcpHistory);
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeClusterNodes"), eq(expectedDto))).thenReturn(mcpHistory);
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
                 .name("describeClusterNodes")
+                .arguments(Map.of())
                 .build());
 
         assertTextMcpToolResult(expectedText, result);
-        verify(historyConverter).toMcpHistory(eq("describeClusterNodes"), eq(expectedDto));
-        verify(historyRepository).save(mcpHistory);
+        verify(historyConverter).toMcpHistory(eq("testCluster"), eq("describeClusterNodes"), eq(expectedDto));
+        verifyHistorySaved(mcpHistory);
+    }
+
+    @Test
+    void describeClusterOverview() {
+        final KafkaNodeDto controllerNode = new KafkaNodeDto(1, "1", "localhost", 9092, "rack1");
+        final KafkaClusterOverviewDto overview = new KafkaClusterOverviewDto("cluster-id", controllerNode, 3, 2, 10L);
+        when(kafkaStatusViewer.describeClusterOverviewAsync()).thenReturn(CompletableFuture.completedFuture(overview));
+        final var mcpHistory = new McpHistory();
+        mcpHistory.setId(4L);
+        mcpHistory.setToolName("describeClusterOverview");
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeClusterOverview"), eq(overview))).thenReturn(mcpHistory);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeClusterOverview")
+                .arguments(Map.of())
+                .build());
+
+        assertTextMcpToolResult("{\"clusterId\":\"cluster-id\",\"controller\":{\"id\":1,\"idString\":\"1\","
+                + "\"host\":\"localhost\",\"port\":9092,\"rack\":\"rack1\"},\"brokerCount\":3,\"topicCount\":2,"
+                + "\"partitionCount\":10}", result);
+        verifyHistorySaved(mcpHistory);
+    }
+
+    @Test
+    void describeClusterHealth() {
+        final KafkaPartitionHealthDto offlinePartition = new KafkaPartitionHealthDto("health-topic", 0, -1,
+                List.of(2), List.of(), List.of(2));
+        final KafkaClusterHealthDto health = new KafkaClusterHealthDto(2, 1, 2, 1, 1, 1, 0, new TreeMap<>(Map.of(1, 1L, 2, 0L)),
+                List.of(offlinePartition), List.of(offlinePartition), List.of(offlinePartition));
+        when(kafkaStatusViewer.describeClusterHealthAsync(5)).thenReturn(CompletableFuture.completedFuture(health));
+        final var mcpHistory = new McpHistory();
+        mcpHistory.setId(9L);
+        mcpHistory.setToolName("describeClusterHealth");
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeClusterHealth"),
+                eq(Map.of("maxListedPartitions", 5)), eq(health)))
+                .thenReturn(mcpHistory);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeClusterHealth")
+                .arguments(Map.of("maxListedPartitions", 5))
+                .build());
+
+        final String partitionJson = "{\"topic\":\"health-topic\",\"partition\":0,\"leader\":-1,\"replicas\":[2],"
+                + "\"inSyncReplicas\":[],\"eligibleLeaderReplicas\":[2]}";
+        assertTextMcpToolResult("{\"brokerCount\":2,\"topicCount\":1,\"partitionCount\":2,"
+                + "\"underReplicatedPartitionCount\":1,\"offlinePartitionCount\":1,"
+                + "\"eligibleLeaderReplicasPartitionCount\":1,\"undescribedTopicCount\":0,"
+                + "\"leaderCountByBroker\":{\"1\":1,\"2\":0},\"underReplicatedPartitions\":[" + partitionJson + "],"
+                + "\"offlinePartitions\":[" + partitionJson + "],\"eligibleLeaderReplicasPartitions\":["
+                + partitionJson + "]}", result);
+        verifyHistorySaved(mcpHistory);
+    }
+
+    @Test
+    void describeConsumerLag() {
+        final KafkaConsumerLagDto consumerLag = new KafkaConsumerLagDto(2, 42, List.of(
+                new KafkaConsumerGroupLagDto("lag-group", 42, 1, 2)), List.of(
+                new KafkaConsumerGroupTopicLagDto("lag-group", "lag-topic", 42, 40, 2)), 1, List.of("failed-group"), 0);
+        when(kafkaStatusViewer.describeConsumerLagAsync(20)).thenReturn(CompletableFuture.completedFuture(consumerLag));
+        final var mcpHistory = new McpHistory();
+        mcpHistory.setId(10L);
+        mcpHistory.setToolName("describeConsumerLag");
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeConsumerLag"), eq(Map.of("topN", 20)),
+                eq(consumerLag)))
+                .thenReturn(mcpHistory);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeConsumerLag")
+                .arguments(Map.of("topN", 1000))
+                .build());
+
+        assertTextMcpToolResult("{\"groupCount\":2,\"totalLag\":42,\"groups\":[{\"groupId\":\"lag-group\",\"lag\":42,"
+                + "\"topicCount\":1,\"partitionCount\":2}],\"topics\":[{\"groupId\":\"lag-group\",\"topic\":\"lag-topic\","
+                + "\"lag\":42,\"maxPartitionLag\":40,\"partitionCount\":2}],\"failedGroupCount\":1,"
+                + "\"failedGroups\":[\"failed-group\"],\"failedPartitionCount\":0}", result);
+        verifyHistorySaved(mcpHistory);
+    }
+
+    @Test
+    void describeDiskUsage() {
+        final KafkaDiskUsageDto diskUsage = new KafkaDiskUsageDto(1, 100, 1,
+                List.of(new KafkaBrokerDiskUsageDto(1, 100, 1, 1, 1000, 900)),
+                List.of(new KafkaTopicDiskUsageDto("disk-topic", 100, 1)),
+                List.of(new KafkaBrokerTopicDiskUsageDto(1, "disk-topic", 100, 1)),
+                List.of(new KafkaLogDirDiskUsageDto(1, "/data", 100, 1, 1000, 900)), 0, 0, List.of(), Map.of(),
+                Map.of());
+        when(kafkaStatusViewer.describeDiskUsageAsync(3)).thenReturn(CompletableFuture.completedFuture(diskUsage));
+        final var mcpHistory = new McpHistory();
+        mcpHistory.setId(11L);
+        mcpHistory.setToolName("describeDiskUsage");
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeDiskUsage"), eq(Map.of("topN", 3)),
+                eq(diskUsage)))
+                .thenReturn(mcpHistory);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeDiskUsage")
+                .arguments(Map.of("topN", 3))
+                .build());
+
+        assertTextMcpToolResult("{\"brokerCount\":1,\"totalSize\":100,\"replicaCount\":1,\"brokers\":[{\"brokerId\":1,"
+                + "\"size\":100,\"replicaCount\":1,\"logDirCount\":1,\"totalBytes\":1000,\"usableBytes\":900}],"
+                + "\"topics\":[{\"topic\":\"disk-topic\",\"size\":100,\"replicaCount\":1}],\"brokerTopics\":[{"
+                + "\"brokerId\":1,\"topic\":\"disk-topic\",\"size\":100,\"replicaCount\":1}],\"logDirs\":[{"
+                + "\"brokerId\":1,\"path\":\"/data\",\"size\":100,\"replicaCount\":1,\"totalBytes\":1000,"
+                + "\"usableBytes\":900}],\"futureReplicaCount\":0,\"futureReplicaOffsetLag\":0,\"futureReplicas\":[],"
+                + "\"failedBrokers\":{},\"failedLogDirs\":{}}", result);
+        verifyHistorySaved(mcpHistory);
+    }
+
+    @Test
+    void describeMetadataChanges() {
+        final KafkaMetadataChangesDto changes = new KafkaMetadataChangesDto(List.of(new KafkaMetadataChangeDto(8,
+                Instant.parse("2026-01-01T10:00:00Z"), KafkaMetadataChangeType.LEADER_CHANGED, "changed-topic-0", "1",
+                "2")), "2026-01-01T08:00:00Z/8", false, true);
+        when(clusterSnapshotPoller.isSnapshotEnabled()).thenReturn(true);
+        when(clusterSnapshotPoller.getChanges("2026-01-01T08:00:00Z/7", Instant.parse("2026-01-01T09:00:00Z"), 500))
+                .thenReturn(changes);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeMetadataChanges")
+                .arguments(Map.of("afterCursor", "2026-01-01T08:00:00Z/7", "since", "2026-01-01T09:00:00Z"))
+                .build());
+
+        assertTextMcpToolResult("{\"changes\":[{\"cursor\":8,\"timestamp\":\"2026-01-01T10:00:00Z\","
+                + "\"type\":\"LEADER_CHANGED\",\"subject\":\"changed-topic-0\",\"before\":\"1\",\"after\":\"2\"}],"
+                + "\"nextCursor\":\"2026-01-01T08:00:00Z/8\",\"hasMore\":false,\"complete\":true}", result);
+        verifyNoInteractions(kafkaStatusViewer, historyConverter, historyStore);
+    }
+
+    @Test
+    void describeMetadataChangesWithoutSnapshot() {
+        when(clusterSnapshotPoller.isSnapshotEnabled()).thenReturn(false);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeMetadataChanges")
+                .arguments(Map.of())
+                .build());
+
+        assertTrue(result.isError());
     }
 
     @Test
@@ -154,7 +343,8 @@ public class KafkaMcpServerComponentTest {
                 topic2, false, List.of(partitionInfo3, partitionInfo4), "topic2-id-456");
         final List<KafkaTopicDescriptionDto> topicDescriptions = List.of(topicDescription1, topicDescription2);
 
-        when(kafkaStatusViewer.describeTopics(List.of(topic1, topic2))).thenReturn(topicDescriptions);
+        when(kafkaStatusViewer.describeTopicsAsync(List.of(topic1, topic2)))
+                .thenReturn(CompletableFuture.completedFuture(topicDescriptions));
 
         final String expectedText = """
                 {"topicDescriptions":[\
@@ -219,7 +409,8 @@ public class KafkaMcpServerComponentTest {
         final var mcpHistory = new McpHistory();
         mcpHistory.setId(5L);
         mcpHistory.setToolName("describeTopics");
-        when(historyConverter.toMcpHistory(eq("describeTopics"), eq(expectedDto))).thenReturn(mcpHistory);
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeTopics"),
+                eq(Map.of("topicNames", Set.of(topic1, topic2))), eq(expectedDto))).thenReturn(mcpHistory);
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
                 .name("describeTopics")
@@ -227,10 +418,119 @@ public class KafkaMcpServerComponentTest {
                 .build());
 
         assertTextMcpToolResult(expectedText, result);
-        verify(kafkaStatusViewer).describeTopics(List.of(topic1, topic2));
-        verify(historyConverter).toMcpHistory(eq("describeTopics"), eq(expectedDto));
-        verify(historyRepository).save(mcpHistory);
-        verifyNoMoreInteractions(kafkaStatusViewer, historyConverter, historyRepository);
+        verify(kafkaStatusViewer).describeTopicsAsync(List.of(topic1, topic2));
+        verify(historyConverter).toMcpHistory(eq("testCluster"), eq("describeTopics"),
+                eq(Map.of("topicNames", Set.of(topic1, topic2))), eq(expectedDto));
+        verifyHistorySaved(mcpHistory);
+        assertEquals(topicDescriptions, mcpHistory.getTopicDescriptions());
+        verifyNoMoreInteractions(kafkaStatusViewer, historyConverter, historyStore);
+    }
+
+    @Test
+    void describeTopicsCompact() {
+        final String topic = "compact-topic";
+        final KafkaNodeDto node1 = new KafkaNodeDto(1, "1", "localhost", 9092, "rack1");
+        final KafkaNodeDto node2 = new KafkaNodeDto(2, "2", "localhost", 9093, "rack2");
+        final List<KafkaNodeDto> replicas = List.of(node1, node2);
+        final List<KafkaTopicDescriptionDto> topicDescriptions = List.of(new KafkaTopicDescriptionDto(topic, false,
+                List.of(new KafkaTopicPartitionInfoDto(0, node1, replicas, replicas, List.of(), List.of()),
+                        new KafkaTopicPartitionInfoDto(1, node2, replicas, List.of(node2), List.of(), List.of())),
+                "compact-topic-id"));
+        when(kafkaStatusViewer.describeTopicsAsync(List.of(topic)))
+                .thenReturn(CompletableFuture.completedFuture(topicDescriptions));
+        final var mcpHistory = new McpHistory();
+        mcpHistory.setId(8L);
+        mcpHistory.setToolName("describeTopics");
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeTopics"), eq(Map.of("topicNames", Set.of(topic))),
+                eq(new KafkaTopicDescriptionsDto(topicDescriptions))))
+                .thenReturn(mcpHistory);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeTopics")
+                .arguments(Map.of("topicNames", List.of(topic), "outputFormat", "COMPACT"))
+                .build());
+
+        assertTextMcpToolResult("""
+                {"compactTopicDescriptions":{"nodes":[\
+                {"id":1,"idString":"1","host":"localhost","port":9092,"rack":"rack1"},\
+                {"id":2,"idString":"2","host":"localhost","port":9093,"rack":"rack2"}],\
+                "topics":[{"name":"compact-topic","internal":false,"topicId":"compact-topic-id",\
+                "partitions":[0,1],"leaders":[1,2],"replicas":[[1,2],[1,2]],"inSyncReplicas":[[1,2],[2]],\
+                "eligibleLeaderReplicas":[[],[]],"lastKnownEligibleLeaderReplicas":[[],[]]}]}}\
+                """, result);
+        verifyHistorySaved(mcpHistory);
+    }
+
+    @Test
+    void describeTopicsInBatches() {
+        final List<String> topicNames = List.of("batch-topic1", "batch-topic2", "batch-topic3");
+        final KafkaNodeDto leaderNode = new KafkaNodeDto(1, "1", "localhost", 9092, "rack1");
+        final KafkaTopicPartitionInfoDto partitionInfo = new KafkaTopicPartitionInfoDto(
+                0, leaderNode, List.of(leaderNode), List.of(leaderNode), List.of(), List.of());
+        final List<KafkaTopicDescriptionDto> topicDescriptions = List.of(
+                new KafkaTopicDescriptionDto("batch-topic1", false, List.of(partitionInfo), "topic1-id"),
+                new KafkaTopicDescriptionDto("batch-topic3", false, List.of(partitionInfo), "topic3-id"));
+        final Map<String, String> failedTopics = Map.of("batch-topic2", "UnknownTopicOrPartitionException: unknown");
+        when(kafkaStatusViewer.describeTopicsInBatchesAsync(topicNames)).thenReturn(CompletableFuture.completedFuture(
+                new KafkaTopicDescriptionsResultDto(topicDescriptions, failedTopics)));
+        final String expectedText = """
+                {"topicDescriptions":[\
+                {"name":"batch-topic1","internal":false,"partitions":[\
+                {"partition":0,"partitionLeader":{"id":1,"idString":"1","host":"localhost","port":9092,"rack":"rack1"},\
+                "partitionReplicas":[{"id":1,"idString":"1","host":"localhost","port":9092,"rack":"rack1"}],\
+                "inSyncReplicas":[{"id":1,"idString":"1","host":"localhost","port":9092,"rack":"rack1"}],\
+                "eligibleLeaderReplicas":[],"lastKnownEligibleLeaderReplicas":[]}],"topicId":"topic1-id"},\
+                {"name":"batch-topic3","internal":false,"partitions":[\
+                {"partition":0,"partitionLeader":{"id":1,"idString":"1","host":"localhost","port":9092,"rack":"rack1"},\
+                "partitionReplicas":[{"id":1,"idString":"1","host":"localhost","port":9092,"rack":"rack1"}],\
+                "inSyncReplicas":[{"id":1,"idString":"1","host":"localhost","port":9092,"rack":"rack1"}],\
+                "eligibleLeaderReplicas":[],"lastKnownEligibleLeaderReplicas":[]}],"topicId":"topic3-id"}],\
+                "failedTopics":{"batch-topic2":"UnknownTopicOrPartitionException: unknown"}}\
+                """;
+        final var expectedDto = new KafkaTopicDescriptionsDto(topicDescriptions, failedTopics);
+        final var mcpHistory = new McpHistory();
+        mcpHistory.setId(6L);
+        mcpHistory.setToolName("describeTopics");
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeTopics"),
+                eq(Map.of("topicNames", Set.copyOf(topicNames))), eq(expectedDto))).thenReturn(mcpHistory);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeTopics")
+                .arguments(Map.of("topicNames", topicNames))
+                .build());
+
+        assertTextMcpToolResult(expectedText, result);
+        verify(kafkaStatusViewer).describeTopicsInBatchesAsync(topicNames);
+        verifyHistorySaved(mcpHistory);
+        verifyNoMoreInteractions(kafkaStatusViewer);
+    }
+
+    @Test
+    void describeTopicsFromSnapshot() {
+        final KafkaNodeDto node = new KafkaNodeDto(1, "1", "localhost", 9092, "rack1");
+        final KafkaTopicDescriptionDto topicDescription = new KafkaTopicDescriptionDto(
+                "snapshot-topic", false, List.of(), "snapshot-topic-id");
+        final KafkaClusterSnapshotDto snapshot = new KafkaClusterSnapshotDto(Instant.now(), "cluster-id", node,
+                List.of(node), Set.of("snapshot-topic"), Map.of("snapshot-topic", topicDescription));
+        when(clusterSnapshotPoller.getFreshPartitionSnapshot()).thenReturn(Optional.of(snapshot));
+        final var expectedDto = new KafkaTopicDescriptionsDto(List.of(topicDescription));
+        final var mcpHistory = new McpHistory();
+        mcpHistory.setId(7L);
+        mcpHistory.setToolName("describeTopics");
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeTopics"),
+                eq(Map.of("topicNames", Set.of("snapshot-topic"))), eq(expectedDto))).thenReturn(mcpHistory);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeTopics")
+                .arguments(Map.of("topicNames", List.of("snapshot-topic")))
+                .build());
+
+        assertTextMcpToolResult("""
+                {"topicDescriptions":[{"name":"snapshot-topic","internal":false,"partitions":[],\
+                "topicId":"snapshot-topic-id"}]}\
+                """, result);
+        verifyHistorySaved(mcpHistory);
+        verifyNoInteractions(kafkaStatusViewer);
     }
 
     @Test
@@ -255,13 +555,15 @@ public class KafkaMcpServerComponentTest {
         history2.setJsonResponse("{\"topicNames\":[\"topic1\",\"topic3\"]}");
         history2.setTimestamp(endDateInstant);
 
-        when(historyRepository.findByToolNameAndTimestampBetween(historicalMcpTool, startDateInstant, endDateInstant))
-                .thenReturn(List.of(history1, history2));
+        when(historyRepository.streamPage("testCluster", historicalMcpTool, startDateInstant, endDateInstant,
+                startDateInstant, -1L, Limit.of(101)))
+                .thenReturn(Stream.of(history1, history2));
 
         final String expectedText = """
-                [{"id":1,"kafkaClusterName":"testCluster","toolName":"listTopics","jsonResponse":"{\\"topicNames\\":\
+                {"entries":[{"id":1,"kafkaClusterName":"testCluster","toolName":"listTopics","jsonResponse":"{\\"topicNames\\":\
                 [\\"topic1\\",\\"topic2\\"]}","timestamp":"2026-01-01T00:00:00Z"},{"id":2,"kafkaClusterName":"testCluster",\
-                "toolName":"listTopics","jsonResponse":"{\\"topicNames\\":[\\"topic1\\",\\"topic3\\"]}","timestamp":"2026-01-31T00:00:00Z"}]\
+                "toolName":"listTopics","jsonResponse":"{\\"topicNames\\":[\\"topic1\\",\\"topic3\\"]}","timestamp":"2026-01-31T00:00:00Z"}],\
+                "nextCursor":"","hasMore":false}\
                 """;
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
@@ -270,10 +572,138 @@ public class KafkaMcpServerComponentTest {
                 .build());
 
         assertTextMcpToolResult(expectedText, result);
-        verify(historyRepository).findByToolNameAndTimestampBetween(historicalMcpTool, startDateInstant, endDateInstant);
+        verify(historyRepository).streamPage("testCluster", historicalMcpTool, startDateInstant, endDateInstant,
+                startDateInstant, -1L, Limit.of(101));
         verifyNoMoreInteractions(historyRepository);
     }
 
+    @Test
+    void getHistoricalMcpResponsesContinuesAfterCursor() {
+        final Instant startDateInstant = Instant.parse("2026-02-01T00:00:00Z");
+        final Instant endDateInstant = Instant.parse("2026-02-28T00:00:00Z");
+        final Instant cursorInstant = Instant.parse("2026-02-10T12:00:00.123Z");
+        final List<McpHistory> histories = new ArrayList<>();
+        for (long id = 8; id <= 10; id++) {
+            final McpHistory history = new McpHistory();
+            history.setId(id);
+            history.setKafkaClusterName("testCluster");
+            history.setToolName("describeClusterHealth");
+            history.setJsonResponse("{}");
+            history.setTimestamp(cursorInstant.plusSeconds(id));
+            histories.add(history);
+        }
+        when(historyRepository.streamPage("testCluster", "describeClusterHealth", startDateInstant, endDateInstant,
+                cursorInstant, 7L, Limit.of(3)))
+                .thenReturn(histories.stream());
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("getHistoricalMcpResponses")
+                .arguments(Map.of("mcpTool", "describeClusterHealth", "startDate", "2026-02-01", "endDate",
+                        "2026-02-28", "cursor", "2026-02-10T12:00:00.123Z/7", "limit", 2))
+                .build());
+
+        assertTextMcpToolResult("{\"entries\":[{\"id\":8,\"kafkaClusterName\":\"testCluster\","
+                + "\"toolName\":\"describeClusterHealth\",\"jsonResponse\":\"{}\","
+                + "\"timestamp\":\"2026-02-10T12:00:08.123Z\"},{\"id\":9,\"kafkaClusterName\":\"testCluster\","
+                + "\"toolName\":\"describeClusterHealth\",\"jsonResponse\":\"{}\","
+                + "\"timestamp\":\"2026-02-10T12:00:09.123Z\"}],\"nextCursor\":\"2026-02-10T12:00:09.123Z/9\","
+                + "\"hasMore\":true}", result);
+    }
+
+    @Test
+    void getHistoricalMcpResponsesRejectsInvalidCursor() {
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("getHistoricalMcpResponses")
+                .arguments(Map.of("mcpTool", "listTopics", "startDate", "2026-02-01", "endDate", "2026-02-28",
+                        "cursor", "not-a-cursor"))
+                .build());
+
+        assertTrue(result.isError());
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    void diffHistoricalMcpResponses() {
+        final Instant from = Instant.parse("2026-01-01T00:00:00Z");
+        final Instant to = Instant.parse("2026-01-31T00:00:00Z");
+        when(historyRepository.findLatestAtOrBefore("testCluster", "listTopics", null, from, Limit.of(1)))
+                .thenReturn(List.of(new McpHistory(1L, "testCluster", "listTopics", "hash1", null,
+                        "{\"topicNames\":[\"topic1\",\"topic2\"]}", from.minusSeconds(30))));
+        when(historyRepository.findLatestAtOrBefore("testCluster", "listTopics", null, to, Limit.of(1)))
+                .thenReturn(List.of(new McpHistory(2L, "testCluster", "listTopics", "hash2", null,
+                        "{\"topicNames\":[\"topic1\",\"topic3\"]}", to.minusSeconds(30))));
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("diffHistoricalMcpResponses")
+                .arguments(Map.of("mcpTool", "listTopics", "from", "2026-01-01T00:00:00Z", "to",
+                        "2026-01-31T00:00:00Z"))
+                .build());
+
+        assertTextMcpToolResult("""
+                {"toolName":"listTopics","fromTimestamp":"2025-12-31T23:59:30Z","toTimestamp":"2026-01-30T23:59:30Z",\
+                "changeCount":2,"changes":[{"type":"REMOVED","path":"/topicNames","before":"topic2"},\
+                {"type":"ADDED","path":"/topicNames","after":"topic3"}]}\
+                """, result);
+    }
+
+    @Test
+    void diffHistoricalMcpResponsesRejectsInvalidTimestamp() {
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("diffHistoricalMcpResponses")
+                .arguments(Map.of("mcpTool", "listTopics", "from", "2026-01-01", "to", "2026-01-31T00:00:00Z"))
+                .build());
+
+        assertTrue(result.isError());
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    void describeTopicPartitionTrend() {
+        final Instant startDateInstant = Instant.parse("2026-03-01T00:00:00Z");
+        final Instant endDateInstant = Instant.parse("2026-03-07T00:00:00Z");
+        when(historyPartitionRepository.findTopicStats("testCluster", "describeTopics", "orders", startDateInstant,
+                endDateInstant))
+                .thenReturn(List.of(new McpHistoryTopicStats(Instant.parse("2026-03-01T10:00:00Z"), 3, 2, 9, 0, 0, 0),
+                        new McpHistoryTopicStats(Instant.parse("2026-03-01T11:30:00Z"), 3, 1, 6, 2, 1, 1),
+                        new McpHistoryTopicStats(Instant.parse("2026-03-02T08:00:00Z"), 4, 3, 12, 0, 0, 0)));
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeTopicPartitionTrend")
+                .arguments(Map.of("topic", "orders", "startDate", "2026-03-01", "endDate", "2026-03-07"))
+                .build());
+
+        assertTextMcpToolResult("""
+                {"topic":"orders","interval":"DAY","points":[\
+                {"start":"2026-03-01T00:00:00Z","snapshots":2,"maxPartitions":3,"minIsrCount":1,"avgIsrCount":2.5,\
+                "maxUnderReplicatedPartitions":2,"maxOfflinePartitions":1,"maxElrCount":1},\
+                {"start":"2026-03-02T00:00:00Z","snapshots":1,"maxPartitions":4,"minIsrCount":3,"avgIsrCount":3.0,\
+                "maxUnderReplicatedPartitions":0,"maxOfflinePartitions":0,"maxElrCount":0}]}\
+                """, result);
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    void listClusters() {
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("listClusters")
+                .build());
+
+        assertTextMcpToolResult("{\"defaultCluster\":\"testCluster\",\"clusterNames\":[\"otherCluster\",\"testCluster\"]}",
+                result);
+        verifyNoInteractions(kafkaStatusViewer, historyConverter, historyStore);
+    }
+
+    @Test
+    void listTopicsOfUnknownCluster() {
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("listTopics")
+                .arguments(Map.of("cluster", "unknownCluster"))
+                .build());
+
+        assertTrue(result.isError());
+        verifyNoInteractions(kafkaStatusViewer, historyConverter, historyStore);
+    }
+
     @Test
     void saveProblemsAndRecommendationsSummary() {
         final String summaryKey = "problemsAndRecommendationsSummary";
@@ -286,7 +716,7 @@ public class KafkaMcpServerComponentTest {
         history.setJsonResponse("{\"summary\":\"" + summary + "\"}");
         history.setTimestamp(Instant.now());
 
-        when(historyConverter.toMcpHistory(summaryKey, summaryDto)).thenReturn(history);
+        when(historyConverter.toMcpHistory("testCluster", summaryKey, summaryDto)).thenReturn(history);
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
                 .name("saveProblemsAndRecommendationsSummary")
@@ -294,9 +724,39 @@ public class KafkaMcpServerComponentTest {
                 .build());
 
         assertFalse(result.isError());
-        verify(historyConverter).toMcpHistory(summaryKey, summaryDto);
-        verify(historyRepository).save(history);
-        verifyNoMoreInteractions(historyConverter, historyRepository);
+        verify(historyConverter).toMcpHistory("testCluster", summaryKey, summaryDto);
+        verify(historyStore).saveAll(List.of(history));
+        verifyNoMoreInteractions(historyConverter, historyStore);
+    }
+
+    @Test
+    void describeTerraformDrift() throws IOException {
+        final Map<String, KafkaTopicSpecDto> declaredTopics = Map.of("drift-topic",
+                new KafkaTopicSpecDto("drift-topic", 3, 3, Map.of()));
+        final KafkaTopicDriftReportDto drift = new KafkaTopicDriftReportDto(1, 2, 1, 1, 1, List.of(
+                new KafkaTopicDriftDto("drift-topic", KafkaTopicDriftKind.PARTITION_COUNT, "partitions", "3", "6")),
+                0, List.of(), 1, List.of("other-topic"), 0, Map.of());
+        when(terraformConfigReader.getDeclaredTopics("testCluster")).thenReturn(declaredTopics);
+        when(kafkaStatusViewer.describeTopicDriftAsync(declaredTopics, 100))
+                .thenReturn(CompletableFuture.completedFuture(drift));
+        final var mcpHistory = new McpHistory();
+        mcpHistory.setId(12L);
+        mcpHistory.setToolName("describeTerraformDrift");
+        when(historyConverter.toMcpHistory(eq("testCluster"), eq("describeTerraformDrift"), eq(Map.of("maxListed", 100)),
+                eq(drift)))
+                .thenReturn(mcpHistory);
+
+        final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
+                .name("describeTerraformDrift")
+                .arguments(Map.of())
+                .build());
+
+        assertTextMcpToolResult("{\"declaredTopicCount\":1,\"liveTopicCount\":2,\"comparedTopicCount\":1,"
+                + "\"driftedTopicCount\":1,\"driftCount\":1,\"drifts\":[{\"topic\":\"drift-topic\","
+                + "\"kind\":\"PARTITION_COUNT\",\"property\":\"partitions\",\"expected\":\"3\",\"actual\":\"6\"}],"
+                + "\"missingTopicCount\":0,\"missingTopics\":[],\"undeclaredTopicCount\":1,"
+                + "\"undeclaredTopics\":[\"other-topic\"],\"failedTopicCount\":0,\"failedTopics\":{}}", result);
+        verifyHistorySaved(mcpHistory);
     }
 
     @Test
@@ -314,6 +774,10 @@ public class KafkaMcpServerComponentTest {
 
         assertTextMcpResourceResult(resourceUri, kafkaTestConfig, result);
         verify(terraformConfigReader).getKafkaTerraformConfig();
-        verifyNoMoreInteractions(terraformConfigReader, historyConverter, historyRepository);
+        verifyNoMoreInteractions(terraformConfigReader, historyConverter, historyStore);
+    }
+
+    private void verifyHistorySaved(final McpHistory history) {
+        verify(historyStore, timeout(5000)).saveAll(argThat(batch -> batch.contains(history)));
     }
 }
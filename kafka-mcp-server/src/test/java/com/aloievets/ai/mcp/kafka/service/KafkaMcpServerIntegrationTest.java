@@ -87,6 +87,7 @@ public class KafkaMcpServerIntegrationTest {
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
                 .name("listTopics")
+                .arguments(Map.of())
                 .build());
 
         assertTextMcpToolResult(expectedText, result);
@@ -100,6 +101,7 @@ public class KafkaMcpServerIntegrationTest {
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
                 .name("describeClusterController")
+                .arguments(Map.of())
                 .build());
 
         assertTextMcpToolResult(expectedText, result);
@@ -113,6 +115,7 @@ public class KafkaMcpServerIntegrationTest {
 
         final CallToolResult result = mcpClient.callTool(CallToolRequest.builder()
                 .name("describeClusterNodes")
+                .arguments(Map.of())
                 .build());
 
         assertTextMcpToolResult(expectedText, result);
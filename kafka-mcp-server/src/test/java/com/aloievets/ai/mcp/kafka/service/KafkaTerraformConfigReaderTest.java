@@ -0,0 +1,37 @@
+package com.aloievets.ai.mcp.kafka.service;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicSpecDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.FileNotFoundException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KafkaTerraformConfigReaderTest {
+    private final KafkaTerraformConfigReader reader = new KafkaTerraformConfigReader("readerTest",
+            new DefaultResourceLoader());
+
+    @Test
+    void testDeclaredTopicsAreParsedOnce() throws Exception {
+        // When
+        Map<String, KafkaTopicSpecDto> first = reader.getDeclaredTopics("readerTest");
+        Map<String, KafkaTopicSpecDto> second = reader.getDeclaredTopics("readerTest");
+
+        // Then
+        assertEquals(Map.of(
+                "orders", new KafkaTopicSpecDto("orders", 12, 3,
+                        Map.of("retention.ms", "604800000", "cleanup.policy", "delete")),
+                "audit", new KafkaTopicSpecDto("audit", null, null, Map.of("min.insync.replicas", "2"))), first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void testMissingTerraformConfigIsReported() {
+        // When, Then
+        assertThrows(FileNotFoundException.class, () -> reader.getDeclaredTopics("unknownCluster"));
+    }
+}
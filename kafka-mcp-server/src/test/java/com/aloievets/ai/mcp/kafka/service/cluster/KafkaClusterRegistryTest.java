@@ -0,0 +1,135 @@
+package com.aloievets.ai.mcp.kafka.service.cluster;
+
+import com.aloievets.ai.mcp.kafka.client.service.KafkaStatusViewer;
+import com.aloievets.ai.mcp.kafka.config.KafkaClustersProperties;
+import com.aloievets.ai.mcp.kafka.exceptions.GenericMcpException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaClusterRegistryTest {
+    private static final Map<String, Map<String, String>> CONNECTIONS = Map.of(
+            "cluster-a", Map.of("bootstrap.servers", "a:9092"),
+            "cluster-b", Map.of("bootstrap.servers", "b:9092"));
+    @Mock
+    private KafkaStatusViewer defaultStatusViewer;
+    private final List<Map<String, Object>> createdClientConfigs = new ArrayList<>();
+    private final List<AdminClient> createdClients = new ArrayList<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testDefaultClusterIsServedWithoutCreatingClients() {
+        // Given
+        var registry = registry(600_000);
+
+        // When
+        KafkaStatusViewer byNull = registry.getStatusViewer(null);
+        KafkaStatusViewer byName = registry.getStatusViewer("default");
+
+        // Then
+        assertSame(defaultStatusViewer, byNull);
+        assertSame(defaultStatusViewer, byName);
+        assertEquals(0, registry.openClientCount());
+        assertEquals(Set.of("default", "cluster-a", "cluster-b"), registry.getClusterNames());
+    }
+
+    @Test
+    void testClusterClientIsCreatedLazilyOnceAndReused() {
+        // Given
+        var registry = registry(600_000);
+
+        // When
+        KafkaStatusViewer first = registry.getStatusViewer("cluster-a");
+        KafkaStatusViewer second = registry.getStatusViewer("cluster-a");
+
+        // Then
+        assertSame(first, second);
+        assertNotSame(defaultStatusViewer, first);
+        assertEquals(List.of(Map.<String, Object>of("bootstrap.servers", "a:9092")), createdClientConfigs);
+        assertEquals(1, registry.openClientCount());
+    }
+
+    @Test
+    void testUnknownClusterIsRejected() {
+        // Given
+        var registry = registry(600_000);
+
+        // When
+        GenericMcpException e = assertThrows(GenericMcpException.class, () -> registry.getStatusViewer("cluster-c"));
+
+        // Then
+        assertEquals("Unknown Kafka cluster 'cluster-c', available clusters: [cluster-a, cluster-b, default]",
+                e.getMessage());
+        assertEquals(0, registry.openClientCount());
+    }
+
+    @Test
+    void testIdleClientsAreClosedAndRecreatedOnNextUse() {
+        // Given
+        var registry = registry(0);
+        KafkaStatusViewer evicted = registry.getStatusViewer("cluster-a");
+
+        // When
+        registry.closeIdleClients();
+        KafkaStatusViewer recreated = registry.getStatusViewer("cluster-a");
+
+        // Then
+        verify(createdClients.getFirst()).close(any(Duration.class));
+        assertNotSame(evicted, recreated);
+        assertEquals(2, createdClients.size());
+    }
+
+    @Test
+    void testRecentlyUsedClientsAreKept() {
+        // Given
+        var registry = registry(600_000);
+        registry.getStatusViewer("cluster-b");
+
+        // When
+        registry.closeIdleClients();
+
+        // Then
+        verify(createdClients.getFirst(), never()).close(any(Duration.class));
+        assertEquals(1, registry.openClientCount());
+    }
+
+    @Test
+    void testDefaultClusterMustNotBeListedInConnections() {
+        // Given
+        var properties = new KafkaClustersProperties(600_000, Map.of("default", Map.of()));
+
+        // When, Then
+        assertThrows(IllegalArgumentException.class, () -> new KafkaClusterRegistry(defaultStatusViewer, "default",
+                properties, 1000, 10, 1, Map.of(), config -> mock(AdminClient.class), meterRegistry));
+    }
+
+    private KafkaClusterRegistry registry(final long idleTimeoutMs) {
+        return new KafkaClusterRegistry(defaultStatusViewer, "default",
+                new KafkaClustersProperties(idleTimeoutMs, CONNECTIONS), 1000, 10, 1, Map.of(), config -> {
+                    createdClientConfigs.add(config);
+                    final AdminClient adminClient = mock(AdminClient.class);
+                    createdClients.add(adminClient);
+                    return adminClient;
+                }, meterRegistry);
+    }
+}
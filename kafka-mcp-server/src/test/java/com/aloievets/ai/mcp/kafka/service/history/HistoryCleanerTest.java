@@ -0,0 +1,102 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HistoryCleanerTest {
+    private static final Instant NOW = Instant.parse("2026-06-30T10:30:00Z");
+    private static final Instant THRESHOLD = Instant.parse("2026-06-20T10:30:00Z");
+    @Mock
+    private McpHistoryRepository repository;
+    @Mock
+    private McpHistoryBodyRepository bodyRepository;
+    @Mock
+    private McpHistoryPartitionRepository partitionRepository;
+    @Mock
+    private HistoryDatabaseMaintenance databaseMaintenance;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testExpiredEntriesAreDeletedByIdRangeInBatchesThenVacuumed() throws Exception {
+        // Given
+        var cleaner = new HistoryCleaner(repository, bodyRepository, partitionRepository, databaseMaintenance,
+                meterRegistry, 10, true, 3, 0, 100, false);
+        when(repository.findIdsBefore(THRESHOLD, -1, Limit.of(3))).thenReturn(List.of(1L, 2L, 5L));
+        when(repository.deleteBefore(THRESHOLD, 1, 5)).thenReturn(3);
+        when(repository.findIdsBefore(THRESHOLD, 5, Limit.of(3))).thenReturn(List.of(7L));
+        when(repository.deleteBefore(THRESHOLD, 7, 7)).thenReturn(1);
+        when(bodyRepository.findUnreferencedHashes("", Limit.of(3))).thenReturn(List.of("a", "c", "d"));
+        when(bodyRepository.deleteUnreferenced("a", "d")).thenReturn(3);
+        when(bodyRepository.findUnreferencedHashes("d", Limit.of(3))).thenReturn(List.of());
+        when(partitionRepository.findUnreferencedHashes("", Limit.of(3))).thenReturn(List.of("a", "c"));
+        when(partitionRepository.deleteUnreferenced("a", "c")).thenReturn(6);
+        when(databaseMaintenance.enableIncrementalVacuum(false)).thenReturn(true);
+        when(databaseMaintenance.incrementalVacuum(100)).thenReturn(40);
+
+        // When
+        long deleted = cleaner.cleanup(NOW);
+
+        // Then
+        assertEquals(4, deleted);
+        InOrder order = inOrder(repository, bodyRepository, partitionRepository, databaseMaintenance);
+        order.verify(repository).deleteBefore(THRESHOLD, 1, 5);
+        order.verify(repository).deleteBefore(THRESHOLD, 7, 7);
+        order.verify(bodyRepository).deleteUnreferenced("a", "d");
+        order.verify(partitionRepository).deleteUnreferenced("a", "c");
+        order.verify(databaseMaintenance).enableIncrementalVacuum(false);
+        order.verify(databaseMaintenance).incrementalVacuum(100);
+        assertEquals(4, meterRegistry.get("mcp.history.cleanup.removed").tag("row", "entry").counter().count());
+        assertEquals(3, meterRegistry.get("mcp.history.cleanup.removed").tag("row", "body").counter().count());
+        assertEquals(6, meterRegistry.get("mcp.history.cleanup.removed").tag("row", "partition").counter().count());
+    }
+
+    @Test
+    void testDatabaseWithoutIncrementalVacuumIsNotRebuiltUnlessEnabled() throws Exception {
+        // Given
+        var cleaner = new HistoryCleaner(repository, bodyRepository, partitionRepository, databaseMaintenance,
+                meterRegistry, 10, true, 3, 0, 100, false);
+        when(repository.findIdsBefore(THRESHOLD, -1, Limit.of(3))).thenReturn(List.of());
+        when(bodyRepository.findUnreferencedHashes("", Limit.of(3))).thenReturn(List.of());
+        when(partitionRepository.findUnreferencedHashes("", Limit.of(3))).thenReturn(List.of());
+        when(databaseMaintenance.enableIncrementalVacuum(false)).thenReturn(false);
+
+        // When
+        cleaner.cleanup(NOW);
+        cleaner.cleanup(NOW);
+
+        // Then
+        verify(databaseMaintenance).enableIncrementalVacuum(false);
+        verify(databaseMaintenance, never()).incrementalVacuum(anyInt());
+    }
+
+    @Test
+    void testDisabledCleanupDoesNothing() {
+        // Given
+        var cleaner = new HistoryCleaner(repository, bodyRepository, partitionRepository, databaseMaintenance,
+                meterRegistry, 10, false, 3, 0, 100, false);
+
+        // When
+        cleaner.cleanupOldHistory();
+
+        // Then
+        verifyNoInteractions(repository, bodyRepository, partitionRepository, databaseMaintenance);
+        assertEquals(0, meterRegistry.get("mcp.history.cleanup.duration").timer().count());
+    }
+}
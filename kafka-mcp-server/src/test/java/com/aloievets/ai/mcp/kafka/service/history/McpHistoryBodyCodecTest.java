@@ -0,0 +1,41 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class McpHistoryBodyCodecTest {
+
+    @Test
+    void testEncodedBodyIsVersionedCompressedAndDecodedToTheSameJson() {
+        // Given
+        final String json = "{\"topics\":[" + "{\"name\":\"topic\",\"partitions\":[{\"leader\":1,\"replicas\":[1,2,3]}]},"
+                .repeat(1000) + "{\"name\":\"ünïcode\"}]}";
+
+        // When
+        final byte[] content = McpHistoryBodyCodec.encode(json);
+
+        // Then
+        assertEquals(McpHistoryBodyCodec.DEFLATE_JSON, content[0]);
+        assertTrue(content.length < json.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertEquals(json, McpHistoryBodyCodec.decode(content));
+    }
+
+    @Test
+    void testUnsupportedFormatIsRejected() {
+        // Given
+        final byte[] content = McpHistoryBodyCodec.encode("{}");
+        content[0] = 42;
+
+        // When
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> McpHistoryBodyCodec.decode(content));
+
+        // Then
+        assertEquals("Unsupported MCP history body format 42", exception.getMessage());
+    }
+}
@@ -0,0 +1,106 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class McpHistoryCompactorTest {
+    private static final Instant NOW = Instant.parse("2026-06-30T10:30:00Z");
+    private static final Instant HOURLY_END = Instant.parse("2026-06-29T10:00:00Z");
+    private static final Instant DAILY_END = Instant.parse("2026-06-28T00:00:00Z");
+    @Mock
+    private McpHistoryRepository historyRepository;
+
+    @Test
+    void testFirstEntryOfEveryHourAndDayIsKeptAcrossChunks() {
+        // Given
+        var compactor = new McpHistoryCompactor(historyRepository, 1, 2, 365, 2, true);
+        when(historyRepository.findSeries()).thenReturn(List.of(new McpHistorySeries("cluster", "listTopics")));
+        when(historyRepository.findTimestamps("cluster", "listTopics", DAILY_END, -1, HOURLY_END, Limit.of(2)))
+                .thenReturn(List.of(entry(1, "2026-06-28T08:00:00Z"), entry(2, "2026-06-28T08:10:00Z")));
+        when(historyRepository.findTimestamps("cluster", "listTopics", Instant.parse("2026-06-28T08:10:00Z"), 2,
+                HOURLY_END, Limit.of(2)))
+                .thenReturn(List.of(entry(3, "2026-06-28T08:50:00Z"), entry(4, "2026-06-28T09:00:00Z")));
+        when(historyRepository.findTimestamps("cluster", "listTopics", Instant.parse("2026-06-28T09:00:00Z"), 4,
+                HOURLY_END, Limit.of(2)))
+                .thenReturn(List.of(entry(5, "2026-06-28T09:59:59Z")));
+        when(historyRepository.findTimestamps("cluster", "listTopics", Instant.EPOCH, -1, DAILY_END, Limit.of(2)))
+                .thenReturn(List.of(entry(6, "2026-06-26T08:00:00Z"), entry(7, "2026-06-26T09:00:00Z")));
+        when(historyRepository.findTimestamps("cluster", "listTopics", Instant.parse("2026-06-26T09:00:00Z"), 7,
+                DAILY_END, Limit.of(2)))
+                .thenReturn(List.of(entry(8, "2026-06-27T00:00:00Z")));
+
+        // When
+        int deleted = compactor.compact(NOW);
+
+        // Then
+        assertEquals(4, deleted);
+        verify(historyRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(historyRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(historyRepository).deleteAllByIdInBatch(List.of(5L));
+        verify(historyRepository).deleteAllByIdInBatch(List.of(7L));
+    }
+
+    @Test
+    void testSummariesAreNotCompacted() {
+        // Given
+        var compactor = new McpHistoryCompactor(historyRepository, 1, 2, 365, 2, true);
+        when(historyRepository.findSeries()).thenReturn(List.of(new McpHistorySeries("cluster",
+                McpHistory.SUMMARY_TOOL_NAME)));
+
+        // When
+        int deleted = compactor.compact(NOW);
+
+        // Then
+        assertEquals(0, deleted);
+        verify(historyRepository).findSeries();
+        verify(historyRepository, never()).findTimestamps(any(), any(), any(), anyLong(), any(), eq(Limit.of(2)));
+        verifyNoMoreInteractions(historyRepository);
+    }
+
+    @Test
+    void testEntriesWithDifferentArgumentsAreKeptInTheSameBucket() {
+        // Given
+        var compactor = new McpHistoryCompactor(historyRepository, 1, 2, 365, 10, true);
+        when(historyRepository.findSeries()).thenReturn(List.of(new McpHistorySeries("cluster", "describeTopics")));
+        when(historyRepository.findTimestamps("cluster", "describeTopics", DAILY_END, -1, HOURLY_END, Limit.of(10)))
+                .thenReturn(List.of(
+                        entry(1, "2026-06-28T08:00:00Z", "topic1"),
+                        entry(2, "2026-06-28T08:10:00Z", "topic2"),
+                        entry(3, "2026-06-28T08:20:00Z", "topic1"),
+                        entry(4, "2026-06-28T08:30:00Z", null),
+                        entry(5, "2026-06-28T09:00:00Z", "topic1")));
+        when(historyRepository.findTimestamps("cluster", "describeTopics", Instant.EPOCH, -1, DAILY_END,
+                Limit.of(10))).thenReturn(List.of());
+
+        // When
+        int deleted = compactor.compact(NOW);
+
+        // Then
+        assertEquals(1, deleted);
+        verify(historyRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    private static McpHistoryTimestamp entry(final long id, final String timestamp) {
+        return entry(id, timestamp, "arguments");
+    }
+
+    private static McpHistoryTimestamp entry(final long id, final String timestamp, final String argumentsHash) {
+        return new McpHistoryTimestamp(id, Instant.parse(timestamp), argumentsHash);
+    }
+}
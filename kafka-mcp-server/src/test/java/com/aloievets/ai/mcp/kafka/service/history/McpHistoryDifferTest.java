@@ -0,0 +1,163 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import com.aloievets.ai.mcp.kafka.exceptions.GenericMcpException;
+import com.aloievets.ai.mcp.kafka.model.McpHistoryChangeDto;
+import com.aloievets.ai.mcp.kafka.model.McpHistoryChangeType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class McpHistoryDifferTest {
+    private static final Instant FROM = Instant.parse("2026-05-01T10:00:00Z");
+    private static final Instant TO = Instant.parse("2026-05-08T10:00:00Z");
+    @Mock
+    private McpHistoryRepository repository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testNearestResponsesAreDiffedByTopicAndPartitionIdentity() throws Exception {
+        // Given
+        var differ = new McpHistoryDiffer(repository, objectMapper);
+        var earlier = history(1, "hash1", """
+                {"topicDescriptions":[{"name":"a","partitions":[{"partition":0,"leader":1,"isr":[1,2]}]},\
+                {"name":"b","partitions":[]}]}""", FROM.minusSeconds(600));
+        var later = history(2, "hash2", """
+                {"topicDescriptions":[{"name":"a","partitions":[{"partition":0,"leader":1,"isr":[1,2]}]},\
+                {"name":"b","partitions":[]}]}""", FROM.plusSeconds(300));
+        var latest = history(3, "hash3", """
+                {"topicDescriptions":[{"name":"c","partitions":[]},\
+                {"name":"a","partitions":[{"partition":0,"leader":2,"isr":[2,3]}]}]}""", TO.minusSeconds(60));
+        when(repository.findLatestAtOrBefore("c", "describeTopics", null, FROM, Limit.of(1)))
+                .thenReturn(List.of(earlier));
+        when(repository.findEarliestAfter("c", "describeTopics", null, FROM, Limit.of(1)))
+                .thenReturn(List.of(later));
+        when(repository.findLatestAtOrBefore("c", "describeTopics", null, TO, Limit.of(1)))
+                .thenReturn(List.of(latest));
+        when(repository.findEarliestAfter("c", "describeTopics", null, TO, Limit.of(1))).thenReturn(List.of());
+
+        // When
+        var diff = differ.diff("c", "describeTopics", FROM, TO, 4);
+
+        // Then
+        assertEquals(later.getTimestamp(), diff.fromTimestamp());
+        assertEquals(latest.getTimestamp(), diff.toTimestamp());
+        assertEquals(5, diff.changeCount());
+        assertEquals(List.of(
+                new McpHistoryChangeDto(McpHistoryChangeType.CHANGED,
+                        "/topicDescriptions/[name=a]/partitions/[partition=0]/leader", IntNode.valueOf(1),
+                        IntNode.valueOf(2)),
+                new McpHistoryChangeDto(McpHistoryChangeType.REMOVED,
+                        "/topicDescriptions/[name=a]/partitions/[partition=0]/isr", IntNode.valueOf(1), null),
+                new McpHistoryChangeDto(McpHistoryChangeType.ADDED,
+                        "/topicDescriptions/[name=a]/partitions/[partition=0]/isr", null, IntNode.valueOf(3)),
+                new McpHistoryChangeDto(McpHistoryChangeType.REMOVED, "/topicDescriptions/[name=b]",
+                        objectMapper.readTree("{\"name\":\"b\",\"partitions\":[]}"), null)), diff.changes());
+    }
+
+    @Test
+    void testFromResponseIsOfTheSameArgumentsAsToResponse() {
+        // Given
+        var differ = new McpHistoryDiffer(repository, objectMapper);
+        var earlierA = new McpHistory(1L, "c", "describeTopics", "argsA", "hash1", null, """
+                {"topicDescriptions":[{"name":"a","partitions":[{"partition":0,"leader":1}]}]}""",
+                FROM.minusSeconds(600));
+        var earlierB = new McpHistory(2L, "c", "describeTopics", "argsB", "hash2", null, """
+                {"topicDescriptions":[{"name":"b","partitions":[{"partition":0,"leader":1}]}]}""",
+                FROM.plusSeconds(60));
+        var latestA = new McpHistory(3L, "c", "describeTopics", "argsA", "hash3", null, """
+                {"topicDescriptions":[{"name":"a","partitions":[{"partition":0,"leader":2}]}]}""", TO);
+        lenient().when(repository.findLatestAtOrBefore("c", "describeTopics", null, FROM, Limit.of(1)))
+                .thenReturn(List.of(earlierA));
+        lenient().when(repository.findEarliestAfter("c", "describeTopics", null, FROM, Limit.of(1)))
+                .thenReturn(List.of(earlierB));
+        when(repository.findLatestAtOrBefore("c", "describeTopics", null, TO, Limit.of(1))).thenReturn(
+                List.of(latestA));
+        when(repository.findEarliestAfter("c", "describeTopics", null, TO, Limit.of(1))).thenReturn(List.of());
+        when(repository.findLatestAtOrBefore("c", "describeTopics", "argsA", FROM, Limit.of(1))).thenReturn(
+                List.of(earlierA));
+        when(repository.findEarliestAfter("c", "describeTopics", "argsA", FROM, Limit.of(1))).thenReturn(
+                List.of(latestA));
+
+        // When
+        var diff = differ.diff("c", "describeTopics", FROM, TO, 10);
+
+        // Then
+        assertEquals(earlierA.getTimestamp(), diff.fromTimestamp());
+        assertEquals(latestA.getTimestamp(), diff.toTimestamp());
+        assertEquals(List.of(new McpHistoryChangeDto(McpHistoryChangeType.CHANGED,
+                "/topicDescriptions/[name=a]/partitions/[partition=0]/leader", IntNode.valueOf(1),
+                IntNode.valueOf(2))), diff.changes());
+    }
+
+    @Test
+    void testScalarArraysAreComparedRegardlessOfOrder() {
+        // Given
+        var differ = new McpHistoryDiffer(repository, objectMapper);
+        when(repository.findLatestAtOrBefore("c", "listTopics", null, FROM, Limit.of(1))).thenReturn(List.of(
+                history(1, "hash1", """
+                        {"topicNames":["a","b","c","c"],"brokers":[1,2,3]}""", FROM)));
+        when(repository.findLatestAtOrBefore("c", "listTopics", null, TO, Limit.of(1))).thenReturn(List.of(
+                history(2, "hash2", """
+                        {"topicNames":["d","c","b","a","e"],"brokers":[3,1,2]}""", TO)));
+
+        // When
+        var diff = differ.diff("c", "listTopics", FROM, TO, 2);
+
+        // Then
+        assertEquals(3, diff.changeCount());
+        assertEquals(List.of(
+                new McpHistoryChangeDto(McpHistoryChangeType.REMOVED, "/topicNames", TextNode.valueOf("c"), null),
+                new McpHistoryChangeDto(McpHistoryChangeType.ADDED, "/topicNames", null, TextNode.valueOf("d"))),
+                diff.changes());
+    }
+
+    @Test
+    void testResponsesWithTheSameBodyAreNotDecoded() {
+        // Given
+        var differ = new McpHistoryDiffer(repository, objectMapper);
+        when(repository.findLatestAtOrBefore("c", "listTopics", null, FROM, Limit.of(1))).thenReturn(List.of(
+                history(1, "hash1", "not parsed", FROM)));
+        when(repository.findLatestAtOrBefore("c", "listTopics", null, TO, Limit.of(1))).thenReturn(List.of(
+                history(2, "hash1", "not parsed", TO)));
+
+        // When
+        var diff = differ.diff("c", "listTopics", FROM, TO, 10);
+
+        // Then
+        assertEquals(0, diff.changeCount());
+        assertTrue(diff.changes().isEmpty());
+    }
+
+    @Test
+    void testMissingResponsesAreReported() {
+        // Given
+        var differ = new McpHistoryDiffer(repository, objectMapper);
+
+        // When
+        var exception = assertThrows(GenericMcpException.class, () -> differ.diff("c", "listTopics", FROM, TO, 10));
+
+        // Then
+        assertEquals("No responses of tool 'listTopics' of Kafka cluster 'c' are stored in the history",
+                exception.getMessage());
+    }
+
+    private static McpHistory history(final long id, final String bodyHash, final String jsonResponse,
+            final Instant timestamp) {
+        return new McpHistory(id, "c", "describeTopics", bodyHash, null, jsonResponse, timestamp);
+    }
+}
@@ -0,0 +1,47 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class McpHistoryMigratorTest {
+    @Mock
+    private McpHistoryStore store;
+
+    @Test
+    void testLegacyResponsesAreMovedInChunksUntilNoneAreLeft() throws Exception {
+        // Given
+        var migrator = new McpHistoryMigrator(store, 3, 0, true);
+        when(store.moveLegacyResponses(3)).thenReturn(3, 3, 1);
+
+        // When
+        long migrated = migrator.migrate();
+
+        // Then
+        assertEquals(7, migrated);
+        verify(store, times(3)).moveLegacyResponses(3);
+    }
+
+    @Test
+    void testFailedRunIsResumedAndCompletedMigrationIsNotRepeated() {
+        // Given
+        var migrator = new McpHistoryMigrator(store, 3, 0, true);
+        when(store.moveLegacyResponses(3)).thenThrow(new IllegalStateException("database is locked"))
+                .thenReturn(2);
+
+        // When
+        migrator.migrateLegacyHistory();
+        migrator.migrateLegacyHistory();
+        migrator.migrateLegacyHistory();
+
+        // Then
+        verify(store, times(2)).moveLegacyResponses(3);
+    }
+}
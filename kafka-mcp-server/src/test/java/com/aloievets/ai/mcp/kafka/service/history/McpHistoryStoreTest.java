@@ -0,0 +1,114 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicPartitionInfoDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class McpHistoryStoreTest {
+    @Mock
+    private McpHistoryRepository historyRepository;
+    @Mock
+    private McpHistoryBodyRepository bodyRepository;
+    @Mock
+    private McpHistoryPartitionRepository partitionRepository;
+    @InjectMocks
+    private McpHistoryStore store;
+
+    @Test
+    void testOnlyBodiesNotStoredYetAreInsertedOnce() {
+        // Given
+        var histories = List.of(history("nodes", "hash1", "{\"nodes\":[1]}"),
+                history("nodes", "hash1", "{\"nodes\":[1]}"), history("topics", "hash2", "{\"topics\":[]}"),
+                history("controller", "hash3", "{\"id\":1}"));
+        when(bodyRepository.findStoredHashes(anyCollection())).thenReturn(Set.of("hash2"));
+
+        // When
+        store.saveAll(histories);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> lookedUpHashes = ArgumentCaptor.forClass(Collection.class);
+        verify(bodyRepository).findStoredHashes(lookedUpHashes.capture());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<McpHistoryBody>> insertedBodies = ArgumentCaptor.forClass(Iterable.class);
+        verify(bodyRepository).saveAll(insertedBodies.capture());
+        verify(historyRepository).saveAll(histories);
+
+        var inserted = new ArrayList<McpHistoryBody>();
+        insertedBodies.getValue().forEach(inserted::add);
+        assertEquals(List.of("hash1", "hash3"), inserted.stream()
+                .map(McpHistoryBody::getHash)
+                .toList());
+        assertEquals(List.of("{\"nodes\":[1]}", "{\"id\":1}"), inserted.stream()
+                .map(body -> McpHistoryBodyCodec.decode(body.getContent()))
+                .toList());
+        assertEquals(Set.of("hash1", "hash2", "hash3"), Set.copyOf(lookedUpHashes.getValue()));
+        verifyNoInteractions(partitionRepository);
+    }
+
+    @Test
+    void testPartitionsAreExtractedOncePerTopicDescriptionsNotExtractedYet() {
+        // Given
+        var node1 = new KafkaNodeDto(1, "1", "localhost", 9092, null);
+        var node2 = new KafkaNodeDto(2, "2", "localhost", 9093, null);
+        var topicDescriptions = List.of(new KafkaTopicDescriptionDto("orders", false, List.of(
+                new KafkaTopicPartitionInfoDto(0, node1, List.of(node1, node2), List.of(node1), List.of(node2),
+                        List.of()),
+                new KafkaTopicPartitionInfoDto(1, new KafkaNodeDto(-1, "-1", "", -1, null), List.of(node1, node2),
+                        List.of(), List.of(), List.of())), "orders-id"));
+        var histories = List.of(history("describeTopics", "hash1", "{}", topicDescriptions),
+                history("describeTopics", "hash1", "{}", topicDescriptions),
+                history("describeTopics", "hash2", "{\"old\":true}", topicDescriptions),
+                history("listTopics", "hash3", "{\"topicNames\":[]}"));
+        when(bodyRepository.findStoredHashes(anyCollection())).thenReturn(Set.of());
+        when(partitionRepository.findExtractedHashes(anyCollection())).thenReturn(Set.of("hash2"));
+
+        // When
+        store.saveAll(histories);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> lookedUpHashes = ArgumentCaptor.forClass(Collection.class);
+        verify(partitionRepository).findExtractedHashes(lookedUpHashes.capture());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<McpHistoryPartition>> insertedPartitions = ArgumentCaptor.forClass(Iterable.class);
+        verify(partitionRepository).saveAll(insertedPartitions.capture());
+
+        assertEquals(Set.of("hash1", "hash2"), Set.copyOf(lookedUpHashes.getValue()));
+        assertEquals(List.of(new McpHistoryPartition("hash1", "orders", 0, 1, 2, 1, 1),
+                new McpHistoryPartition("hash1", "orders", 1, -1, 2, 0, 0)), insertedPartitions.getValue());
+    }
+
+    private static McpHistory history(final String toolName, final String bodyHash, final String jsonResponse) {
+        final McpHistory history = new McpHistory();
+        history.setToolName(toolName);
+        history.setBodyHash(bodyHash);
+        history.setJsonResponse(jsonResponse);
+        return history;
+    }
+
+    private static McpHistory history(final String toolName, final String bodyHash, final String jsonResponse,
+            final List<KafkaTopicDescriptionDto> topicDescriptions) {
+        final McpHistory history = history(toolName, bodyHash, jsonResponse);
+        history.setTopicDescriptions(topicDescriptions);
+        return history;
+    }
+}
@@ -0,0 +1,100 @@
+package com.aloievets.ai.mcp.kafka.service.history;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class McpHistoryWriterTest {
+    @Mock
+    private McpHistoryStore store;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testQueuedEntriesAreWrittenInBatchesAndFlushedOnStop() {
+        // Given
+        var writer = new McpHistoryWriter(store, meterRegistry, 100, 2, 60_000);
+        var histories = List.of(history("tool1"), history("tool2"), history("tool3"));
+        histories.forEach(writer::submit);
+
+        // When
+        writer.start();
+        writer.stop();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<McpHistory>> batches = ArgumentCaptor.forClass(List.class);
+        verify(store, times(2)).saveAll(batches.capture());
+        assertEquals(List.of(histories.subList(0, 2), histories.subList(2, 3)), batches.getAllValues());
+        assertEquals(3, meterRegistry.get("mcp.history.writes").tag("outcome", "written").counter().count());
+    }
+
+    @Test
+    void testEntriesAreDroppedWhenQueueIsFull() throws Exception {
+        // Given
+        var writing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var written = new ArrayList<McpHistory>();
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            written.addAll(invocation.getArgument(0));
+            return null;
+        }).when(store).saveAll(anyList());
+        var writer = new McpHistoryWriter(store, meterRegistry, 1, 1, 10);
+        writer.start();
+        writer.submit(history("tool1"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // When
+        boolean queued = writer.submit(history("tool2"));
+        boolean dropped = !writer.submit(history("tool3"));
+        release.countDown();
+        writer.stop();
+
+        // Then
+        assertTrue(queued);
+        assertTrue(dropped);
+        assertEquals(List.of("tool1", "tool2"), written.stream()
+                .map(McpHistory::getToolName)
+                .toList());
+        assertEquals(1, meterRegistry.get("mcp.history.writes").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    void testEntriesAreNotQueuedAfterStop() {
+        // Given
+        var writer = new McpHistoryWriter(store, meterRegistry, 10, 10, 10);
+        writer.start();
+        writer.stop();
+
+        // When
+        boolean queued = writer.submit(history("tool1"));
+
+        // Then
+        assertFalse(queued);
+        assertEquals(1, meterRegistry.get("mcp.history.writes").tag("outcome", "dropped").counter().count());
+    }
+
+    private static McpHistory history(final String toolName) {
+        final McpHistory history = new McpHistory();
+        history.setToolName(toolName);
+        return history;
+    }
+}
@@ -0,0 +1,126 @@
+package com.aloievets.ai.mcp.kafka.service.snapshot;
+
+import com.aloievets.ai.mcp.kafka.client.model.KafkaClusterDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaNodeDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionDto;
+import com.aloievets.ai.mcp.kafka.client.model.KafkaTopicDescriptionsResultDto;
+import com.aloievets.ai.mcp.kafka.client.service.KafkaStatusViewer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterSnapshotPollerTest {
+    private static final KafkaNodeDto NODE = new KafkaNodeDto(1, "1", "localhost", 9092, "rack1");
+    @Mock
+    private KafkaStatusViewer kafkaStatusViewer;
+    private final MutableClock clock = new MutableClock();
+
+    @BeforeEach
+    void setUp() {
+        when(kafkaStatusViewer.describeClusterAsync()).thenReturn(
+                CompletableFuture.completedFuture(new KafkaClusterDto("cluster-id", NODE, List.of(NODE))));
+    }
+
+    @Test
+    void testIncrementalRefreshDoesNotKeepPartitionsFresh() {
+        // Given
+        var poller = new ClusterSnapshotPoller(kafkaStatusViewer, true, 300_000L, 90_000L, 100, clock);
+        when(kafkaStatusViewer.listTopicsAsync()).thenReturn(CompletableFuture.completedFuture(Set.of()));
+        poller.refreshSnapshot();
+        clock.advance(Duration.ofSeconds(240));
+        poller.refreshSnapshot();
+
+        // When
+        clock.advance(Duration.ofSeconds(240));
+
+        // Then
+        assertTrue(poller.getFreshSnapshot().isEmpty());
+        assertTrue(poller.getFreshPartitionSnapshot().isEmpty());
+        verify(kafkaStatusViewer, times(2)).describeClusterAsync();
+    }
+
+    @Test
+    void testPartitionsStayFreshUntilFullRefreshIntervalAndMaxAgePass() {
+        // Given
+        var poller = new ClusterSnapshotPoller(kafkaStatusViewer, true, 300_000L, 90_000L, 100, clock);
+        when(kafkaStatusViewer.listTopicsAsync()).thenReturn(CompletableFuture.completedFuture(Set.of("topic1")));
+        when(kafkaStatusViewer.describeTopicsInBatchesAsync(anyCollection())).thenReturn(
+                CompletableFuture.completedFuture(new KafkaTopicDescriptionsResultDto(List.of(), Map.of())));
+        poller.refreshSnapshot();
+
+        // When
+        clock.advance(Duration.ofSeconds(270));
+        poller.refreshSnapshot();
+        clock.advance(Duration.ofSeconds(60));
+
+        // Then
+        assertTrue(poller.getFreshSnapshot().isPresent());
+        assertTrue(poller.getFreshPartitionSnapshot().isPresent());
+        clock.advance(Duration.ofSeconds(61));
+        assertTrue(poller.getFreshPartitionSnapshot().isEmpty());
+    }
+
+    @Test
+    void testFullRefreshWithFailedTopicsDoesNotKeepPartitionsFresh() {
+        // Given
+        var poller = new ClusterSnapshotPoller(kafkaStatusViewer, true, 60_000L, 90_000L, 100, clock);
+        when(kafkaStatusViewer.listTopicsAsync()).thenReturn(CompletableFuture.completedFuture(Set.of("topic1")));
+        when(kafkaStatusViewer.describeTopicsInBatchesAsync(anyCollection())).thenReturn(
+                CompletableFuture.completedFuture(new KafkaTopicDescriptionsResultDto(List.of(
+                        new KafkaTopicDescriptionDto("topic1", false, List.of(), "topic1-id")), Map.of())),
+                CompletableFuture.completedFuture(new KafkaTopicDescriptionsResultDto(List.of(),
+                        Map.of("topic1", "timeout"))));
+        poller.refreshSnapshot();
+        clock.advance(Duration.ofSeconds(120));
+
+        // When
+        poller.refreshSnapshot();
+        clock.advance(Duration.ofSeconds(60));
+
+        // Then
+        assertTrue(poller.getFreshSnapshot().isPresent());
+        assertTrue(poller.getFreshPartitionSnapshot().isEmpty());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2026-05-01T10:00:00Z");
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}